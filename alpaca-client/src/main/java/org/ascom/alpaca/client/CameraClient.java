@@ -1,27 +1,33 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Camera;
-import org.ascom.alpaca.client.impl.ImageBytesConverterFactory;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
 import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.CameraState;
 import org.ascom.alpaca.model.DeviceDescriptor;
+import org.ascom.alpaca.model.FlatImageArray;
 import org.ascom.alpaca.model.ImageArray;
 import org.ascom.alpaca.model.SensorType;
 import org.ascom.alpaca.response.*;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with Alpaca Camera devices.
  */
 @SuppressWarnings("unused")
 public class CameraClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties(
+            "getBayerOffsetX", "getBayerOffsetY", "getCameraXSize", "getCameraYSize", "getExposureMax",
+            "getExposureMin", "getExposureResolution", "getGainMax", "getGainMin", "getGains", "getMaxBinX",
+            "getMaxBinY", "getOffsetMax", "getOffsetMin", "getOffsets", "getPixelSizeX", "getPixelSizeY",
+            "getReadoutModes", "getSensorName", "getSensorType");
     private static final Logger log = Logger.getLogger(CameraClient.class);
     private Camera client = null;
 
@@ -36,13 +42,7 @@ public class CameraClient extends CommonClient {
     private Camera getClient() {
         if (client == null) {
             try {
-                JacksonConverterFactory jacksonConverterFactory = JacksonConverterFactory.create();
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(getServerAddress().toURL())
-                        .addConverterFactory(ImageBytesConverterFactory.create(jacksonConverterFactory))
-                        .addConverterFactory(jacksonConverterFactory)
-                        .build();
-                client = retrofit.create(Camera.class);
+                client = ClientTransport.create(getServerAddress().toString(), Camera.class);
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
                 throw new RuntimeException("Cannot build a client for Camera - " + e.getMessage());
@@ -51,6 +51,11 @@ public class CameraClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Returns the X offset of the Bayer matrix.
      *
@@ -60,7 +65,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BayerOffsetX">A full description of this member's behavior is provided here</a>
      */
     public int getBayerOffsetX() {
-        IntResponse response = call(getClient().getBayerOffsetX(getDeviceID(), getClientID(), getTransactionID()), "getBayerOffsetX");
+        IntResponse response = cachedCall(() -> getClient().getBayerOffsetX(getDeviceID(), getClientID(), getTransactionID()), "getBayerOffsetX");
         return response.getValue();
     }
 
@@ -95,7 +100,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BayerOffsetY">A full description of this member's behavior is provided here</a>
      */
     public int getBayerOffsetY() {
-        IntResponse response = call(getClient().getBayerOffsetY(getDeviceID(), getClientID(), getTransactionID()), "getBayerOffsetY");
+        IntResponse response = cachedCall(() -> getClient().getBayerOffsetY(getDeviceID(), getClientID(), getTransactionID()), "getBayerOffsetY");
         return response.getValue();
     }
 
@@ -129,7 +134,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinX">A full description of this member's behavior is provided here</a>
      */
     public int getBinX() {
-        IntResponse response = call(getClient().getBinX(getDeviceID(), getClientID(), getTransactionID()), "getBinX");
+        IntResponse response = cachedCall(() -> getClient().getBinX(getDeviceID(), getClientID(), getTransactionID()), "getBinX");
         return response.getValue();
     }
 
@@ -164,7 +169,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinX">A full description of this member's behavior is provided here</a>
      */
     public void setBinX(int binX) {
-        AlpacaResponse response = call(getClient().setBinX(getDeviceID(), getClientID(), getTransactionID(), binX), "setBinX", binX);
+        AlpacaResponse response = updateCall(getClient().setBinX(getDeviceID(), getClientID(), getTransactionID(), binX), "setBinX", binX);
     }
 
     /**
@@ -177,7 +182,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinX">A full description of this member's behavior is provided here</a>
      */
     public void setBinX(int binX, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setBinX(getDeviceID(), getClientID(), getTransactionID(), binX), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setBinX(getDeviceID(), getClientID(), getTransactionID(), binX), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -198,7 +203,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinY">A full description of this member's behavior is provided here</a>
      */
     public int getBinY() {
-        IntResponse response = call(getClient().getBinY(getDeviceID(), getClientID(), getTransactionID()), "getBinY");
+        IntResponse response = cachedCall(() -> getClient().getBinY(getDeviceID(), getClientID(), getTransactionID()), "getBinY");
         return response.getValue();
     }
 
@@ -233,7 +238,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinY">A full description of this member's behavior is provided here</a>
      */
     public void setBinY(int binY) {
-        AlpacaResponse response = call(getClient().setBinY(getDeviceID(), getClientID(), getTransactionID(), binY), "setBinY", binY);
+        AlpacaResponse response = updateCall(getClient().setBinY(getDeviceID(), getClientID(), getTransactionID(), binY), "setBinY", binY);
     }
 
     /**
@@ -246,7 +251,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.BinY">A full description of this member's behavior is provided here</a>
      */
     public void setBinY(int binY, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setBinY(getDeviceID(), getClientID(), getTransactionID(), binY), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setBinY(getDeviceID(), getClientID(), getTransactionID(), binY), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -268,7 +273,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CameraState">A full description of this member's behavior is provided here</a>
      */
     public CameraState getCameraState() {
-        IntResponse response = call(getClient().getCameraState(getDeviceID(), getClientID(), getTransactionID()), "getCameraState");
+        IntResponse response = cachedCall(() -> getClient().getCameraState(getDeviceID(), getClientID(), getTransactionID()), "getCameraState");
         return CameraState.fromState(response.getValue());
     }
 
@@ -302,7 +307,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CameraXSize">A full description of this member's behavior is provided here</a>
      */
     public int getCameraXSize() {
-        IntResponse response = call(getClient().getCameraXSize(getDeviceID(), getClientID(), getTransactionID()), "getCameraXSize");
+        IntResponse response = cachedCall(() -> getClient().getCameraXSize(getDeviceID(), getClientID(), getTransactionID()), "getCameraXSize");
         return response.getValue();
     }
 
@@ -337,7 +342,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CameraYSize">A full description of this member's behavior is provided here</a>
      */
     public int getCameraYSize() {
-        IntResponse response = call(getClient().getCameraYSize(getDeviceID(), getClientID(), getTransactionID()), "getCameraYSize");
+        IntResponse response = cachedCall(() -> getClient().getCameraYSize(getDeviceID(), getClientID(), getTransactionID()), "getCameraYSize");
         return response.getValue();
     }
 
@@ -372,7 +377,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanAbortExposure">A full description of this member's behavior is provided here</a>
      */
     public boolean canAbortExposure() {
-        BooleanResponse response = call(getClient().canAbortExposure(getDeviceID(), getClientID(), getTransactionID()), "canAbortExposure");
+        BooleanResponse response = cachedCall(() -> getClient().canAbortExposure(getDeviceID(), getClientID(), getTransactionID()), "canAbortExposure");
         return response.getValue();
     }
 
@@ -407,7 +412,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanAsymmetricBin">A full description of this member's behavior is provided here</a>
      */
     public boolean canAsymmetricBin() {
-        BooleanResponse response = call(getClient().canAsymmetricBin(getDeviceID(), getClientID(), getTransactionID()), "canAsymmetricBin");
+        BooleanResponse response = cachedCall(() -> getClient().canAsymmetricBin(getDeviceID(), getClientID(), getTransactionID()), "canAsymmetricBin");
         return response.getValue();
     }
 
@@ -442,7 +447,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanFastReadout">A full description of this member's behavior is provided here</a>
      */
     public boolean canFastReadout() {
-        BooleanResponse response = call(getClient().canFastReadout(getDeviceID(), getClientID(), getTransactionID()), "canFastReadout");
+        BooleanResponse response = cachedCall(() -> getClient().canFastReadout(getDeviceID(), getClientID(), getTransactionID()), "canFastReadout");
         return response.getValue();
     }
 
@@ -477,7 +482,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanGetCoolerPower">A full description of this member's behavior is provided here</a>
      */
     public boolean canGetCoolerPower() {
-        BooleanResponse response = call(getClient().canGetCoolerPower(getDeviceID(), getClientID(), getTransactionID()), "canGetCoolerPower");
+        BooleanResponse response = cachedCall(() -> getClient().canGetCoolerPower(getDeviceID(), getClientID(), getTransactionID()), "canGetCoolerPower");
         return response.getValue();
     }
 
@@ -512,7 +517,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanPulseGuide">A full description of this member's behavior is provided here</a>
      */
     public boolean canPulseGuide() {
-        BooleanResponse response = call(getClient().canPulseGuide(getDeviceID(), getClientID(), getTransactionID()), "canPulseGuide");
+        BooleanResponse response = cachedCall(() -> getClient().canPulseGuide(getDeviceID(), getClientID(), getTransactionID()), "canPulseGuide");
         return response.getValue();
     }
 
@@ -547,7 +552,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanSetCCDTemperature">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetCCDTemperature() {
-        BooleanResponse response = call(getClient().canSetCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "canSetCCDTemperature");
+        BooleanResponse response = cachedCall(() -> getClient().canSetCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "canSetCCDTemperature");
         return response.getValue();
     }
 
@@ -582,7 +587,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CanStopExposure">A full description of this member's behavior is provided here</a>
      */
     public boolean canStopExposure() {
-        BooleanResponse response = call(getClient().canStopExposure(getDeviceID(), getClientID(), getTransactionID()), "canStopExposure");
+        BooleanResponse response = cachedCall(() -> getClient().canStopExposure(getDeviceID(), getClientID(), getTransactionID()), "canStopExposure");
         return response.getValue();
     }
 
@@ -617,7 +622,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CCDTemperature">A full description of this member's behavior is provided here</a>
      */
     public double getCCDTemperature() {
-        DoubleResponse response = call(getClient().getCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "getCCDTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "getCCDTemperature");
         return response.getValue();
     }
 
@@ -652,7 +657,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CoolerOn">A full description of this member's behavior is provided here</a>
      */
     public boolean isCoolerOn() {
-        BooleanResponse response = call(getClient().isCoolerOn(getDeviceID(), getClientID(), getTransactionID()), "isCoolerOn");
+        BooleanResponse response = cachedCall(() -> getClient().isCoolerOn(getDeviceID(), getClientID(), getTransactionID()), "isCoolerOn");
         return response.getValue();
     }
 
@@ -687,7 +692,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CoolerOn">A full description of this member's behavior is provided here</a>
      */
     public void setCoolerOn(boolean coolerOn) {
-        AlpacaResponse response = call(getClient().setCoolerOn(getDeviceID(), getClientID(), getTransactionID(), coolerOn), "setCoolerOn", coolerOn);
+        AlpacaResponse response = updateCall(getClient().setCoolerOn(getDeviceID(), getClientID(), getTransactionID(), coolerOn), "setCoolerOn", coolerOn);
     }
 
     /**
@@ -700,7 +705,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CoolerOn">A full description of this member's behavior is provided here</a>
      */
     public void setCoolerOn(boolean coolerOn, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setCoolerOn(getDeviceID(), getClientID(), getTransactionID(), coolerOn), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setCoolerOn(getDeviceID(), getClientID(), getTransactionID(), coolerOn), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -722,7 +727,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.CoolerPower">A full description of this member's behavior is provided here</a>
      */
     public int getCoolerPower() {
-        IntResponse response = call(getClient().getCoolerPower(getDeviceID(), getClientID(), getTransactionID()), "getCoolerPower");
+        IntResponse response = cachedCall(() -> getClient().getCoolerPower(getDeviceID(), getClientID(), getTransactionID()), "getCoolerPower");
         return response.getValue();
     }
 
@@ -757,7 +762,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ElectronsPerADU">A full description of this member's behavior is provided here</a>
      */
     public double getElectronsPerADU() {
-        DoubleResponse response = call(getClient().getElectronsPerADU(getDeviceID(), getClientID(), getTransactionID()), "getElectronsPerADU");
+        DoubleResponse response = cachedCall(() -> getClient().getElectronsPerADU(getDeviceID(), getClientID(), getTransactionID()), "getElectronsPerADU");
         return response.getValue();
     }
 
@@ -792,7 +797,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ExposureMax">A full description of this member's behavior is provided here</a>
      */
     public double getExposureMax() {
-        DoubleResponse response = call(getClient().getExposureMax(getDeviceID(), getClientID(), getTransactionID()), "getExposureMax");
+        DoubleResponse response = cachedCall(() -> getClient().getExposureMax(getDeviceID(), getClientID(), getTransactionID()), "getExposureMax");
         return response.getValue();
     }
 
@@ -827,7 +832,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ExposureMin">A full description of this member's behavior is provided here</a>
      */
     public double getExposureMin() {
-        DoubleResponse response = call(getClient().getExposureMin(getDeviceID(), getClientID(), getTransactionID()), "getExposureMin");
+        DoubleResponse response = cachedCall(() -> getClient().getExposureMin(getDeviceID(), getClientID(), getTransactionID()), "getExposureMin");
         return response.getValue();
     }
 
@@ -862,7 +867,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ExposureResolution">A full description of this member's behavior is provided here</a>
      */
     public double getExposureResolution() {
-        DoubleResponse response = call(getClient().getExposureResolution(getDeviceID(), getClientID(), getTransactionID()), "getExposureResolution");
+        DoubleResponse response = cachedCall(() -> getClient().getExposureResolution(getDeviceID(), getClientID(), getTransactionID()), "getExposureResolution");
         return response.getValue();
     }
 
@@ -897,7 +902,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.FastReadout">A full description of this member's behavior is provided here</a>
      */
     public boolean getFastReadout() {
-        BooleanResponse response = call(getClient().getFastReadout(getDeviceID(), getClientID(), getTransactionID()), "getFastReadout");
+        BooleanResponse response = cachedCall(() -> getClient().getFastReadout(getDeviceID(), getClientID(), getTransactionID()), "getFastReadout");
         return response.getValue();
     }
 
@@ -932,7 +937,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.FastReadout">A full description of this member's behavior is provided here</a>
      */
     public void setFastReadout(boolean fastReadout) {
-        AlpacaResponse response = call(getClient().setFastReadout(getDeviceID(), getClientID(), getTransactionID(), fastReadout), "setFastReadout", fastReadout);
+        AlpacaResponse response = updateCall(getClient().setFastReadout(getDeviceID(), getClientID(), getTransactionID(), fastReadout), "setFastReadout", fastReadout);
     }
 
     /**
@@ -945,7 +950,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.FastReadout">A full description of this member's behavior is provided here</a>
      */
     public void setFastReadout(boolean fastReadout, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setFastReadout(getDeviceID(), getClientID(), getTransactionID(), fastReadout), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setFastReadout(getDeviceID(), getClientID(), getTransactionID(), fastReadout), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -967,7 +972,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.FullWellCapacity">A full description of this member's behavior is provided here</a>
      */
     public double getFullWellCapacity() {
-        DoubleResponse response = call(getClient().getFullWellCapacity(getDeviceID(), getClientID(), getTransactionID()), "getFullWellCapacity");
+        DoubleResponse response = cachedCall(() -> getClient().getFullWellCapacity(getDeviceID(), getClientID(), getTransactionID()), "getFullWellCapacity");
         return response.getValue();
     }
 
@@ -1002,7 +1007,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Gain">A full description of this member's behavior is provided here</a>
      */
     public int getGain() {
-        IntResponse response = call(getClient().getGain(getDeviceID(), getClientID(), getTransactionID()), "getGain");
+        IntResponse response = cachedCall(() -> getClient().getGain(getDeviceID(), getClientID(), getTransactionID()), "getGain");
         return response.getValue();
     }
 
@@ -1037,7 +1042,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Gain">A full description of this member's behavior is provided here</a>
      */
     public void setGain(int gain) {
-        AlpacaResponse response = call(getClient().setGain(getDeviceID(), getClientID(), getTransactionID(), gain), "setGain", gain);
+        AlpacaResponse response = updateCall(getClient().setGain(getDeviceID(), getClientID(), getTransactionID(), gain), "setGain", gain);
     }
 
     /**
@@ -1050,7 +1055,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Gain">A full description of this member's behavior is provided here</a>
      */
     public void setGain(int gain, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setGain(getDeviceID(), getClientID(), getTransactionID(), gain), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setGain(getDeviceID(), getClientID(), getTransactionID(), gain), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1072,7 +1077,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.GainMax">A full description of this member's behavior is provided here</a>
      */
     public int getGainMax() {
-        IntResponse response = call(getClient().getGainMax(getDeviceID(), getClientID(), getTransactionID()), "getGainMax");
+        IntResponse response = cachedCall(() -> getClient().getGainMax(getDeviceID(), getClientID(), getTransactionID()), "getGainMax");
         return response.getValue();
     }
 
@@ -1107,7 +1112,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.GainMin">A full description of this member's behavior is provided here</a>
      */
     public int getGainMin() {
-        IntResponse response = call(getClient().getGainMin(getDeviceID(), getClientID(), getTransactionID()), "getGainMin");
+        IntResponse response = cachedCall(() -> getClient().getGainMin(getDeviceID(), getClientID(), getTransactionID()), "getGainMin");
         return response.getValue();
     }
 
@@ -1142,7 +1147,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Gains">A full description of this member's behavior is provided here</a>
      */
     public List<String> getGains() {
-        ListResponse<String> response = call(getClient().getGains(getDeviceID(), getClientID(), getTransactionID()), "getGains");
+        ListResponse<String> response = cachedCall(() -> getClient().getGains(getDeviceID(), getClientID(), getTransactionID()), "getGains");
         return response.getValue();
     }
 
@@ -1177,7 +1182,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.HasShutter">A full description of this member's behavior is provided here</a>
      */
     public boolean hasShutter() {
-        BooleanResponse response = call(getClient().hasShutter(getDeviceID(), getClientID(), getTransactionID()), "hasShutter");
+        BooleanResponse response = cachedCall(() -> getClient().hasShutter(getDeviceID(), getClientID(), getTransactionID()), "hasShutter");
         return response.getValue();
     }
 
@@ -1212,7 +1217,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.HeatSinkTemperature">A full description of this member's behavior is provided here</a>
      */
     public double getHeatSinkTemperature() {
-        DoubleResponse response = call(getClient().getHeatSinkTemperature(getDeviceID(), getClientID(), getTransactionID()), "getHeatSinkTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getHeatSinkTemperature(getDeviceID(), getClientID(), getTransactionID()), "getHeatSinkTemperature");
         return response.getValue();
     }
 
@@ -1341,6 +1346,50 @@ public class CameraClient extends CommonClient {
         getImageArray("application/imagebytes", callback);
     }
 
+    /**
+     * Returns the exposure pixel values as a {@link FlatImageArray}. It requests the Camera device to use
+     * the ImageBytes mechanism if supported by the device, and decodes the image data directly into a single
+     * buffer that keeps the width of the transmitted elements.  This avoids the per-row allocations and the
+     * memory overhead of an {@code int[][]}, which matters for large images.  Multi-plane (colour) and floating
+     * point images are also supported this way.  If the device does not support
+     * the ImageBytes mechanism, then the JSON encoded ImageArray is converted into a FlatImageArray.
+     *
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ImageArray">A full description of this member's behavior is provided here</a>
+     * @see <a href="https://ascom-standards.org/api/#/Camera%20Specific%20Methods/get_camera__device_number__imagearray">Alpaca specific details is provided here</a>
+     */
+    public FlatImageArray getFlatImageBytes() {
+        FlatImageArrayResponse response = call(getClient().getFlatImageArray("application/imagebytes", getDeviceID(), getClientID(), getTransactionID()), "getFlatImageBytes");
+        return response.getValue();
+    }
+
+    /**
+     * Returns the exposure pixel values as a {@link FlatImageArray}. It requests the Camera device to use
+     * the ImageBytes mechanism if supported by the device, and decodes the image data directly into a single
+     * buffer that keeps the width of the transmitted elements.  If the device does not support the ImageBytes
+     * mechanism, then the JSON encoded ImageArray is converted into a FlatImageArray.
+     *
+     * @param callback Callback to invoke when the operation completes
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ImageArray">A full description of this member's behavior is provided here</a>
+     * @see <a href="https://ascom-standards.org/api/#/Camera%20Specific%20Methods/get_camera__device_number__imagearray">Alpaca specific details is provided here</a>
+     */
+    public void getFlatImageBytes(AlpacaCallback<FlatImageArray> callback) {
+        callAsync(getClient().getFlatImageArray("application/imagebytes", getDeviceID(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+            @Override
+            public void success(FlatImageArrayResponse result) {
+                callback.success(result.getValue());
+            }
+
+            @Override
+            public void error(AlpacaClientError error) {
+                callback.error(error);
+            }
+        }, "getFlatImageBytes");
+    }
+
     /**
      * Indicates that an image is ready to be downloaded
      *
@@ -1385,7 +1434,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.IsPulseGuiding">A full description of this member's behavior is provided here</a>
      */
     public boolean isPulseGuiding() {
-        BooleanResponse response = call(getClient().isPulseGuiding(getDeviceID(), getClientID(), getTransactionID()), "isPulseGuiding");
+        BooleanResponse response = cachedCall(() -> getClient().isPulseGuiding(getDeviceID(), getClientID(), getTransactionID()), "isPulseGuiding");
         return response.getValue();
     }
 
@@ -1420,7 +1469,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.LastExposureDuration">A full description of this member's behavior is provided here</a>
      */
     public double getLastExposureDuration() {
-        DoubleResponse response = call(getClient().getLastExposureDuration(getDeviceID(), getClientID(), getTransactionID()), "getLastExposureDuration");
+        DoubleResponse response = cachedCall(() -> getClient().getLastExposureDuration(getDeviceID(), getClientID(), getTransactionID()), "getLastExposureDuration");
         return response.getValue();
     }
 
@@ -1455,7 +1504,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.LastExposureStartTime">A full description of this member's behavior is provided here</a>
      */
     public String getLastExposureStartTime() {
-        StringResponse response = call(getClient().getLastExposureStartTime(getDeviceID(), getClientID(), getTransactionID()), "getLastExposureStartTime");
+        StringResponse response = cachedCall(() -> getClient().getLastExposureStartTime(getDeviceID(), getClientID(), getTransactionID()), "getLastExposureStartTime");
         return response.getValue();
     }
 
@@ -1490,7 +1539,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.MaxADU">A full description of this member's behavior is provided here</a>
      */
     public int getMaxADU() {
-        IntResponse response = call(getClient().getMaxADU(getDeviceID(), getClientID(), getTransactionID()), "getMaxADU");
+        IntResponse response = cachedCall(() -> getClient().getMaxADU(getDeviceID(), getClientID(), getTransactionID()), "getMaxADU");
         return response.getValue();
     }
 
@@ -1525,7 +1574,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.MaxBinX">A full description of this member's behavior is provided here</a>
      */
     public int getMaxBinX() {
-        IntResponse response = call(getClient().getMaxBinX(getDeviceID(), getClientID(), getTransactionID()), "getMaxBinX");
+        IntResponse response = cachedCall(() -> getClient().getMaxBinX(getDeviceID(), getClientID(), getTransactionID()), "getMaxBinX");
         return response.getValue();
     }
 
@@ -1560,7 +1609,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.MaxBinY">A full description of this member's behavior is provided here</a>
      */
     public int getMaxBinY() {
-        IntResponse response = call(getClient().getMaxBinY(getDeviceID(), getClientID(), getTransactionID()), "getMaxBinY");
+        IntResponse response = cachedCall(() -> getClient().getMaxBinY(getDeviceID(), getClientID(), getTransactionID()), "getMaxBinY");
         return response.getValue();
     }
 
@@ -1595,7 +1644,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumX">A full description of this member's behavior is provided here</a>
      */
     public int getNumX() {
-        IntResponse response = call(getClient().getNumX(getDeviceID(), getClientID(), getTransactionID()), "getNumX");
+        IntResponse response = cachedCall(() -> getClient().getNumX(getDeviceID(), getClientID(), getTransactionID()), "getNumX");
         return response.getValue();
     }
 
@@ -1630,7 +1679,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumX">A full description of this member's behavior is provided here</a>
      */
     public void setNumX(int numX) {
-        AlpacaResponse response = call(getClient().setNumX(getDeviceID(), getClientID(), getTransactionID(), numX), "setNumX", numX);
+        AlpacaResponse response = updateCall(getClient().setNumX(getDeviceID(), getClientID(), getTransactionID(), numX), "setNumX", numX);
     }
 
     /**
@@ -1643,7 +1692,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumX">A full description of this member's behavior is provided here</a>
      */
     public void setNumX(int numX, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setNumX(getDeviceID(), getClientID(), getTransactionID(), numX), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setNumX(getDeviceID(), getClientID(), getTransactionID(), numX), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1665,7 +1714,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumY">A full description of this member's behavior is provided here</a>
      */
     public int getNumY() {
-        IntResponse response = call(getClient().getNumY(getDeviceID(), getClientID(), getTransactionID()), "getNumY");
+        IntResponse response = cachedCall(() -> getClient().getNumY(getDeviceID(), getClientID(), getTransactionID()), "getNumY");
         return response.getValue();
     }
 
@@ -1700,7 +1749,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumY">A full description of this member's behavior is provided here</a>
      */
     public void setNumY(int numY) {
-        AlpacaResponse response = call(getClient().setNumY(getDeviceID(), getClientID(), getTransactionID(), numY), "setNumY", numY);
+        AlpacaResponse response = updateCall(getClient().setNumY(getDeviceID(), getClientID(), getTransactionID(), numY), "setNumY", numY);
     }
 
     /**
@@ -1713,7 +1762,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.NumY">A full description of this member's behavior is provided here</a>
      */
     public void setNumY(int numY, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setNumY(getDeviceID(), getClientID(), getTransactionID(), numY), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setNumY(getDeviceID(), getClientID(), getTransactionID(), numY), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1735,7 +1784,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Offset">A full description of this member's behavior is provided here</a>
      */
     public int getOffset() {
-        IntResponse response = call(getClient().getOffset(getDeviceID(), getClientID(), getTransactionID()), "getOffset");
+        IntResponse response = cachedCall(() -> getClient().getOffset(getDeviceID(), getClientID(), getTransactionID()), "getOffset");
         return response.getValue();
     }
 
@@ -1770,7 +1819,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Offset">A full description of this member's behavior is provided here</a>
      */
     public void setOffset(int offset) {
-        AlpacaResponse response = call(getClient().setOffset(getDeviceID(), getClientID(), getTransactionID(), offset), "setOffset", offset);
+        AlpacaResponse response = updateCall(getClient().setOffset(getDeviceID(), getClientID(), getTransactionID(), offset), "setOffset", offset);
     }
 
     /**
@@ -1783,7 +1832,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Offset">A full description of this member's behavior is provided here</a>
      */
     public void setOffset(int offset, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setOffset(getDeviceID(), getClientID(), getTransactionID(), offset), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setOffset(getDeviceID(), getClientID(), getTransactionID(), offset), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1805,7 +1854,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.OffsetMax">A full description of this member's behavior is provided here</a>
      */
     public int getOffsetMax() {
-        IntResponse response = call(getClient().getOffsetMax(getDeviceID(), getClientID(), getTransactionID()), "getOffsetMax");
+        IntResponse response = cachedCall(() -> getClient().getOffsetMax(getDeviceID(), getClientID(), getTransactionID()), "getOffsetMax");
         return response.getValue();
     }
 
@@ -1840,7 +1889,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.OffsetMin">A full description of this member's behavior is provided here</a>
      */
     public int getOffsetMin() {
-        IntResponse response = call(getClient().getOffsetMin(getDeviceID(), getClientID(), getTransactionID()), "getOffsetMin");
+        IntResponse response = cachedCall(() -> getClient().getOffsetMin(getDeviceID(), getClientID(), getTransactionID()), "getOffsetMin");
         return response.getValue();
     }
 
@@ -1875,7 +1924,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Offsets">A full description of this member's behavior is provided here</a>
      */
     public List<String> getOffsets() {
-        ListResponse<String> response = call(getClient().getOffsets(getDeviceID(), getClientID(), getTransactionID()), "getOffsets");
+        ListResponse<String> response = cachedCall(() -> getClient().getOffsets(getDeviceID(), getClientID(), getTransactionID()), "getOffsets");
         return response.getValue();
     }
 
@@ -1910,7 +1959,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.PercentCompleted">A full description of this member's behavior is provided here</a>
      */
     public int getPercentCompleted() {
-        IntResponse response = call(getClient().getPercentCompleted(getDeviceID(), getClientID(), getTransactionID()), "getPercentCompleted");
+        IntResponse response = cachedCall(() -> getClient().getPercentCompleted(getDeviceID(), getClientID(), getTransactionID()), "getPercentCompleted");
         return response.getValue();
     }
 
@@ -1945,7 +1994,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.PixelSizeX">A full description of this member's behavior is provided here</a>
      */
     public double getPixelSizeX() {
-        DoubleResponse response = call(getClient().getPixelSizeX(getDeviceID(), getClientID(), getTransactionID()), "getPixelSizeX");
+        DoubleResponse response = cachedCall(() -> getClient().getPixelSizeX(getDeviceID(), getClientID(), getTransactionID()), "getPixelSizeX");
         return response.getValue();
     }
 
@@ -1980,7 +2029,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.PixelSizeY">A full description of this member's behavior is provided here</a>
      */
     public double getPixelSizeY() {
-        DoubleResponse response = call(getClient().getPixelSizeY(getDeviceID(), getClientID(), getTransactionID()), "getPixelSizeY");
+        DoubleResponse response = cachedCall(() -> getClient().getPixelSizeY(getDeviceID(), getClientID(), getTransactionID()), "getPixelSizeY");
         return response.getValue();
     }
 
@@ -2015,7 +2064,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ReadoutMode">A full description of this member's behavior is provided here</a>
      */
     public int getReadoutMode() {
-        IntResponse response = call(getClient().getReadoutMode(getDeviceID(), getClientID(), getTransactionID()), "getReadoutMode");
+        IntResponse response = cachedCall(() -> getClient().getReadoutMode(getDeviceID(), getClientID(), getTransactionID()), "getReadoutMode");
         return response.getValue();
     }
 
@@ -2050,7 +2099,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ReadoutMode">A full description of this member's behavior is provided here</a>
      */
     public void setReadoutMode(int readoutMode) {
-        AlpacaResponse response = call(getClient().setReadoutMode(getDeviceID(), getClientID(), getTransactionID(), readoutMode), "setReadoutMode", readoutMode);
+        AlpacaResponse response = updateCall(getClient().setReadoutMode(getDeviceID(), getClientID(), getTransactionID(), readoutMode), "setReadoutMode", readoutMode);
     }
 
     /**
@@ -2063,7 +2112,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ReadoutMode">A full description of this member's behavior is provided here</a>
      */
     public void setReadoutMode(int readoutMode, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setReadoutMode(getDeviceID(), getClientID(), getTransactionID(), readoutMode), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setReadoutMode(getDeviceID(), getClientID(), getTransactionID(), readoutMode), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2085,7 +2134,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.ReadoutModes">A full description of this member's behavior is provided here</a>
      */
     public List<String> getReadoutModes() {
-        ListResponse<String> response = call(getClient().getReadoutModes(getDeviceID(), getClientID(), getTransactionID()), "getReadoutModes");
+        ListResponse<String> response = cachedCall(() -> getClient().getReadoutModes(getDeviceID(), getClientID(), getTransactionID()), "getReadoutModes");
         return response.getValue();
     }
 
@@ -2120,7 +2169,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SensorName">A full description of this member's behavior is provided here</a>
      */
     public String getSensorName() {
-        StringResponse response = call(getClient().getSensorName(getDeviceID(), getClientID(), getTransactionID()), "getSensorName");
+        StringResponse response = cachedCall(() -> getClient().getSensorName(getDeviceID(), getClientID(), getTransactionID()), "getSensorName");
         return response.getValue();
     }
 
@@ -2155,7 +2204,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SensorType">A full description of this member's behavior is provided here</a>
      */
     public SensorType getSensorType() {
-        IntResponse response = call(getClient().getSensorType(getDeviceID(), getClientID(), getTransactionID()), "getSensorType");
+        IntResponse response = cachedCall(() -> getClient().getSensorType(getDeviceID(), getClientID(), getTransactionID()), "getSensorType");
         return SensorType.fromType(response.getValue());
     }
 
@@ -2190,7 +2239,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SetCCDTemperature">A full description of this member's behavior is provided here</a>
      */
     public double getSetCCDTemperature() {
-        DoubleResponse response = call(getClient().getSetCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "getSetCCDTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getSetCCDTemperature(getDeviceID(), getClientID(), getTransactionID()), "getSetCCDTemperature");
         return response.getValue();
     }
 
@@ -2225,7 +2274,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SetCCDTemperature">A full description of this member's behavior is provided here</a>
      */
     public void setCCDTemperature(double setCCDTemperature) {
-        AlpacaResponse response = call(getClient().setCCDTemperature(getDeviceID(), getClientID(), getTransactionID(), setCCDTemperature), "setCCDTemperature", setCCDTemperature);
+        AlpacaResponse response = updateCall(getClient().setCCDTemperature(getDeviceID(), getClientID(), getTransactionID(), setCCDTemperature), "setCCDTemperature", setCCDTemperature);
     }
 
     /**
@@ -2238,7 +2287,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SetCCDTemperature">A full description of this member's behavior is provided here</a>
      */
     public void setCCDTemperature(double setCCDTemperature, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setCCDTemperature(getDeviceID(), getClientID(), getTransactionID(), setCCDTemperature), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setCCDTemperature(getDeviceID(), getClientID(), getTransactionID(), setCCDTemperature), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2260,7 +2309,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartX">A full description of this member's behavior is provided here</a>
      */
     public int getStartX() {
-        IntResponse response = call(getClient().getStartX(getDeviceID(), getClientID(), getTransactionID()), "getStartX");
+        IntResponse response = cachedCall(() -> getClient().getStartX(getDeviceID(), getClientID(), getTransactionID()), "getStartX");
         return response.getValue();
     }
 
@@ -2295,7 +2344,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartX">A full description of this member's behavior is provided here</a>
      */
     public void setStartX(int startX) {
-        AlpacaResponse response = call(getClient().setStartX(getDeviceID(), getClientID(), getTransactionID(), startX), "setStartX", startX);
+        AlpacaResponse response = updateCall(getClient().setStartX(getDeviceID(), getClientID(), getTransactionID(), startX), "setStartX", startX);
     }
 
     /**
@@ -2308,7 +2357,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartX">A full description of this member's behavior is provided here</a>
      */
     public void setStartX(int startX, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setStartX(getDeviceID(), getClientID(), getTransactionID(), startX), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setStartX(getDeviceID(), getClientID(), getTransactionID(), startX), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2330,7 +2379,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartY">A full description of this member's behavior is provided here</a>
      */
     public int getStartY() {
-        IntResponse response = call(getClient().getStartY(getDeviceID(), getClientID(), getTransactionID()), "getStartY");
+        IntResponse response = cachedCall(() -> getClient().getStartY(getDeviceID(), getClientID(), getTransactionID()), "getStartY");
         return response.getValue();
     }
 
@@ -2365,7 +2414,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartY">A full description of this member's behavior is provided here</a>
      */
     public void setStartY(int startY) {
-        AlpacaResponse response = call(getClient().setStartY(getDeviceID(), getClientID(), getTransactionID(), startY), "setStartY", startY);
+        AlpacaResponse response = updateCall(getClient().setStartY(getDeviceID(), getClientID(), getTransactionID(), startY), "setStartY", startY);
     }
 
     /**
@@ -2378,7 +2427,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.StartY">A full description of this member's behavior is provided here</a>
      */
     public void setStartY(int startY, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setStartY(getDeviceID(), getClientID(), getTransactionID(), startY), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setStartY(getDeviceID(), getClientID(), getTransactionID(), startY), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2400,7 +2449,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SubExposureDuration">A full description of this member's behavior is provided here</a>
      */
     public double getSubExposureDuration() {
-        DoubleResponse response = call(getClient().getSubExposureDuration(getDeviceID(), getClientID(), getTransactionID()), "getSubExposureDuration");
+        DoubleResponse response = cachedCall(() -> getClient().getSubExposureDuration(getDeviceID(), getClientID(), getTransactionID()), "getSubExposureDuration");
         return response.getValue();
     }
 
@@ -2435,7 +2484,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SubExposureDuration">A full description of this member's behavior is provided here</a>
      */
     public void setSubExposureDuration(double subExposureDuration) {
-        AlpacaResponse response = call(getClient().setSubExposureDuration(getDeviceID(), getClientID(), getTransactionID(), subExposureDuration), "setSubExposureDuration", subExposureDuration);
+        AlpacaResponse response = updateCall(getClient().setSubExposureDuration(getDeviceID(), getClientID(), getTransactionID(), subExposureDuration), "setSubExposureDuration", subExposureDuration);
     }
 
     /**
@@ -2448,7 +2497,7 @@ public class CameraClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SubExposureDuration">A full description of this member's behavior is provided here</a>
      */
     public void setSubExposureDuration(double subExposureDuration, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSubExposureDuration(getDeviceID(), getClientID(), getTransactionID(), subExposureDuration), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSubExposureDuration(getDeviceID(), getClientID(), getTransactionID(), subExposureDuration), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2600,4 +2649,28 @@ public class CameraClient extends CommonClient {
             }
         }, "stopExposure");
     }
+
+    /**
+     * Waits for the image of an exposure to be ready to download, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the image is ready, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitImageReady(long timeout) {
+        return awaitCompletion("isImageReady", this::isImageReady, ready -> ready, timeout);
+    }
+
+    /**
+     * Waits for the camera to reach a state, such as {@link CameraState#Idle} once an exposure has finished, without
+     * blocking.
+     *
+     * @param state the state to wait for
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the camera is in the state, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<CameraState> awaitCameraState(CameraState state, long timeout) {
+        return awaitCompletion("getCameraState", this::getCameraState, cameraState -> cameraState == state, timeout);
+    }
 }
@@ -1,16 +1,18 @@
 package org.ascom.alpaca.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.model.DeviceType;
 import org.ascom.alpaca.model.ServerInfo;
+import org.ascom.alpaca.response.TransactionIDSequence;
 
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +29,8 @@ public class ClientManager {
     private final String broadcastMessage = "alpacadiscovery1";
     private final int discoveryPort = 32227;
     private final int currentClientID = new Random().nextInt(Integer.MAX_VALUE);
+    // The clients created by the manager share one ClientID, so they also share one transaction ID sequence
+    private final TransactionIDSequence transactionIDs = new TransactionIDSequence();
     private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
     private final Map<AlpacaServerInfo, List<CommonClient>> servers = Collections.synchronizedMap(new HashMap<>());
     private int defaultResponseTimeout = 5; // 5 seconds
@@ -48,6 +52,16 @@ public class ClientManager {
         return instance;
     }
 
+    /**
+     * Sets the executor the CompletableFuture variants of the client calls run on, for all clients including the
+     * ones already discovered.  On Java 21 or later, this can be a virtual thread per task executor so the
+     * blocking calls don't tie up platform threads.
+     * @param executor the executor for asynchronous client calls
+     */
+    public void setExecutor(Executor executor) {
+        ClientTransport.setAsyncExecutor(executor);
+    }
+
     /**
      * The amount of time in seconds the client will wait for responses to the discovery broadcast for Alpaca devices.
      * @return The amount of time in seconds the ClientManager will wait for responses.
@@ -174,8 +188,7 @@ public class ClientManager {
                     InetAddress address = recvPacket.getAddress();
                     byte[] receiveBuf = recvPacket.getData();
 
-                    ObjectMapper mapper = new ObjectMapper();
-                    AlpacaDiscoveryResponse response = mapper.readValue(receiveBuf, AlpacaDiscoveryResponse.class);
+                    AlpacaDiscoveryResponse response = ClientTransport.getObjectMapper().readValue(receiveBuf, AlpacaDiscoveryResponse.class);
 
                     log.info("Received a discovery response from " + address.getHostAddress() + ", port " + response.alpacaPort);
                     int port = response.alpacaPort;
@@ -206,6 +219,7 @@ public class ClientManager {
         try {
             URI uri = new URI("http", null, address.getHostAddress(), port, null, null, null);
             ManagementClient managementClient = new ManagementClient(uri, currentClientID);
+            managementClient.setTransactionIDSequence(transactionIDs);
             List<Integer> versions = managementClient.getApiVersions();
             ServerInfo serverInfo = managementClient.getDescription();
             AlpacaServerInfo server = new AlpacaServerInfo(address, port, serverInfo);
@@ -232,6 +246,7 @@ public class ClientManager {
                     default -> log.warn("Received a client of type " + type + " during discovery from server " + uri + " which is unimplemented");
                  }
                 if (client != null) {
+                    client.setTransactionIDSequence(transactionIDs);
                     clients.add(client);
                 }
             }
@@ -1,26 +1,33 @@
 package org.ascom.alpaca.client;
 
+import okhttp3.HttpUrl;
 import okhttp3.ResponseBody;
 import okhttp3.internal.platform.Platform;
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Common;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
 import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.model.DeviceType;
+import org.ascom.alpaca.model.PropertyValue;
 import org.ascom.alpaca.model.StateValue;
 import org.ascom.alpaca.response.*;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The base client all devices must extend.  All the operations that
@@ -28,11 +35,16 @@ import java.util.Random;
  */
 @SuppressWarnings("unused")
 public class CommonClient {
+    private static final Set<String> commonStaticProperties = Set.of(
+            "getDescription", "getDriverInfo", "getDriverVersion", "getInterfaceVersion", "getName", "getSupportedActions");
     private final DeviceDescriptor deviceDescriptor;
     private final DeviceType deviceType;
     private final int clientID;
     private final URI serverURI;
     private Common client;
+    private volatile PropertyCache propertyCache;
+    private volatile TransactionIDSequence transactionIDs = TransactionIDFactory.getClientSequence();
+    private volatile Executor executor;
 
     public CommonClient(DeviceDescriptor deviceDescriptor, URI serverURI) {
         this(deviceDescriptor, serverURI, new Random().nextInt(Integer.MAX_VALUE));
@@ -48,11 +60,7 @@ public class CommonClient {
     private Common getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverURI.toURL() + "/api/v1/")
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Common.class);
+                client = ClientTransport.create(serverURI.toString() + "/api/v1/", Common.class);
             } catch (Exception e) {
                 client = null;
                 // Should probably be fatal
@@ -202,8 +210,191 @@ public class CommonClient {
     }
 
 
-    static  int getTransactionID() {
-        return TransactionIDFactory.getClientTransactionID();
+    /**
+     * Calls a property getter of the device, returning the cached value of the property if the
+     * property cache is enabled and holds a valid value for it.  The call is only created, and given a
+     * transaction ID, when the device has to be called.
+     */
+    protected <T extends AlpacaResponse> T cachedCall(Supplier<Call<T>> call, String methodName, Object... methodArgs) {
+        PropertyCache cache = propertyCache;
+        if (cache == null) {
+            return call(call.get(), methodName, methodArgs);
+        }
+        return cache.get(methodName, methodArgs, () -> call(call.get(), methodName, methodArgs));
+    }
+
+    /**
+     * Calls a method that changes the state of the device, removing any cached values it changes.
+     */
+    protected <T extends AlpacaResponse> T updateCall(Call<T> call, String methodName, Object... methodArgs) {
+        try {
+            return call(call, methodName, methodArgs);
+        } finally {
+            invalidateCachedProperties(methodName);
+        }
+    }
+
+    /**
+     * Asynchronously calls a method that changes the state of the device, removing any cached values it
+     * changes once the call completes.
+     */
+    protected <T extends AlpacaResponse> void updateCallAsync(Call<T> call, final AlpacaCallback<T> callback, final String methodName, final Object... methodArgs) {
+        invalidateCachedProperties(methodName);
+        callAsync(call, new AlpacaCallback<>() {
+            @Override
+            public void success(T result) {
+                invalidateCachedProperties(methodName);
+                callback.success(result);
+            }
+
+            @Override
+            public void error(AlpacaClientError error) {
+                invalidateCachedProperties(methodName);
+                callback.error(error);
+            }
+        }, methodName, methodArgs);
+    }
+
+    private void invalidateCachedProperties(String methodName) {
+        PropertyCache cache = propertyCache;
+        if (cache != null) {
+            cache.invalidateFor(methodName);
+        }
+    }
+
+    /**
+     * Enables caching of the property values read by this client.  Static properties are cached until the
+     * client connects or disconnects, other properties are only cached once a time to live is set for them
+     * on the returned cache.
+     *
+     * @return the property cache of this client
+     * @see PropertyCache
+     */
+    public synchronized PropertyCache enablePropertyCache() {
+        if (propertyCache == null) {
+            propertyCache = new PropertyCache(getStaticProperties());
+        }
+        return propertyCache;
+    }
+
+    /**
+     * Disables caching of the property values read by this client.
+     */
+    public synchronized void disablePropertyCache() {
+        propertyCache = null;
+    }
+
+    /**
+     * Returns the property cache of this client.
+     * @return the property cache, or null if the cache isn't enabled
+     */
+    public PropertyCache getPropertyCache() {
+        return propertyCache;
+    }
+
+    /**
+     * The names of the properties of the device that don't change while the client is connected.  Clients
+     * override this to add the static properties of their device type.  Capabilities (the Can and Has properties)
+     * are always treated as static.
+     * @return the names of the static properties
+     */
+    protected Set<String> getStaticProperties() {
+        return commonStaticProperties;
+    }
+
+    /**
+     * Builds a set of static property names containing the supplied names and the static properties common
+     * to all devices.
+     */
+    protected static Set<String> staticProperties(String... names) {
+        Set<String> properties = new HashSet<>(commonStaticProperties);
+        properties.addAll(Arrays.asList(names));
+        return Collections.unmodifiableSet(properties);
+    }
+
+    /**
+     * Runs a call of this client asynchronously, for example {@code telescope.async(telescope::getRightAscension)}.
+     * The call runs on the client's executor, and the returned future completes with its result, or with the
+     * exception it throws.  This provides a CompletableFuture variant of every method of the client, which can be
+     * composed with the futures of other calls.
+     *
+     * @param call the call to make
+     * @return a future completed with the result of the call
+     * @param <T> the type of the result
+     */
+    public <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, getExecutor());
+    }
+
+    /**
+     * Runs a call of this client that has no result asynchronously, for example
+     * {@code focuser.asyncRun(() -> focuser.move(1000))}.
+     *
+     * @param call the call to make
+     * @return a future completed when the call has been made
+     */
+    public CompletableFuture<Void> asyncRun(Runnable call) {
+        return CompletableFuture.runAsync(call, getExecutor());
+    }
+
+    /**
+     * Adapts one of the callback based asynchronous methods of a client to a CompletableFuture, for example
+     * {@code CommonClient.future(camera::getImageReady)}.  Unlike {@link #async(Supplier)}, no thread is held
+     * while the call is in progress.  An error reported to the callback completes the future with a
+     * {@link ClientException.CallbackError}.
+     *
+     * @param call the asynchronous method to call with the callback
+     * @return a future completed with the result passed to the callback
+     * @param <T> the type of the result
+     */
+    public static <T> CompletableFuture<T> future(Consumer<AlpacaCallback<T>> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            call.accept(new AlpacaCallback<>() {
+                @Override
+                public void success(T result) {
+                    future.complete(result);
+                }
+
+                @Override
+                public void error(AlpacaClientError error) {
+                    future.completeExceptionally(new ClientException.CallbackError(error));
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * The executor the client's {@link #async(Supplier)} calls run on.
+     * @return the client's executor
+     */
+    public Executor getExecutor() {
+        Executor clientExecutor = executor;
+        return clientExecutor != null ? clientExecutor : ClientTransport.getAsyncExecutor();
+    }
+
+    /**
+     * Sets the executor the client's {@link #async(Supplier)} calls run on.  By default, clients share the executor
+     * of {@link ClientTransport#getAsyncExecutor()}.
+     * @param executor the executor to use, or null to use the shared executor
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    int getTransactionID() {
+        return transactionIDs.next();
+    }
+
+    /**
+     * Sets the sequence the client takes its transaction IDs from.  Clients share the default client
+     * sequence unless they're given one of their own, such as the sequence of the {@link ClientManager} that created them.
+     */
+    void setTransactionIDSequence(TransactionIDSequence transactionIDs) {
+        this.transactionIDs = transactionIDs;
     }
 
     int getClientID() {
@@ -226,21 +417,62 @@ public class CommonClient {
     /**
      * This convenience method waits for the sync connection to complete.  If
      * completion hasn't happened before the timeout (in milliseconds), an
-     * InterruptedException is thrown.
+     * InterruptedException is thrown.  A timeout of 0 or less doesn't wait, but checks once whether the
+     * connection has completed, unlike {@link #awaitConnectionCompletionAsync(long)}, which waits without a timeout.
      *
      * @param timeout the maximum time to wait (in milliseconds)
      * @throws InterruptedException
      */
     public void awaitConnectionCompletion(long timeout) throws InterruptedException {
-        long start = System.currentTimeMillis();
-        while (isConnecting()) {
-            Thread.sleep(200);
-            if (System.currentTimeMillis() - start > timeout) {
+        if (timeout <= 0) {
+            if (isConnecting()) {
+                throw new InterruptedException("Timed out waiting for connection completion");
+            }
+            return;
+        }
+        CompletableFuture<Boolean> completion = awaitConnectionCompletionAsync(timeout);
+        try {
+            completion.get();
+        } catch (InterruptedException e) {
+            completion.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
                 throw new InterruptedException("Timed out waiting for connection completion");
+            } else if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw new ClientException("Failed waiting for connection completion", e.getCause());
         }
     }
 
+    /**
+     * Waits for the sync connection to complete without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the device is no longer connecting, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitConnectionCompletionAsync(long timeout) {
+        return awaitCompletion("isConnecting", this::isConnecting, connecting -> !connecting, timeout);
+    }
+
+    /**
+     * Waits until a property of the device satisfies a condition, such as a focuser no longer moving.  The property
+     * is polled by the shared {@link CompletionWaiter}, without holding a thread, and waits for the same property of
+     * this client share one poll.
+     *
+     * @param name the name of the property, which identifies the poll, such as isMoving
+     * @param read reads the property
+     * @param done tests whether the value read means the operation is complete
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed with the value that satisfied the condition, or with a TimeoutException
+     * @param <T> the type of the property
+     */
+    public <T> CompletableFuture<T> awaitCompletion(String name, Supplier<T> read, Predicate<T> done, long timeout) {
+        return CompletionWaiter.getShared().await(List.of(this, name), read, done, timeout, TimeUnit.MILLISECONDS);
+    }
+
     // The following methods are the actual Alpaca API methods that are implemented in the CommonClient class.
 
     /**
@@ -252,7 +484,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.DeviceState">A full description of this member's behavior is provided here</a>
      */
     public List<StateValue> getDeviceState() {
-        ListResponse<StateValue> response = call(getClient().getDeviceState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDeviceState");
+        ListResponse<StateValue> response = cachedCall(() -> getClient().getDeviceState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDeviceState");
         return response.getValue();
     }
 
@@ -278,6 +510,113 @@ public class CommonClient {
         }, "getDeviceState");
     }
 
+    /**
+     * Subscribes to the changes to the device's state, which the server pushes as they happen.  The returned
+     * subscription keeps its {@link DeviceStateMirror} up to date until it's closed, so the mirror can be read
+     * instead of polling properties such as isSlewing.  This is an extension to the Alpaca API, so is only supported
+     * by Alpaca4J servers.
+     *
+     * @return the subscription, which must be closed once it's no longer needed
+     */
+    public DeviceStateSubscription subscribeDeviceState() {
+        return subscribeDeviceState(new DeviceStateMirror());
+    }
+
+    /**
+     * Subscribes to the changes to the device's state, applying them to the given mirror.
+     *
+     * @param mirror the mirror to keep up to date
+     * @return the subscription, which must be closed once it's no longer needed
+     */
+    public DeviceStateSubscription subscribeDeviceState(DeviceStateMirror mirror) {
+        HttpUrl url = Objects.requireNonNull(HttpUrl.parse(serverURI.toString() + "/api/v1/"))
+                .newBuilder()
+                .addPathSegment(deviceType.getTypeName())
+                .addPathSegment(Integer.toString(getDeviceID()))
+                .addPathSegment("events")
+                .addQueryParameter("ClientID", Integer.toString(clientID))
+                .addQueryParameter("ClientTransactionID", Integer.toString(getTransactionID()))
+                .build();
+        DeviceStateSubscription subscription = new DeviceStateSubscription(url, mirror, deviceType.getTypeName() + " " + getDeviceID());
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Reads several properties of the device in one request, rather than one request per property.  This is an
+     * extension to the Alpaca API, so is only supported by Alpaca4J servers.  Each property is read the same as it
+     * would be on its own, and a property that fails to read carries its error in its {@link PropertyValue}.
+     *
+     * @param names the names of the properties to read, which are the names of their endpoints, such as rightascension
+     * @return the values of the properties, in the order of the names
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     */
+    public List<PropertyValue> getProperties(String... names) {
+        ListResponse<PropertyValue> response = call(getClient().getProperties(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), String.join(",", names)), "getProperties", (Object[]) names);
+        return response.getValue();
+    }
+
+    /**
+     * Reads several properties of the device in one request, rather than one request per property.
+     *
+     * @param callback Callback to invoke when the operation completes
+     * @param names the names of the properties to read, which are the names of their endpoints, such as rightascension
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     */
+    public void getProperties(AlpacaCallback<List<PropertyValue>> callback, String... names) {
+        callAsync(getClient().getProperties(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), String.join(",", names)), new AlpacaCallback<>() {
+            @Override
+            public void success(ListResponse<PropertyValue> response) {
+                callback.success(response.getValue());
+            }
+
+            @Override
+            public void error(AlpacaClientError error) {
+                callback.error(error);
+            }
+        }, "getProperties", (Object[]) names);
+    }
+
+    /**
+     * Reads several properties of the device in one request, and returns their values by name.  If any of the
+     * properties fails to read, the exception it would have thrown if read on its own is thrown.
+     *
+     * @param names the names of the properties to read, such as rightascension
+     * @return the values of the properties by name, in the order of the names
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.AlpacaException The error returned for the first property that failed
+     */
+    public Map<String, Object> getPropertyValues(String... names) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (PropertyValue property : getProperties(names)) {
+            checkProperty(property);
+            values.put(property.name(), property.value());
+        }
+        return values;
+    }
+
+    /**
+     * Returns the path of a property of this device, in the deviceType/deviceNumber/name form used to read properties
+     * of several devices with {@link ManagementClient#getProperties(String...)}.
+     *
+     * @param name the name of the property, such as rightascension
+     * @return the path of the property, such as telescope/0/rightascension
+     */
+    public String getPropertyPath(String name) {
+        return deviceType.getTypeName() + "/" + getDeviceID() + "/" + name.toLowerCase();
+    }
+
+    /**
+     * Throws the exception for the error of a property read by a batch, if the read failed.
+     */
+    static void checkProperty(PropertyValue property) {
+        if (property.errorNumber() != 0) {
+            checkResponse(new AlpacaResponse(0, property.errorNumber(), property.errorMessage()));
+        }
+    }
+
     /**
      * Completion variable for the asynchronous Connect() and Disconnect() methods.
      *
@@ -286,7 +625,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connecting">A full description of this member's behavior is provided here</a>
      */
     public boolean isConnecting() {
-        BooleanResponse response = call(getClient().isConnecting(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "isConnecting");
+        BooleanResponse response = cachedCall(() -> getClient().isConnecting(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "isConnecting");
         return response.getValue();
     }
 
@@ -320,7 +659,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connect">A full description of this member's behavior is provided here</a>
      */
     public void connect() {
-        AlpacaResponse response = call(getClient().connect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "connect");
+        AlpacaResponse response = updateCall(getClient().connect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "connect");
     }
 
     /**
@@ -331,7 +670,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connect">A full description of this member's behavior is provided here</a>
      */
     public void connect(AlpacaCallback<Void> callback) {
-        callAsync(getClient().connect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().connect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse response) {
                 callback.success(null);
@@ -352,7 +691,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Disconnect">A full description of this member's behavior is provided here</a>
      */
     public void disconnect() {
-        AlpacaResponse response = call(getClient().disconnect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "disconnect");
+        AlpacaResponse response = updateCall(getClient().disconnect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "disconnect");
     }
 
     /**
@@ -364,7 +703,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Disconnect">A full description of this member's behavior is provided here</a>
      */
     public void disconnect(AlpacaCallback<Void> callback) {
-        callAsync(getClient().disconnect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().disconnect(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse response) {
                 callback.success(null);
@@ -385,7 +724,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connected">A full description of this member's behavior is provided here</a>
      */
     public boolean getConnectedState() {
-        BooleanResponse response = call(getClient().isConnected(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "isConnected");
+        BooleanResponse response = cachedCall(() -> getClient().isConnected(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "isConnected");
         return response.getValue();
     }
 
@@ -420,7 +759,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connected">A full description of this member's behavior is provided here</a>
      */
     public void setConnectedState(boolean state) {
-        AlpacaResponse response = call(getClient().setConnectedState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), state), "setConnectedState", state);
+        AlpacaResponse response = updateCall(getClient().setConnectedState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), state), "setConnectedState", state);
     }
 
     /**
@@ -433,7 +772,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Connected">A full description of this member's behavior is provided here</a>
      */
     public void setConnectedState(boolean state, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setConnectedState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), state), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setConnectedState(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID(), state), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse response) {
                 callback.success(null);
@@ -455,7 +794,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Description">A full description of this member's behavior is provided here</a>
      */
     public String getDescription() {
-        StringResponse response = call(getClient().getDescription(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDescription");
+        StringResponse response = cachedCall(() -> getClient().getDescription(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDescription");
         return response.getValue();
     }
 
@@ -490,7 +829,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.DriverInfo">A full description of this member's behavior is provided here</a>
      */
     public String getDriverInfo() {
-        StringResponse response = call(getClient().getDriverInfo(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDriverInfo");
+        StringResponse response = cachedCall(() -> getClient().getDriverInfo(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDriverInfo");
         return response.getValue();
     }
 
@@ -524,7 +863,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.DriverVersion">A full description of this member's behavior is provided here</a>
      */
     public String getDriverVersion() {
-        StringResponse response = call(getClient().getDriverVersion(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDriverVersion");
+        StringResponse response = cachedCall(() -> getClient().getDriverVersion(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getDriverVersion");
         return response.getValue();
     }
 
@@ -561,7 +900,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.InterfaceVersion">A full description of this member's behavior is provided here</a>
      */
     public int getInterfaceVersion() {
-        IntResponse response = call(getClient().getInterfaceVersion(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getInterfaceVersion");
+        IntResponse response = cachedCall(() -> getClient().getInterfaceVersion(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getInterfaceVersion");
         return response.getValue();
     }
 
@@ -598,7 +937,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.Name">A full description of this member's behavior is provided here</a>
      */
     public String getName() {
-        StringResponse response = call(getClient().getName(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getName");
+        StringResponse response = cachedCall(() -> getClient().getName(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getName");
         return response.getValue();
     }
 
@@ -633,7 +972,7 @@ public class CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/camera.html#Camera.SupportedActions">A full description of this member's behavior is provided here</a>
      */
     public List<String> getSupportedActions() {
-        ListResponse<String> response = call(getClient().getSupportedActions(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getSupportedActions");
+        ListResponse<String> response = cachedCall(() -> getClient().getSupportedActions(deviceType.getTypeName(), getDeviceID(), clientID, getTransactionID()), "getSupportedActions");
         return response.getValue();
     }
 
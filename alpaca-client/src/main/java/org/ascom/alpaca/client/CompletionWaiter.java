@@ -0,0 +1,187 @@
+package org.ascom.alpaca.client;
+
+import org.ascom.alpaca.client.impl.ClientTransport;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Waits for an operation of a device to complete, such as a slew or an exposure, by polling the property that
+ * reports it, and returns a CompletableFuture completed once it has.
+ *
+ * No thread is held while waiting.  The polls are scheduled by one shared scheduler thread, and each read runs on
+ * the executor of {@link ClientTransport#getAsyncExecutor()}.  The first read is made straight away, and the
+ * interval between reads starts at minInterval and grows by half after each read up to maxInterval, so short
+ * operations are noticed quickly while long ones aren't polled more than needed.  Waits with the same key share one
+ * poll, so several waits for the same telescope to finish slewing only read isSlewing once each time.
+ *
+ * A wait can be given a timeout, after which its future completes with a {@link TimeoutException}, and can be
+ * cancelled by cancelling its future.  A poll stops once none of its waits are left.
+ */
+@SuppressWarnings("unused")
+public final class CompletionWaiter {
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Alpaca Client Completion Waiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final CompletionWaiter shared = new CompletionWaiter(50, 1000);
+
+    private final long minInterval;
+    private final long maxInterval;
+    private final Map<Object, Poll<?>> polls = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a waiter with its own poll intervals.
+     * @param minInterval the interval after the first read, in milliseconds
+     * @param maxInterval the longest interval between reads, in milliseconds
+     */
+    public CompletionWaiter(long minInterval, long maxInterval) {
+        if (minInterval <= 0 || maxInterval < minInterval) {
+            throw new IllegalArgumentException("Poll intervals must be positive, and the maximum can't be less than the minimum");
+        }
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * The waiter used by the clients, polling from every 50ms up to every second.
+     * @return the shared waiter
+     */
+    public static CompletionWaiter getShared() {
+        return shared;
+    }
+
+    private record Waiter<T>(Predicate<T> done, CompletableFuture<T> future) {}
+
+    /**
+     * The reads of one property, shared by the waits for it.
+     */
+    private final class Poll<T> {
+        private final Object key;
+        private final Supplier<T> read;
+        // Guarded by the poll
+        private final List<Waiter<T>> waiters = new ArrayList<>();
+        private long interval = minInterval;
+        private boolean stopped;
+
+        Poll(Object key, Supplier<T> read) {
+            this.key = key;
+            this.read = read;
+        }
+
+        void read() {
+            CompletableFuture.supplyAsync(read, ClientTransport.getAsyncExecutor()).whenComplete(this::check);
+        }
+
+        void check(T value, Throwable error) {
+            long delay;
+            synchronized (this) {
+                Iterator<Waiter<T>> iterator = waiters.iterator();
+                while (iterator.hasNext()) {
+                    Waiter<T> waiter = iterator.next();
+                    if (waiter.future().isDone()) {
+                        // Timed out or cancelled
+                        iterator.remove();
+                    } else if (error != null) {
+                        waiter.future().completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                        iterator.remove();
+                    } else {
+                        try {
+                            if (waiter.done().test(value)) {
+                                waiter.future().complete(value);
+                                iterator.remove();
+                            }
+                        } catch (RuntimeException e) {
+                            waiter.future().completeExceptionally(e);
+                            iterator.remove();
+                        }
+                    }
+                }
+                if (waiters.isEmpty()) {
+                    stopped = true;
+                    polls.remove(key, this);
+                    return;
+                }
+                delay = interval;
+                interval = Math.min(interval + interval / 2, maxInterval);
+            }
+            schedule(delay);
+        }
+
+        void schedule(long delay) {
+            try {
+                scheduler.schedule(this::read, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                check(null, e);
+            }
+        }
+    }
+
+    /**
+     * Waits until a property read from a device satisfies a condition.
+     * @param key identifies the property, and waits with equal keys share one poll, so it should include the client,
+     *            such as {@code List.of(telescope, "isSlewing")}
+     * @param read reads the property
+     * @param done tests whether the value read means the operation is complete
+     * @param timeout how long to wait before the future completes with a {@link TimeoutException}, or 0 to wait
+     *                without a timeout
+     * @param unit the unit of the timeout
+     * @return a future completed with the value that satisfied the condition, or with the exception thrown reading it
+     * @param <T> the type of the property
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> await(Object key, Supplier<T> read, Predicate<T> done, long timeout, TimeUnit unit) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (timeout > 0) {
+            ScheduledFuture<?> timer = scheduler.schedule(
+                    () -> future.completeExceptionally(new TimeoutException("Timed out waiting for " + key)), timeout, unit);
+            future.whenComplete((value, error) -> timer.cancel(false));
+        }
+        Waiter<T> waiter = new Waiter<>(done, future);
+        while (true) {
+            boolean[] created = new boolean[1];
+            Poll<T> poll = (Poll<T>) polls.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return new Poll<>(k, read);
+            });
+            synchronized (poll) {
+                if (poll.stopped) {
+                    // Lost a race with the poll's last wait finishing, so start a new poll
+                    continue;
+                }
+                poll.waiters.add(waiter);
+            }
+            if (created[0]) {
+                poll.read();
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Waits until a condition read from a device is true, such as {@code () -> !telescope.isSlewing()}.
+     * @param key identifies the condition, and waits with equal keys share one poll
+     * @param condition reads the condition
+     * @param timeout how long to wait before the future completes with a {@link TimeoutException}, or 0 to wait
+     *                without a timeout
+     * @param unit the unit of the timeout
+     * @return a future completed once the condition is true, or with the exception thrown reading it
+     */
+    public CompletableFuture<Void> await(Object key, BooleanSupplier condition, long timeout, TimeUnit unit) {
+        CompletableFuture<Boolean> waiting = await(key, condition::getAsBoolean, Boolean::booleanValue, timeout, unit);
+        CompletableFuture<Void> result = waiting.thenApply(done -> null);
+        result.whenComplete((done, error) -> {
+            if (error instanceof CancellationException) {
+                waiting.cancel(false);
+            }
+        });
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.CoverCalibrator;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -12,16 +13,17 @@ import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.BooleanResponse;
 import org.ascom.alpaca.response.IntResponse;
 import org.ascom.alpaca.response.ValueResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with Alpaca CoverCalibrator devices.
  */
 @SuppressWarnings("unused")
 public class CoverCalibratorClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties("getMaxBrightness");
     private static final Logger log = Logger.getLogger(CoverCalibratorClient.class);
     private final URI serverAddress;
     private CoverCalibrator client = null;
@@ -39,11 +41,7 @@ public class CoverCalibratorClient extends CommonClient {
     private CoverCalibrator getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(CoverCalibrator.class);
+                client = ClientTransport.create(serverAddress.toString(), CoverCalibrator.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -53,6 +51,11 @@ public class CoverCalibratorClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Returns the current calibrator brightness
      *
@@ -61,7 +64,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.Brightness">A full description of this member's behavior is provided here</a>
      */
     public int getBrightness() {
-        IntResponse response = call(getClient().getBrightness(getDeviceID(), getClientID(), getTransactionID()), "getBrightness");
+        IntResponse response = cachedCall(() -> getClient().getBrightness(getDeviceID(), getClientID(), getTransactionID()), "getBrightness");
         return response.getValue();
     }
 
@@ -95,7 +98,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.CalibratorChanging">A full description of this member's behavior is provided here</a>
      */
     public boolean isCalibratorChanging() {
-        BooleanResponse response = call(getClient().isCalibratorChanging(getDeviceID(), getClientID(), getTransactionID()), "isCalibratorChanging");
+        BooleanResponse response = cachedCall(() -> getClient().isCalibratorChanging(getDeviceID(), getClientID(), getTransactionID()), "isCalibratorChanging");
         return response.getValue();
     }
 
@@ -129,7 +132,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.CalibratorState">A full description of this member's behavior is provided here</a>
      */
     public CalibratorState getCalibratorState() {
-        ValueResponse<CalibratorState> response = call(getClient().getCalibratorState(getDeviceID(), getClientID(), getTransactionID()), "getCalibratorState");
+        ValueResponse<CalibratorState> response = cachedCall(() -> getClient().getCalibratorState(getDeviceID(), getClientID(), getTransactionID()), "getCalibratorState");
         return response.getValue();
     }
 
@@ -163,7 +166,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.CoverMoving">A full description of this member's behavior is provided here</a>
      */
     public boolean isCoverMoving() {
-        BooleanResponse response = call(getClient().isCoverMoving(getDeviceID(), getClientID(), getTransactionID()), "isCoverMoving");
+        BooleanResponse response = cachedCall(() -> getClient().isCoverMoving(getDeviceID(), getClientID(), getTransactionID()), "isCoverMoving");
         return response.getValue();
     }
 
@@ -197,7 +200,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.CoverState">A full description of this member's behavior is provided here</a>
      */
     public CoverState getCoverState() {
-        ValueResponse<CoverState> response = call(getClient().getCoverState(getDeviceID(), getClientID(), getTransactionID()), "getCoverState");
+        ValueResponse<CoverState> response = cachedCall(() -> getClient().getCoverState(getDeviceID(), getClientID(), getTransactionID()), "getCoverState");
         return response.getValue();
     }
 
@@ -231,7 +234,7 @@ public class CoverCalibratorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/covercalibrator.html#CoverCalibrator.MaxBrightness">A full description of this member's behavior is provided here</a>
      */
     public int getMaxBrightness() {
-        IntResponse response = call(getClient().getMaxBrightness(getDeviceID(), getClientID(), getTransactionID()), "getMaxBrightness");
+        IntResponse response = cachedCall(() -> getClient().getMaxBrightness(getDeviceID(), getClientID(), getTransactionID()), "getMaxBrightness");
         return response.getValue();
     }
 
@@ -423,4 +426,26 @@ public class CoverCalibratorClient extends CommonClient {
             }
         }, "openCover");
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the cover to finish moving, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the cover is no longer moving, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitCoverCompletion(long timeout) {
+        return awaitCompletion("isCoverMoving", this::isCoverMoving, moving -> !moving, timeout);
+    }
+
+    /**
+     * Waits for the calibrator to finish changing its brightness, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the calibrator is no longer changing, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitCalibratorCompletion(long timeout) {
+        return awaitCompletion("isCalibratorChanging", this::isCalibratorChanging, changing -> !changing, timeout);
+    }
+}
@@ -0,0 +1,115 @@
+package org.ascom.alpaca.client;
+
+import org.ascom.alpaca.client.util.Logger;
+import org.ascom.alpaca.model.StateValue;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A local copy of the state of a device, kept up to date by a {@link DeviceStateSubscription}.  Reading a value from
+ * the mirror doesn't make a request to the server, so it can be read as often as needed.
+ *
+ * The state is held in an immutable map that's replaced whenever a change arrives, so readers always see a consistent
+ * state without locking.
+ */
+@SuppressWarnings("unused")
+public class DeviceStateMirror {
+    private static final Logger log = Logger.getLogger(DeviceStateMirror.class);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Map<String, Object> state = Map.of();
+    private volatile long lastUpdate;
+    private volatile boolean streaming;
+
+    /**
+     * A listener that is told when the state of the device changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called when changes to the state of the device arrive.
+         * @param changes the state values that changed
+         */
+        void stateChanged(List<StateValue> changes);
+    }
+
+    /**
+     * Returns a value of the device's state.
+     * @param name the name of the value, such as Slewing
+     * @return the value, or null if the device hasn't reported it
+     */
+    public Object getValue(String name) {
+        return state.get(name);
+    }
+
+    /**
+     * Returns a value of the device's state as the given type.
+     * @param name the name of the value, such as Slewing
+     * @param type the type of the value
+     * @return the value, or null if the device hasn't reported it
+     * @param <T> the type of the value
+     * @throws ClassCastException if the value isn't of the given type
+     */
+    public <T> T getValue(String name, Class<T> type) {
+        return type.cast(state.get(name));
+    }
+
+    /**
+     * Returns all the values of the device's state.
+     * @return the state values, in the order they were first reported
+     */
+    public List<StateValue> getState() {
+        List<StateValue> values = new ArrayList<>();
+        state.forEach((name, value) -> values.add(new StateValue(name, value)));
+        return values;
+    }
+
+    /**
+     * When the last change to the state arrived.
+     * @return the time of the last change in milliseconds since the epoch, or 0 if no state has arrived yet
+     */
+    public long getLastUpdate() {
+        return lastUpdate;
+    }
+
+    /**
+     * Whether the mirror is receiving changes from the server.  While it isn't, such as while its subscription is
+     * reconnecting, its values may be out of date.
+     * @return true if the subscription is connected
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Applies changes to the state.
+     * @param changes the state values that changed
+     */
+    synchronized void apply(List<StateValue> changes) {
+        Map<String, Object> updated = new LinkedHashMap<>(state);
+        for (StateValue change : changes) {
+            updated.put(change.name(), change.value());
+        }
+        state = Collections.unmodifiableMap(updated);
+        lastUpdate = System.currentTimeMillis();
+        for (Listener listener : listeners) {
+            try {
+                listener.stateChanged(changes);
+            } catch (RuntimeException e) {
+                log.warn("Device state listener failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.ascom.alpaca.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import org.ascom.alpaca.client.impl.ClientTransport;
+import org.ascom.alpaca.client.util.Logger;
+import org.ascom.alpaca.model.StateValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A subscription to the changes to the state of a device, streamed by the server as Server-Sent Events.  The changes
+ * are applied to a {@link DeviceStateMirror}, which can be read instead of polling the device.  This is an extension
+ * to the Alpaca API, so is only supported by Alpaca4J servers.
+ *
+ * The events are read on a thread of the subscription's own.  If the connection to the server drops, the
+ * subscription reconnects, waiting longer after each failed attempt up to maxRetryDelay, and the server sends the
+ * whole state of the device again.  The server sends a heartbeat regularly, so a connection that has silently died
+ * is noticed once nothing has arrived for readTimeout.
+ */
+@SuppressWarnings("unused")
+public class DeviceStateSubscription implements Closeable {
+    private static final Logger log = Logger.getLogger(DeviceStateSubscription.class);
+    private static final long readTimeout = TimeUnit.SECONDS.toMillis(60);
+    private static final long minRetryDelay = 500;
+    private static final long maxRetryDelay = TimeUnit.SECONDS.toMillis(30);
+    private static final TypeReference<List<StateValue>> stateType = new TypeReference<>() {};
+    // The reads block until the server sends something, so they're allowed longer than the other calls
+    private static final OkHttpClient httpClient = ClientTransport.getHttpClient().newBuilder()
+            .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+            .build();
+
+    private final HttpUrl url;
+    private final DeviceStateMirror mirror;
+    private final Thread thread;
+    private volatile Call call;
+    private volatile boolean closed;
+
+    DeviceStateSubscription(HttpUrl url, DeviceStateMirror mirror, String name) {
+        this.url = url;
+        this.mirror = mirror;
+        this.thread = new Thread(this::run, "Alpaca Client Events " + name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * The mirror the changes are applied to.
+     * @return the device state mirror
+     */
+    public DeviceStateMirror getMirror() {
+        return mirror;
+    }
+
+    /**
+     * Whether the subscription has been closed.
+     * @return true if closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops receiving changes and closes the connection to the server.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Call current = call;
+        if (current != null) {
+            current.cancel();
+        }
+        thread.interrupt();
+        mirror.setStreaming(false);
+    }
+
+    private void run() {
+        long retryDelay = minRetryDelay;
+        while (!closed) {
+            try {
+                if (stream()) {
+                    retryDelay = minRetryDelay;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (!closed) {
+                    log.warn("Device state events from " + url + " failed: " + e.getMessage());
+                }
+            }
+            mirror.setStreaming(false);
+            if (closed) {
+                break;
+            }
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                break;
+            }
+            retryDelay = Math.min(retryDelay * 2, maxRetryDelay);
+        }
+    }
+
+    /**
+     * Reads events until the stream ends.
+     * @return true if any events were received
+     */
+    private boolean stream() throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Accept", "text/event-stream")
+                .build();
+        call = httpClient.newCall(request);
+        if (closed) {
+            return false;
+        }
+        try (Response response = call.execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                throw new IOException("HTTP " + response.code());
+            }
+            mirror.setStreaming(true);
+            boolean received = false;
+            BufferedSource source = body.source();
+            String event = null;
+            StringBuilder data = new StringBuilder();
+            String line;
+            while (!closed && (line = source.readUtf8Line()) != null) {
+                if (line.isEmpty()) {
+                    // A blank line ends an event
+                    if (data.length() > 0) {
+                        dispatch(event, data.toString());
+                        received = true;
+                    }
+                    event = null;
+                    data.setLength(0);
+                } else if (line.startsWith(":")) {
+                    // A comment, such as the server's heartbeat
+                    continue;
+                } else if (line.startsWith("event:")) {
+                    event = value(line, 6);
+                } else if (line.startsWith("data:")) {
+                    if (data.length() > 0) {
+                        data.append('\n');
+                    }
+                    data.append(value(line, 5));
+                }
+            }
+            return received;
+        }
+    }
+
+    private static String value(String line, int start) {
+        // A single space after the colon isn't part of the value
+        return line.startsWith(" ", start) ? line.substring(start + 1) : line.substring(start);
+    }
+
+    private void dispatch(String event, String data) throws IOException {
+        if (event == null || event.equals("state")) {
+            mirror.apply(ClientTransport.getObjectMapper().readValue(data, stateType));
+        }
+    }
+}
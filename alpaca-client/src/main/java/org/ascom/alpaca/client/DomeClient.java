@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Dome;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -10,10 +11,9 @@ import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.BooleanResponse;
 import org.ascom.alpaca.response.DoubleResponse;
 import org.ascom.alpaca.response.IntResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with ASCOM Dome devices via the ALPACA protocol.
@@ -37,11 +37,7 @@ public class DomeClient extends CommonClient {
     private Dome getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Dome.class);
+                client = ClientTransport.create(serverAddress.toString(), Dome.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -60,7 +56,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.Altitude">A full description of this member's behavior is provided here</a>
      */
     public double getAltitude() {
-        DoubleResponse response = call(getClient().getAltitude(getDeviceID(), getClientID(), getTransactionID()), "getAltitude");
+        DoubleResponse response = cachedCall(() -> getClient().getAltitude(getDeviceID(), getClientID(), getTransactionID()), "getAltitude");
         return response.getValue();
     }
 
@@ -164,7 +160,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.Azimuth">A full description of this member's behavior is provided here</a>
      */
     public double getAzimuth() {
-        DoubleResponse response = call(getClient().getAzimuth(getDeviceID(), getClientID(), getTransactionID()), "getAzimuth");
+        DoubleResponse response = cachedCall(() -> getClient().getAzimuth(getDeviceID(), getClientID(), getTransactionID()), "getAzimuth");
         return response.getValue();
     }
 
@@ -199,7 +195,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanFindHome">A full description of this member's behavior is provided here</a>
      */
     public boolean canFindHome() {
-        BooleanResponse response = call(getClient().canFindHome(getDeviceID(), getClientID(), getTransactionID()), "canFindHome");
+        BooleanResponse response = cachedCall(() -> getClient().canFindHome(getDeviceID(), getClientID(), getTransactionID()), "canFindHome");
         return response.getValue();
     }
 
@@ -234,7 +230,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanPark">A full description of this member's behavior is provided here</a>
      */
     public boolean canPark() {
-        BooleanResponse response = call(getClient().canPark(getDeviceID(), getClientID(), getTransactionID()), "canPark");
+        BooleanResponse response = cachedCall(() -> getClient().canPark(getDeviceID(), getClientID(), getTransactionID()), "canPark");
         return response.getValue();
     }
 
@@ -269,7 +265,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSetAltitude">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetAltitude() {
-        BooleanResponse response = call(getClient().canSetAltitude(getDeviceID(), getClientID(), getTransactionID()), "canSetAltitude");
+        BooleanResponse response = cachedCall(() -> getClient().canSetAltitude(getDeviceID(), getClientID(), getTransactionID()), "canSetAltitude");
         return response.getValue();
     }
 
@@ -304,7 +300,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSetAzimuth">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetAzimuth() {
-        BooleanResponse response = call(getClient().canSetAzimuth(getDeviceID(), getClientID(), getTransactionID()), "canSetAzimuth");
+        BooleanResponse response = cachedCall(() -> getClient().canSetAzimuth(getDeviceID(), getClientID(), getTransactionID()), "canSetAzimuth");
         return response.getValue();
     }
 
@@ -339,7 +335,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSetPark">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetPark() {
-        BooleanResponse response = call(getClient().canSetPark(getDeviceID(), getClientID(), getTransactionID()), "canSetPark");
+        BooleanResponse response = cachedCall(() -> getClient().canSetPark(getDeviceID(), getClientID(), getTransactionID()), "canSetPark");
         return response.getValue();
     }
 
@@ -374,7 +370,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSetShutter">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetShutter() {
-        BooleanResponse response = call(getClient().canSetShutter(getDeviceID(), getClientID(), getTransactionID()), "canSetShutter");
+        BooleanResponse response = cachedCall(() -> getClient().canSetShutter(getDeviceID(), getClientID(), getTransactionID()), "canSetShutter");
         return response.getValue();
     }
 
@@ -409,7 +405,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSlave">A full description of this member's behavior is provided here</a>
      */
     public boolean canSlave() {
-        BooleanResponse response = call(getClient().canSlave(getDeviceID(), getClientID(), getTransactionID()), "canSlave");
+        BooleanResponse response = cachedCall(() -> getClient().canSlave(getDeviceID(), getClientID(), getTransactionID()), "canSlave");
         return response.getValue();
     }
 
@@ -443,7 +439,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.CanSyncAzimuth">A full description of this member's behavior is provided here</a>
      */
     public boolean canSyncAzimuth() {
-        BooleanResponse response = call(getClient().canSyncAzimuth(getDeviceID(), getClientID(), getTransactionID()), "canSyncAzimuth");
+        BooleanResponse response = cachedCall(() -> getClient().canSyncAzimuth(getDeviceID(), getClientID(), getTransactionID()), "canSyncAzimuth");
         return response.getValue();
     }
 
@@ -478,7 +474,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.ShutterStatus">A full description of this member's behavior is provided here</a>
      */
     public int getShutterStatus() {
-        IntResponse response = call(getClient().getShutterStatus(getDeviceID(), getClientID(), getTransactionID()), "getShutterStatus");
+        IntResponse response = cachedCall(() -> getClient().getShutterStatus(getDeviceID(), getClientID(), getTransactionID()), "getShutterStatus");
         return response.getValue();
     }
 
@@ -513,7 +509,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.Slaved">A full description of this member's behavior is provided here</a>
      */
     public boolean isSlaved() {
-        BooleanResponse response = call(getClient().isSlaved(getDeviceID(), getClientID(), getTransactionID()), "isSlaved");
+        BooleanResponse response = cachedCall(() -> getClient().isSlaved(getDeviceID(), getClientID(), getTransactionID()), "isSlaved");
         return response.getValue();
     }
 
@@ -561,7 +557,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.Slaved">A full description of this member's behavior is provided here</a>
      */
     public void setSlaved(boolean slaved, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSlaved(getDeviceID(), getClientID(), getTransactionID(), slaved), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSlaved(getDeviceID(), getClientID(), getTransactionID(), slaved), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -583,7 +579,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.Slewing">A full description of this member's behavior is provided here</a>
      */
     public boolean isSlewing() {
-        BooleanResponse response = call(getClient().isSlewing(getDeviceID(), getClientID(), getTransactionID()), "isSlewing");
+        BooleanResponse response = cachedCall(() -> getClient().isSlewing(getDeviceID(), getClientID(), getTransactionID()), "isSlewing");
         return response.getValue();
     }
 
@@ -794,7 +790,7 @@ public class DomeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/dome.html#Dome.SetPark">A full description of this member's behavior is provided here</a>
      */
     public void setPark(AlpacaCallback<Void> callback) {
-        callAsync(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -905,4 +901,15 @@ public class DomeClient extends CommonClient {
             }
         }, "syncToAzimuth", azimuth);
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the dome to finish slewing, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the dome is no longer slewing, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitSlewCompletion(long timeout) {
+        return awaitCompletion("isSlewing", this::isSlewing, slewing -> !slewing, timeout);
+    }
+}
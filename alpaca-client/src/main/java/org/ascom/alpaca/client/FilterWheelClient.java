@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.FilterWheel;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -9,17 +10,17 @@ import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.IntResponse;
 import org.ascom.alpaca.response.ListResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Client for interacting with ASCOM FilterWheel devices via the ALPACA protocol.
  */
 @SuppressWarnings("unused")
 public class FilterWheelClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties("getFocusOffsets", "getFilterNames");
     private static final Logger log = Logger.getLogger(FilterWheelClient.class);
     private final URI serverAddress;
     private FilterWheel client = null;
@@ -37,11 +38,7 @@ public class FilterWheelClient extends CommonClient {
     private FilterWheel getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(FilterWheel.class);
+                client = ClientTransport.create(serverAddress.toString(), FilterWheel.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -51,6 +48,11 @@ public class FilterWheelClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Returns an integer array of filter focus offsets.  The order is the same as the filter names.
      *
@@ -60,7 +62,7 @@ public class FilterWheelClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/filterwheel.html#FilterWheel.FocusOffsets">A full description of this member's behavior is provided here</a>
      */
     public List<Integer> getFocusOffsets() {
-        ListResponse<Integer> response = call(getClient().getFocusOffsets(getDeviceID(), getClientID(), getTransactionID()), "getFocusOffsets");
+        ListResponse<Integer> response = cachedCall(() -> getClient().getFocusOffsets(getDeviceID(), getClientID(), getTransactionID()), "getFocusOffsets");
         return response.getValue();
     }
 
@@ -95,7 +97,7 @@ public class FilterWheelClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/filterwheel.html#FilterWheel.Names">A full description of this member's behavior is provided here</a>
      */
     public List<String> getFilterNames() {
-        ListResponse<String> response = call(getClient().getFilterNames(getDeviceID(), getClientID(), getTransactionID()), "getFilterNames");
+        ListResponse<String> response = cachedCall(() -> getClient().getFilterNames(getDeviceID(), getClientID(), getTransactionID()), "getFilterNames");
         return response.getValue();
     }
 
@@ -129,7 +131,7 @@ public class FilterWheelClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/filterwheel.html#FilterWheel.Position">A full description of this member's behavior is provided here</a>
      */
     public int getPosition() {
-        IntResponse response = call(getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
+        IntResponse response = cachedCall(() -> getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
         return response.getValue();
     }
 
@@ -164,7 +166,7 @@ public class FilterWheelClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/filterwheel.html#FilterWheel.Position">A full description of this member's behavior is provided here</a>
      */
     public void setPosition(int position) {
-        AlpacaResponse response = call(getClient().setPosition(getDeviceID(), getClientID(), getTransactionID(), position), "setPosition", position);
+        AlpacaResponse response = updateCall(getClient().setPosition(getDeviceID(), getClientID(), getTransactionID(), position), "setPosition", position);
     }
 
     /**
@@ -177,7 +179,7 @@ public class FilterWheelClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/filterwheel.html#FilterWheel.Position">A full description of this member's behavior is provided here</a>
      */
     public void setPosition(int position, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setPosition(getDeviceID(), getClientID(), getTransactionID(), position), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setPosition(getDeviceID(), getClientID(), getTransactionID(), position), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
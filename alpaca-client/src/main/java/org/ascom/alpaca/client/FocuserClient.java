@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Focuser;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -9,16 +10,17 @@ import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.BooleanResponse;
 import org.ascom.alpaca.response.DoubleResponse;
 import org.ascom.alpaca.response.IntResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with ASCOM Focuser devices via the ALPACA protocol.
  */
 @SuppressWarnings("unused")
 public class FocuserClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties("getMaxIncrement", "getMaxStep", "getStepSize");
     private final URI serverAddress;
     private Focuser client = null;
 
@@ -35,11 +37,7 @@ public class FocuserClient extends CommonClient {
     private Focuser getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Focuser.class);
+                client = ClientTransport.create(serverAddress.toString(), Focuser.class);
                 return client;
             } catch (Exception e) {
                 logWarn("Problem constructing the client", e);
@@ -49,6 +47,11 @@ public class FocuserClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Indicates whether the focuser is capable of absolute position.
      *
@@ -57,7 +60,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.Absolute">A full description of this member's behavior is provided here</a>
      */
     public boolean canAbsoluteFocus() {
-        BooleanResponse response = call(getClient().canAbsoluteFocus(getDeviceID(), getClientID(), getTransactionID()), "canAbsoluteFocus");
+        BooleanResponse response = cachedCall(() -> getClient().canAbsoluteFocus(getDeviceID(), getClientID(), getTransactionID()), "canAbsoluteFocus");
         return response.getValue();
     }
 
@@ -91,7 +94,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.IsMoving">A full description of this member's behavior is provided here</a>
      */
     public boolean isMoving() {
-        BooleanResponse response = call(getClient().isMoving(getDeviceID(), getClientID(), getTransactionID()), "isMoving");
+        BooleanResponse response = cachedCall(() -> getClient().isMoving(getDeviceID(), getClientID(), getTransactionID()), "isMoving");
         return response.getValue();
     }
 
@@ -125,7 +128,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.MaxIncrement">A full description of this member's behavior is provided here</a>
      */
     public int getMaxIncrement() {
-        IntResponse response = call(getClient().getMaxIncrement(getDeviceID(), getClientID(), getTransactionID()), "getMaxIncrement");
+        IntResponse response = cachedCall(() -> getClient().getMaxIncrement(getDeviceID(), getClientID(), getTransactionID()), "getMaxIncrement");
         return response.getValue();
     }
 
@@ -159,7 +162,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.MaxStep">A full description of this member's behavior is provided here</a>
      */
     public int getMaxStep() {
-        IntResponse response = call(getClient().getMaxStep(getDeviceID(), getClientID(), getTransactionID()), "getMaxStep");
+        IntResponse response = cachedCall(() -> getClient().getMaxStep(getDeviceID(), getClientID(), getTransactionID()), "getMaxStep");
         return response.getValue();
     }
 
@@ -194,7 +197,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.Position">A full description of this member's behavior is provided here</a>
      */
     public int getPosition() {
-        IntResponse response = call(getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
+        IntResponse response = cachedCall(() -> getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
         return response.getValue();
     }
 
@@ -229,7 +232,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.StepSize">A full description of this member's behavior is provided here</a>
      */
     public double getStepSize() {
-        DoubleResponse response = call(getClient().getStepSize(getDeviceID(), getClientID(), getTransactionID()), "getStepSize");
+        DoubleResponse response = cachedCall(() -> getClient().getStepSize(getDeviceID(), getClientID(), getTransactionID()), "getStepSize");
         return response.getValue();
     }
 
@@ -264,7 +267,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.TempComp">A full description of this member's behavior is provided here</a>
      */
     public boolean isTemperatureCompensating() {
-        BooleanResponse response = call(getClient().isTemperatureCompensating(getDeviceID(), getClientID(), getTransactionID()), "isTemperatureCompensating");
+        BooleanResponse response = cachedCall(() -> getClient().isTemperatureCompensating(getDeviceID(), getClientID(), getTransactionID()), "isTemperatureCompensating");
         return response.getValue();
     }
 
@@ -299,7 +302,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.TempComp">A full description of this member's behavior is provided here</a>
      */
     public void setTemperatureCompensation(boolean tempCompState) {
-        AlpacaResponse response = call(getClient().setTemperatureCompensation(getDeviceID(), tempCompState, getClientID(), getTransactionID()), "setTemperatureCompensation", tempCompState);
+        AlpacaResponse response = updateCall(getClient().setTemperatureCompensation(getDeviceID(), tempCompState, getClientID(), getTransactionID()), "setTemperatureCompensation", tempCompState);
     }
 
     /**
@@ -312,7 +315,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.TempComp">A full description of this member's behavior is provided here</a>
      */
     public void setTemperatureCompensation(boolean tempCompState, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setTemperatureCompensation(getDeviceID(), tempCompState, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setTemperatureCompensation(getDeviceID(), tempCompState, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -334,7 +337,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.TempCompAvailable">A full description of this member's behavior is provided here</a>
      */
     public boolean hasTemperatureCompensation() {
-        BooleanResponse response = call(getClient().hasTemperatureCompensation(getDeviceID(), getClientID(), getTransactionID()), "hasTemperatureCompensation");
+        BooleanResponse response = cachedCall(() -> getClient().hasTemperatureCompensation(getDeviceID(), getClientID(), getTransactionID()), "hasTemperatureCompensation");
         return response.getValue();
     }
 
@@ -369,7 +372,7 @@ public class FocuserClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/focuser.html#Focuser.Temperature">A full description of this member's behavior is provided here</a>
      */
     public double getTemperature() {
-        DoubleResponse response = call(getClient().getTemperature(getDeviceID(), getClientID(), getTransactionID()), "getTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getTemperature(getDeviceID(), getClientID(), getTransactionID()), "getTemperature");
         return response.getValue();
     }
 
@@ -462,4 +465,15 @@ public class FocuserClient extends CommonClient {
             }
         }, "moveToPosition", position);
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the focuser to finish moving, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the focuser is no longer moving, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitMoveCompletion(long timeout) {
+        return awaitCompletion("isMoving", this::isMoving, moving -> !moving, timeout);
+    }
+}
@@ -1,19 +1,24 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
+import org.ascom.alpaca.client.impl.api.Common;
 import org.ascom.alpaca.client.impl.api.Management;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
 import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.DeviceDescriptor;
+import org.ascom.alpaca.model.PropertyValue;
 import org.ascom.alpaca.model.ServerInfo;
 import org.ascom.alpaca.response.ListResponse;
 import org.ascom.alpaca.response.ServerInfoResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
+import org.ascom.alpaca.response.TransactionIDFactory;
+import org.ascom.alpaca.response.TransactionIDSequence;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -26,6 +31,8 @@ public class ManagementClient {
     private final URI serverAddress;
     private final int clientID;
     private Management client = null;
+    private Common deviceClient = null;
+    private volatile TransactionIDSequence transactionIDs = TransactionIDFactory.getClientSequence();
 
     public ManagementClient(URI serverURI) {
         this(serverURI, new Random().nextInt(Integer.MAX_VALUE));
@@ -39,11 +46,7 @@ public class ManagementClient {
     private synchronized Management getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toURL() + "/management/")
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Management.class);
+                client = ClientTransport.create(serverAddress.toString() + "/management/", Management.class);
                 return client;
             } catch (Throwable e) {
                 log.warn("Problem constructing the client", e);
@@ -53,8 +56,24 @@ public class ManagementClient {
         return client;
     }
 
+    private synchronized Common getDeviceClient() {
+        if (deviceClient == null) {
+            try {
+                deviceClient = ClientTransport.create(serverAddress.toString() + "/api/v1/", Common.class);
+            } catch (Throwable e) {
+                log.warn("Problem constructing the client", e);
+                throw new RuntimeException("Cannot build a client for the devices - " + e.getMessage());
+            }
+        }
+        return deviceClient;
+    }
+
     private int getTransactionID() {
-        return CommonClient.getTransactionID();
+        return transactionIDs.next();
+    }
+
+    void setTransactionIDSequence(TransactionIDSequence transactionIDs) {
+        this.transactionIDs = transactionIDs;
     }
 
     public int getClientID() {
@@ -159,4 +178,61 @@ public class ManagementClient {
             }
         }, "getDescription");
     }
+
+    /**
+     * Reads properties of any of the server's devices in one request.  This is an extension to the Alpaca API, so is
+     * only supported by Alpaca4J servers.  Each property is read the same as it would be on its own, and a property
+     * that fails to read carries its error in its {@link PropertyValue}.  The client must be connected to each
+     * device with this client's ID, such as with a device client created with {@link #getClientID()}.
+     *
+     * @param properties the properties to read, each as deviceType/deviceNumber/name, such as telescope/0/rightascension
+     * @return the values of the properties, in the order they were given
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     * @see CommonClient#getPropertyPath(String)
+     */
+    public List<PropertyValue> getProperties(String... properties) {
+        ListResponse<PropertyValue> response = CommonClient.call(getDeviceClient().getProperties(getClientID(), getTransactionID(), String.join(",", properties)), "getProperties", (Object[]) properties);
+        return response.getValue();
+    }
+
+    /**
+     * Reads properties of any of the server's devices in one request.
+     *
+     * @param callback Callback to invoke when the operation completes
+     * @param properties the properties to read, each as deviceType/deviceNumber/name, such as telescope/0/rightascension
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     */
+    public void getProperties(AlpacaCallback<List<PropertyValue>> callback, String... properties) {
+        CommonClient.callAsync(getDeviceClient().getProperties(getClientID(), getTransactionID(), String.join(",", properties)), new AlpacaCallback<>() {
+            @Override
+            public void success(ListResponse<PropertyValue> result) {
+                callback.success(result.getValue());
+            }
+
+            @Override
+            public void error(AlpacaClientError e) {
+                callback.error(e);
+            }
+        }, "getProperties", (Object[]) properties);
+    }
+
+    /**
+     * Reads properties of any of the server's devices in one request, and returns their values by path.  If any of
+     * the properties fails to read, the exception it would have thrown if read on its own is thrown.
+     *
+     * @param properties the properties to read, each as deviceType/deviceNumber/name, such as telescope/0/rightascension
+     * @return the values of the properties by deviceType/deviceNumber/name, in the order they were given
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.AlpacaException The error returned for the first property that failed
+     */
+    public Map<String, Object> getPropertyValues(String... properties) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (PropertyValue property : getProperties(properties)) {
+            CommonClient.checkProperty(property);
+            values.put(property.deviceType().getTypeName() + "/" + property.deviceNumber() + "/" + property.name(), property.value());
+        }
+        return values;
+    }
 }
@@ -1,25 +1,31 @@
 package org.ascom.alpaca.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.ObservingConditions;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
 import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.DeviceDescriptor;
+import org.ascom.alpaca.model.SensorAggregates;
 import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.DoubleResponse;
 import org.ascom.alpaca.response.StringResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Client for interacting with an ASCOM Alpaca ObservingConditions device.
  */
 @SuppressWarnings("unused")
 public class ObservingConditionsClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties("getSensorDescription");
     private static final Logger log = Logger.getLogger(ObservingConditionsClient.class);
+    private static final TypeReference<List<SensorAggregates>> aggregatesType = new TypeReference<>() {};
     private final URI serverAddress;
     private ObservingConditions client = null;
 
@@ -36,11 +42,7 @@ public class ObservingConditionsClient extends CommonClient {
     private ObservingConditions getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(ObservingConditions.class);
+                client = ClientTransport.create(serverAddress.toString(), ObservingConditions.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -50,6 +52,11 @@ public class ObservingConditionsClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Returns the time period over which observations will be averaged
      *
@@ -58,7 +65,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.AveragePeriod">A full description of this member's behavior is provided here</a>
      */
     public double getAveragePeriod() {
-        DoubleResponse response = call(getClient().getAveragePeriod(getDeviceID(), getClientID(), getTransactionID()), "getAveragePeriod");
+        DoubleResponse response = cachedCall(() -> getClient().getAveragePeriod(getDeviceID(), getClientID(), getTransactionID()), "getAveragePeriod");
         return response.getValue();
     }
 
@@ -92,7 +99,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.AveragePeriod">A full description of this member's behavior is provided here</a>
      */
     public void setAveragePeriod(double averagePeriod) {
-        AlpacaResponse response = call(getClient().setAveragePeriod(getDeviceID(), averagePeriod, getClientID(), getTransactionID()), "setAveragePeriod", averagePeriod);
+        AlpacaResponse response = updateCall(getClient().setAveragePeriod(getDeviceID(), averagePeriod, getClientID(), getTransactionID()), "setAveragePeriod", averagePeriod);
     }
 
     /**
@@ -105,7 +112,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.AveragePeriod">A full description of this member's behavior is provided here</a>
      */
     public void setAveragePeriod(double averagePeriod, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setAveragePeriod(getDeviceID(), averagePeriod, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setAveragePeriod(getDeviceID(), averagePeriod, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -126,7 +133,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.CloudCover">A full description of this member's behavior is provided here</a>
      */
     public double getCloudCover() {
-        DoubleResponse response = call(getClient().getCloudCover(getDeviceID(), getClientID(), getTransactionID()), "getCloudCover");
+        DoubleResponse response = cachedCall(() -> getClient().getCloudCover(getDeviceID(), getClientID(), getTransactionID()), "getCloudCover");
         return response.getValue();
     }
 
@@ -160,7 +167,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.DewPoint">A full description of this member's behavior is provided here</a>
      */
     public double getDewPoint() {
-        DoubleResponse response = call(getClient().getDewPoint(getDeviceID(), getClientID(), getTransactionID()), "getDewPoint");
+        DoubleResponse response = cachedCall(() -> getClient().getDewPoint(getDeviceID(), getClientID(), getTransactionID()), "getDewPoint");
         return response.getValue();
     }
 
@@ -194,7 +201,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.Humidity">A full description of this member's behavior is provided here</a>
      */
     public double getHumidity() {
-        DoubleResponse response = call(getClient().getHumidity(getDeviceID(), getClientID(), getTransactionID()), "getHumidity");
+        DoubleResponse response = cachedCall(() -> getClient().getHumidity(getDeviceID(), getClientID(), getTransactionID()), "getHumidity");
         return response.getValue();
     }
 
@@ -228,7 +235,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.Pressure">A full description of this member's behavior is provided here</a>
      */
     public double getPressure() {
-        DoubleResponse response = call(getClient().getPressure(getDeviceID(), getClientID(), getTransactionID()), "getPressure");
+        DoubleResponse response = cachedCall(() -> getClient().getPressure(getDeviceID(), getClientID(), getTransactionID()), "getPressure");
         return response.getValue();
     }
 
@@ -262,7 +269,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.RainRate">A full description of this member's behavior is provided here</a>
      */
     public double getRainRate() {
-        DoubleResponse response = call(getClient().getRainRate(getDeviceID(), getClientID(), getTransactionID()), "getRainRate");
+        DoubleResponse response = cachedCall(() -> getClient().getRainRate(getDeviceID(), getClientID(), getTransactionID()), "getRainRate");
         return response.getValue();
     }
 
@@ -296,7 +303,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.SkyBrightness">A full description of this member's behavior is provided here</a>
      */
     public double getSkyBrightness() {
-        DoubleResponse response = call(getClient().getSkyBrightness(getDeviceID(), getClientID(), getTransactionID()), "getSkyBrightness");
+        DoubleResponse response = cachedCall(() -> getClient().getSkyBrightness(getDeviceID(), getClientID(), getTransactionID()), "getSkyBrightness");
         return response.getValue();
     }
 
@@ -330,7 +337,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.SkyQuality">A full description of this member's behavior is provided here</a>
      */
     public double getSkyQuality() {
-        DoubleResponse response = call(getClient().getSkyQuality(getDeviceID(), getClientID(), getTransactionID()), "getSkyQuality");
+        DoubleResponse response = cachedCall(() -> getClient().getSkyQuality(getDeviceID(), getClientID(), getTransactionID()), "getSkyQuality");
         return response.getValue();
     }
 
@@ -364,7 +371,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.SkyTemperature">A full description of this member's behavior is provided here</a>
      */
     public double getSkyTemperature() {
-        DoubleResponse response = call(getClient().getSkyTemperature(getDeviceID(), getClientID(), getTransactionID()), "getSkyTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getSkyTemperature(getDeviceID(), getClientID(), getTransactionID()), "getSkyTemperature");
         return response.getValue();
     }
 
@@ -398,7 +405,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.StarFWHM">A full description of this member's behavior is provided here</a>
      */
     public double getStarFWHM() {
-        DoubleResponse response = call(getClient().getStarFWHM(getDeviceID(), getClientID(), getTransactionID()), "getStarFWHM");
+        DoubleResponse response = cachedCall(() -> getClient().getStarFWHM(getDeviceID(), getClientID(), getTransactionID()), "getStarFWHM");
         return response.getValue();
     }
 
@@ -432,7 +439,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.Temperature">A full description of this member's behavior is provided here</a>
      */
     public double getTemperature() {
-        DoubleResponse response = call(getClient().getTemperature(getDeviceID(), getClientID(), getTransactionID()), "getTemperature");
+        DoubleResponse response = cachedCall(() -> getClient().getTemperature(getDeviceID(), getClientID(), getTransactionID()), "getTemperature");
         return response.getValue();
     }
 
@@ -466,7 +473,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.WindDirection">A full description of this member's behavior is provided here</a>
      */
     public double getWindDirection() {
-        DoubleResponse response = call(getClient().getWindDirection(getDeviceID(), getClientID(), getTransactionID()), "getWindDirection");
+        DoubleResponse response = cachedCall(() -> getClient().getWindDirection(getDeviceID(), getClientID(), getTransactionID()), "getWindDirection");
         return response.getValue();
     }
 
@@ -500,7 +507,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.WindGust">A full description of this member's behavior is provided here</a>
      */
     public double getWindGust() {
-        DoubleResponse response = call(getClient().getWindGust(getDeviceID(), getClientID(), getTransactionID()), "getWindGust");
+        DoubleResponse response = cachedCall(() -> getClient().getWindGust(getDeviceID(), getClientID(), getTransactionID()), "getWindGust");
         return response.getValue();
     }
 
@@ -534,7 +541,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.WindSpeed">A full description of this member's behavior is provided here</a>
      */
     public double getWindSpeed() {
-        DoubleResponse response = call(getClient().getWindSpeed(getDeviceID(), getClientID(), getTransactionID()), "getWindSpeed");
+        DoubleResponse response = cachedCall(() -> getClient().getWindSpeed(getDeviceID(), getClientID(), getTransactionID()), "getWindSpeed");
         return response.getValue();
     }
 
@@ -601,7 +608,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.SensorDescription">A full description of this member's behavior is provided here</a>
      */
     public String getSensorDescription(String sensorName) {
-        StringResponse response = call(getClient().getSensorDescription(getDeviceID(), sensorName, getClientID(), getTransactionID()), "getSensorDescription", sensorName);
+        StringResponse response = cachedCall(() -> getClient().getSensorDescription(getDeviceID(), sensorName, getClientID(), getTransactionID()), "getSensorDescription", sensorName);
         return response.getValue();
     }
 
@@ -635,7 +642,7 @@ public class ObservingConditionsClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/observingconditions.html#ObservingConditions.TimeSinceLastUpdate">A full description of this member's behavior is provided here</a>
      */
     public double getTimeSinceLastUpdate(String sensorName) {
-        DoubleResponse response = call(getClient().getTimeSinceLastUpdate(getDeviceID(), sensorName, getClientID(), getTransactionID()), "getTimeSinceLastUpdate", sensorName);
+        DoubleResponse response = cachedCall(() -> getClient().getTimeSinceLastUpdate(getDeviceID(), sensorName, getClientID(), getTransactionID()), "getTimeSinceLastUpdate", sensorName);
         return response.getValue();
     }
 
@@ -660,4 +667,40 @@ public class ObservingConditionsClient extends CommonClient {
             }
         }, "getTimeSinceLastUpdate", sensorName);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns statistics of the sensors' measurements over the average period, such as the peak wind gust or the
+     * standard deviation of the sky temperature, using the device's {@value SensorAggregates#ACTION} action.  This is
+     * an extension supported by devices that list the action in their supported actions.
+     *
+     * @param sensorNames the names of the sensors, such as windspeed, or none for all the sensors with measurements
+     * @return the statistics of each sensor
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     */
+    public List<SensorAggregates> getAggregates(String... sensorNames) {
+        String json = executeAction(SensorAggregates.ACTION, String.join(",", sensorNames));
+        try {
+            return ClientTransport.getObjectMapper().readValue(json, aggregatesType);
+        } catch (JsonProcessingException e) {
+            throw new ClientException("Unable to decode the sensor aggregates - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns statistics of one sensor's measurements over the average period.
+     *
+     * @param sensorName the name of the sensor, such as windspeed
+     * @return the statistics of the sensor
+     * @throws ClientException If there is a problem communicating with the device
+     * @throws org.ascom.alpaca.response.ServerException If there is an error returned by the device
+     * @see #getAggregates(String...)
+     */
+    public SensorAggregates getSensorAggregates(String sensorName) {
+        List<SensorAggregates> aggregates = getAggregates(sensorName);
+        if (aggregates.isEmpty()) {
+            throw new ClientException("No aggregates returned for sensor " + sensorName);
+        }
+        return aggregates.get(0);
+    }
+}
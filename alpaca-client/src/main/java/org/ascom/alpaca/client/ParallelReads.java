@@ -0,0 +1,108 @@
+package org.ascom.alpaca.client;
+
+import org.ascom.alpaca.client.impl.ClientTransport;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Makes a set of client calls at the same time and collects their results.  Reading many properties one after
+ * the other takes the sum of their round trips to the servers, while reading them in parallel takes about as
+ * long as the slowest one.
+ *
+ * <pre>{@code
+ * ParallelReads<String> reads = new ParallelReads<>();
+ * reads.add("ra", telescope::getRightAscension);
+ * reads.add("dec", telescope::getDeclination);
+ * reads.add("temperature", camera::getCCDTemperature);
+ * Map<String, Object> values = reads.join();
+ * }</pre>
+ *
+ * @param <K> the type of the keys the results are returned under
+ */
+@SuppressWarnings("unused")
+public class ParallelReads<K> {
+    private final Executor executor;
+    private final Map<K, CompletableFuture<?>> reads = new LinkedHashMap<>();
+
+    /**
+     * Creates a set of reads that run on the shared executor of {@link ClientTransport#getAsyncExecutor()}.
+     */
+    public ParallelReads() {
+        this(ClientTransport.getAsyncExecutor());
+    }
+
+    /**
+     * Creates a set of reads that run on the given executor.
+     * @param executor the executor to run the reads on
+     */
+    public ParallelReads(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a read.
+     * @param key the key the result of the read is returned under
+     * @param read the read to make
+     * @return the future of the read
+     * @param <T> the type of the result
+     */
+    public <T> CompletableFuture<T> add(K key, Supplier<T> read) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(read, executor);
+        reads.put(key, future);
+        return future;
+    }
+
+    /**
+     * Returns a future completed with the results of all the reads once they have all finished.  If any read
+     * fails, the future completes with its exception.
+     * @return the future of the results, in the order the reads were added
+     */
+    public CompletableFuture<Map<K, Object>> all() {
+        List<K> keys = new ArrayList<>(reads.keySet());
+        List<CompletableFuture<?>> futures = new ArrayList<>(reads.values());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<K, Object> results = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                results.put(keys.get(i), futures.get(i).join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Waits for all the reads to finish and returns their results.
+     * @return the results of the reads, in the order they were added
+     * @throws RuntimeException the exception thrown by the first read that failed
+     */
+    public Map<K, Object> join() {
+        try {
+            return all().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for all the reads to finish and returns the results of the reads that succeeded.  The reads that
+     * failed are left out, rather than failing the whole set.
+     * @return the results of the successful reads, in the order they were added
+     */
+    public Map<K, Object> joinSuccessful() {
+        Map<K, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<K, CompletableFuture<?>> read : reads.entrySet()) {
+            try {
+                results.put(read.getKey(), read.getValue().join());
+            } catch (CompletionException e) {
+                // Left out of the results
+            }
+        }
+        return results;
+    }
+}
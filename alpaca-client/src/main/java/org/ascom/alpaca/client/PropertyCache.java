@@ -0,0 +1,168 @@
+package org.ascom.alpaca.client;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * An optional cache of the property values read by a client.  The cache is enabled per client with
+ * {@link CommonClient#enablePropertyCache()}, and only applies to the synchronous property getters.
+ *
+ * Capability and other static properties (for example CameraXSize, CanPulseGuide or SensorName) are cached
+ * for the session, until the client connects or disconnects.  Other properties are read from the device on
+ * every call, unless a time to live has been set for them with {@link #setTTL(String, Duration)} or for all of
+ * them with {@link #setDefaultTTL(Duration)}.  Setting a property through the client, such as with setBinX,
+ * removes the cached value of that property.
+ *
+ * Properties are named the same way as in the Alpaca API and are not case-sensitive, for example "BinX",
+ * "CCDTemperature" or "CanPulseGuide".
+ */
+@SuppressWarnings("unused")
+public class PropertyCache {
+    // Setters whose name doesn't match the name of the property they change
+    private static final Map<String, List<String>> setterAliases = Map.of(
+            "ccdtemperature", List.of("setccdtemperature"),
+            "temperaturecompensation", List.of("temperaturecompensating"));
+
+    private final Set<String> staticProperties = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> ttls = new ConcurrentHashMap<>();
+    private final Map<String, Map<List<Object>, Entry>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long defaultTTL = 0;
+
+    private record Entry(Object value, long expires, boolean session) {
+        boolean isValid(long now) {
+            return session || now - expires < 0;
+        }
+    }
+
+    PropertyCache(Set<String> staticProperties) {
+        for (String property : staticProperties) {
+            this.staticProperties.add(normalize(property));
+        }
+    }
+
+    /**
+     * Sets how long the value of a property is cached for.  A zero duration stops the property from being
+     * cached, unless it is a static property.
+     * @param property the name of the property
+     * @param ttl how long the value of the property is cached for
+     */
+    public void setTTL(String property, Duration ttl) {
+        String name = normalize(property);
+        ttls.put(name, ttl.toNanos());
+        remove(name);
+    }
+
+    /**
+     * Sets how long the values of properties that have no time to live of their own are cached for.  The
+     * default is zero, which means only static properties and properties with their own time to live are cached.
+     * @param ttl how long property values are cached for
+     */
+    public void setDefaultTTL(Duration ttl) {
+        defaultTTL = ttl.toNanos();
+        clear();
+    }
+
+    /**
+     * Marks a property as static, so its value is cached until the client connects or disconnects.
+     * @param property the name of the property
+     */
+    public void setStatic(String property) {
+        staticProperties.add(normalize(property));
+    }
+
+    /**
+     * Removes the cached values of a property.
+     * @param property the name of the property
+     */
+    public void invalidate(String property) {
+        remove(normalize(property));
+    }
+
+    private void remove(String property) {
+        generation.incrementAndGet();
+        entries.remove(property);
+    }
+
+    /**
+     * Removes all the cached property values.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Returns the cached value of a property, or loads it if there's no valid cached value.
+     *
+     * @param methodName the name of the getter used to read the property
+     * @param args the arguments of the getter, for properties that take an argument such as an axis
+     * @param loader reads the value of the property from the device
+     * @return the value of the property
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String methodName, Object[] args, Supplier<T> loader) {
+        String property = normalize(methodName);
+        boolean session = isStatic(property);
+        long ttl = session ? Long.MAX_VALUE : ttls.getOrDefault(property, defaultTTL);
+        if (ttl <= 0) {
+            return loader.get();
+        }
+
+        List<Object> key = args == null || args.length == 0 ? List.of() : Arrays.asList(args);
+        long now = System.nanoTime();
+        Map<List<Object>, Entry> values = entries.get(property);
+        Entry entry = values != null ? values.get(key) : null;
+        if (entry != null && entry.isValid(now)) {
+            return (T) entry.value();
+        }
+
+        // If the property is changed while it's being loaded, the loaded value may already be stale
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        if (value != null && generation.get() == loadGeneration) {
+            entries.computeIfAbsent(property, p -> new ConcurrentHashMap<>())
+                    .put(key, new Entry(value, session ? 0 : now + ttl, session));
+        }
+        return value;
+    }
+
+    private boolean isStatic(String property) {
+        // All the capabilities are fixed for the session
+        return property.startsWith("can") || property.startsWith("has") || staticProperties.contains(property);
+    }
+
+    /**
+     * Removes the cached values changed by a call to the given method of the client.
+     * @param methodName the name of the method called
+     */
+    void invalidateFor(String methodName) {
+        switch (methodName) {
+            case "connect", "disconnect", "setConnectedState" -> clear();
+            default -> {
+                String property = normalize(methodName);
+                remove(property);
+                for (String alias : setterAliases.getOrDefault(property, List.of())) {
+                    remove(alias);
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a property or accessor name into the name used as the key of the cache.  The
+     * get, set and is prefixes of accessors are removed so that getters and setters map to the same property.
+     */
+    static String normalize(String name) {
+        String property = name;
+        if (property.startsWith("get") || property.startsWith("set")) {
+            property = property.substring(3);
+        } else if (property.startsWith("is")) {
+            property = property.substring(2);
+        }
+        return property.toLowerCase(Locale.ROOT);
+    }
+}
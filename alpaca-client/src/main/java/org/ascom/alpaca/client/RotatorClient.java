@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Rotator;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -9,16 +10,17 @@ import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.BooleanResponse;
 import org.ascom.alpaca.response.DoubleResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with ASCOM Rotator devices via the ALPACA protocol.
  */
 @SuppressWarnings("unused")
 public class RotatorClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties("getStepSize");
     private static final Logger log = Logger.getLogger(RotatorClient.class);
     private final URI serverAddress;
     private Rotator client = null;
@@ -36,11 +38,7 @@ public class RotatorClient extends CommonClient {
     private Rotator getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Rotator.class);
+                client = ClientTransport.create(serverAddress.toString(), Rotator.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -50,6 +48,11 @@ public class RotatorClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * True if the Rotator supports the Reverse method.
      *
@@ -58,7 +61,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.CanReverse">A full description of this member's behavior is provided here</a>
      */
     public boolean canReverse() {
-        BooleanResponse response = call(getClient().canReverse(getDeviceID(), getClientID(), getTransactionID()), "canReverse");
+        BooleanResponse response = cachedCall(() -> getClient().canReverse(getDeviceID(), getClientID(), getTransactionID()), "canReverse");
         return response.getValue();
     }
 
@@ -93,7 +96,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.IsMoving">A full description of this member's behavior is provided here</a>
      */
     public boolean isMoving() {
-        BooleanResponse response = call(getClient().isMoving(getDeviceID(), getClientID(), getTransactionID()), "isMoving");
+        BooleanResponse response = cachedCall(() -> getClient().isMoving(getDeviceID(), getClientID(), getTransactionID()), "isMoving");
         return response.getValue();
     }
 
@@ -128,7 +131,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.MechanicalPosition">A full description of this member's behavior is provided here</a>
      */
     public double getMechanicalPosition() {
-        DoubleResponse response = call(getClient().getMechanicalPosition(getDeviceID(), getClientID(), getTransactionID()), "getMechanicalPosition");
+        DoubleResponse response = cachedCall(() -> getClient().getMechanicalPosition(getDeviceID(), getClientID(), getTransactionID()), "getMechanicalPosition");
         return response.getValue();
     }
 
@@ -163,7 +166,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.Position">A full description of this member's behavior is provided here</a>
      */
     public double getPosition() {
-        DoubleResponse response = call(getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
+        DoubleResponse response = cachedCall(() -> getClient().getPosition(getDeviceID(), getClientID(), getTransactionID()), "getPosition");
         return response.getValue();
     }
 
@@ -198,7 +201,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.Reverse">A full description of this member's behavior is provided here</a>
      */
     public boolean isReversed() {
-        BooleanResponse response = call(getClient().isReversed(getDeviceID(), getClientID(), getTransactionID()), "isReversed");
+        BooleanResponse response = cachedCall(() -> getClient().isReversed(getDeviceID(), getClientID(), getTransactionID()), "isReversed");
         return response.getValue();
     }
 
@@ -233,7 +236,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.Reverse">A full description of this member's behavior is provided here</a>
      */
     public void setReversed(boolean reverse) {
-        AlpacaResponse response = call(getClient().setReversed(getDeviceID(), getClientID(), getTransactionID(), reverse), "setReversed", reverse);
+        AlpacaResponse response = updateCall(getClient().setReversed(getDeviceID(), getClientID(), getTransactionID(), reverse), "setReversed", reverse);
     }
 
     /**
@@ -246,7 +249,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.Reverse">A full description of this member's behavior is provided here</a>
      */
     public void setReversed(boolean reverse, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setReversed(getDeviceID(), getClientID(), getTransactionID(), reverse), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setReversed(getDeviceID(), getClientID(), getTransactionID(), reverse), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -268,7 +271,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.StepSize">A full description of this member's behavior is provided here</a>
      */
     public double getStepSize() {
-        DoubleResponse response = call(getClient().getStepSize(getDeviceID(), getClientID(), getTransactionID()), "getStepSize");
+        DoubleResponse response = cachedCall(() -> getClient().getStepSize(getDeviceID(), getClientID(), getTransactionID()), "getStepSize");
         return response.getValue();
     }
 
@@ -303,7 +306,7 @@ public class RotatorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/rotator.html#Rotator.TargetPosition">A full description of this member's behavior is provided here</a>
      */
     public double getTargetPosition() {
-        DoubleResponse response = call(getClient().getTargetPosition(getDeviceID(), getClientID(), getTransactionID()), "getTargetPosition");
+        DoubleResponse response = cachedCall(() -> getClient().getTargetPosition(getDeviceID(), getClientID(), getTransactionID()), "getTargetPosition");
         return response.getValue();
     }
 
@@ -501,4 +504,15 @@ public class RotatorClient extends CommonClient {
             }
         }, "sync", position);
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the rotator to finish moving, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the rotator is no longer moving, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitMoveCompletion(long timeout) {
+        return awaitCompletion("isMoving", this::isMoving, moving -> !moving, timeout);
+    }
+}
@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.SafetyMonitor;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -7,8 +8,6 @@ import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.response.BooleanResponse;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
 
@@ -34,11 +33,7 @@ public class SafetyMonitorClient extends CommonClient {
     private SafetyMonitor getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toURL() + "/api/v1/")
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(SafetyMonitor.class);
+                client = ClientTransport.create(serverAddress.toString() + "/api/v1/", SafetyMonitor.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -57,7 +52,7 @@ public class SafetyMonitorClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/safetymonitor.html#SafetyMonitor.IsSafe">A full description of this member's behavior is provided here</a>
      */
     public boolean isSafe() {
-        BooleanResponse response = call(getClient().isSafe(getDeviceID(), getClientID(), getTransactionID()), "isSafe");
+        BooleanResponse response = cachedCall(() -> getClient().isSafe(getDeviceID(), getClientID(), getTransactionID()), "isSafe");
         checkResponse(response);
         return response.getValue();
     }
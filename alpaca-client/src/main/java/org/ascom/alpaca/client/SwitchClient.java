@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Switch;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -7,16 +8,17 @@ import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.response.*;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
+import java.util.Set;
 
 /**
  * Client for interacting with ASCOM Switch devices via the ALPACA protocol.
  */
 @SuppressWarnings("unused")
 public class SwitchClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties(
+            "getMaxSwitch", "getSwitchDescription", "getSwitchName");
     private static final Logger log = Logger.getLogger(SwitchClient.class);
     private final URI serverAddress;
     private Switch client = null;
@@ -34,11 +36,7 @@ public class SwitchClient extends CommonClient {
     private Switch getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Switch.class);
+                client = ClientTransport.create(serverAddress.toString(), Switch.class);
                 return client;
             } catch (Exception e) {
                 log.warn("Problem constructing the client", e);
@@ -48,6 +46,11 @@ public class SwitchClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Indicates whether the specified switch device can be written to
      *
@@ -57,7 +60,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.CanWrite">A full description of this member's behavior is provided here</a>
      */
     public boolean canWrite() {
-        BooleanResponse response = call(getClient().canWrite(getDeviceID(), getClientID(), getTransactionID()), "canWrite");
+        BooleanResponse response = cachedCall(() -> getClient().canWrite(getDeviceID(), getClientID(), getTransactionID()), "canWrite");
         return response.getValue();
     }
 
@@ -92,7 +95,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.MaxSwitch">A full description of this member's behavior is provided here</a>
      */
     public int getMaxSwitch() {
-        IntResponse response = call(getClient().getMaxSwitch(getDeviceID(), getClientID(), getTransactionID()), "getMaxSwitch");
+        IntResponse response = cachedCall(() -> getClient().getMaxSwitch(getDeviceID(), getClientID(), getTransactionID()), "getMaxSwitch");
         return response.getValue();
     }
 
@@ -127,7 +130,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.GetSwitch">A full description of this member's behavior is provided here</a>
      */
     public boolean getSwitch(int id) {
-        BooleanResponse response = call(getClient().getSwitch(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitch", id);
+        BooleanResponse response = cachedCall(() -> getClient().getSwitch(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitch", id);
         return response.getValue();
     }
 
@@ -164,7 +167,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitch">A full description of this member's behavior is provided here</a>
      */
     public void setSwitch(int id, boolean state) {
-        AlpacaResponse response = call(getClient().setSwitch(getDeviceID(), getClientID(), getTransactionID(), id, state), "setSwitch", id, state);
+        AlpacaResponse response = updateCall(getClient().setSwitch(getDeviceID(), getClientID(), getTransactionID(), id, state), "setSwitch", id, state);
     }
 
     /**
@@ -178,7 +181,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitch">A full description of this member's behavior is provided here</a>
      */
     public void setSwitch(int id, boolean state, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSwitch(getDeviceID(), getClientID(), getTransactionID(), id, state), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSwitch(getDeviceID(), getClientID(), getTransactionID(), id, state), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -201,7 +204,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.GetSwitchDescription">A full description of this member's behavior is provided here</a>
      */
     public String getSwitchDescription(int id) {
-        StringResponse response = call(getClient().getSwitchDescription(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchDescription", id);
+        StringResponse response = cachedCall(() -> getClient().getSwitchDescription(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchDescription", id);
         return response.getValue();
     }
 
@@ -238,7 +241,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.GetSwitchName">A full description of this member's behavior is provided here</a>
      */
     public String getSwitchName(int id) {
-        StringResponse response = call(getClient().getSwitchName(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchName", id);
+        StringResponse response = cachedCall(() -> getClient().getSwitchName(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchName", id);
         return response.getValue();
     }
 
@@ -275,7 +278,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitchName">A full description of this member's behavior is provided here</a>
      */
     public void setSwitchName(int id, String name) {
-        AlpacaResponse response = call(getClient().setSwitchName(getDeviceID(), getClientID(), getTransactionID(), id, name), "setSwitchName", id, name);
+        AlpacaResponse response = updateCall(getClient().setSwitchName(getDeviceID(), getClientID(), getTransactionID(), id, name), "setSwitchName", id, name);
     }
 
     /**
@@ -289,7 +292,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitchName">A full description of this member's behavior is provided here</a>
      */
     public void setSwitchName(int id, String name, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSwitchName(getDeviceID(), getClientID(), getTransactionID(), id, name), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSwitchName(getDeviceID(), getClientID(), getTransactionID(), id, name), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -312,7 +315,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.GetSwitchValue">A full description of this member's behavior is provided here</a>
      */
     public double getSwitchValue(int id) {
-        DoubleResponse response = call(getClient().getSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchValue", id);
+        DoubleResponse response = cachedCall(() -> getClient().getSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id), "getSwitchValue", id);
         return response.getValue();
     }
 
@@ -349,7 +352,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitchValue">A full description of this member's behavior is provided here</a>
      */
     public void setSwitchValue(int id, double value) {
-        AlpacaResponse response = call(getClient().setSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id, value), "setSwitchValue", id, value);
+        AlpacaResponse response = updateCall(getClient().setSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id, value), "setSwitchValue", id, value);
     }
 
     /**
@@ -363,7 +366,7 @@ public class SwitchClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/switch.html#Switch.SetSwitchValue">A full description of this member's behavior is provided here</a>
      */
     public void setSwitchValue(int id, double value, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id, value), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSwitchValue(getDeviceID(), getClientID(), getTransactionID(), id, value), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
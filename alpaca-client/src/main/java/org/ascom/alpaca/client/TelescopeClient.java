@@ -1,5 +1,6 @@
 package org.ascom.alpaca.client;
 
+import org.ascom.alpaca.client.impl.ClientTransport;
 import org.ascom.alpaca.client.impl.api.Telescope;
 import org.ascom.alpaca.client.model.AlpacaCallback;
 import org.ascom.alpaca.client.model.AlpacaClientError;
@@ -7,8 +8,6 @@ import org.ascom.alpaca.client.model.ClientException;
 import org.ascom.alpaca.client.util.Logger;
 import org.ascom.alpaca.model.*;
 import org.ascom.alpaca.response.*;
-import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.net.URI;
 import java.text.ParseException;
@@ -16,12 +15,17 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client for interacting with Alpaca Telescope devices.
  */
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
 public class TelescopeClient extends CommonClient {
+    private static final Set<String> staticProperties = staticProperties(
+            "getAlignmentMode", "getApertureArea", "getApertureDiameter", "getEquatorialSystem", "getFocalLength",
+            "getTrackingRates", "getAxisRates");
     private static final Logger log = Logger.getLogger(TelescopeClient.class);
     private final URI serverAddress;
     private Telescope client = null;
@@ -39,11 +43,7 @@ public class TelescopeClient extends CommonClient {
     private Telescope getClient() {
         if (client == null) {
             try {
-                Retrofit retrofit = new Retrofit.Builder()
-                        .baseUrl(serverAddress.toString())
-                        .addConverterFactory(JacksonConverterFactory.create())
-                        .build();
-                client = retrofit.create(Telescope.class);
+                client = ClientTransport.create(serverAddress.toString(), Telescope.class);
                 return client;
             } catch (Exception e) {
                 logWarn("Problem constructing the client", e);
@@ -53,6 +53,11 @@ public class TelescopeClient extends CommonClient {
         return client;
     }
 
+    @Override
+    protected Set<String> getStaticProperties() {
+        return staticProperties;
+    }
+
     /**
      * Returns the current mount alignment mode
      *
@@ -62,7 +67,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.AlignmentMode">A full description of this member's behavior is provided here</a>
      */
     public AlignmentMode getAlignmentMode() {
-        IntResponse response = call(getClient().getAlignmentMode(getDeviceID(), getClientID(), getTransactionID()), "getAlignmentMode");
+        IntResponse response = cachedCall(() -> getClient().getAlignmentMode(getDeviceID(), getClientID(), getTransactionID()), "getAlignmentMode");
         return AlignmentMode.fromMode(response.getValue());
     }
 
@@ -97,7 +102,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Altitude">A full description of this member's behavior is provided here</a>
      */
     public double getAltitude() {
-        DoubleResponse response = call(getClient().getAltitude(getDeviceID(), getClientID(), getTransactionID()), "getAltitude");
+        DoubleResponse response = cachedCall(() -> getClient().getAltitude(getDeviceID(), getClientID(), getTransactionID()), "getAltitude");
         return response.getValue();
     }
 
@@ -132,7 +137,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.ApertureArea">A full description of this member's behavior is provided here</a>
      */
     public double getApertureArea() {
-        DoubleResponse response = call(getClient().getApertureArea(getDeviceID(), getClientID(), getTransactionID()), "getApertureArea");
+        DoubleResponse response = cachedCall(() -> getClient().getApertureArea(getDeviceID(), getClientID(), getTransactionID()), "getApertureArea");
         return response.getValue();
     }
 
@@ -167,7 +172,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.ApertureDiameter">A full description of this member's behavior is provided here</a>
      */
     public double getApertureDiameter() {
-        DoubleResponse response = call(getClient().getApertureDiameter(getDeviceID(), getClientID(), getTransactionID()), "getApertureDiameter");
+        DoubleResponse response = cachedCall(() -> getClient().getApertureDiameter(getDeviceID(), getClientID(), getTransactionID()), "getApertureDiameter");
         return response.getValue();
     }
 
@@ -202,7 +207,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.AtHome">A full description of this member's behavior is provided here</a>
      */
     public boolean isAtHome() {
-        BooleanResponse response = call(getClient().isAtHome(getDeviceID(), getClientID(), getTransactionID()), "isAtHome");
+        BooleanResponse response = cachedCall(() -> getClient().isAtHome(getDeviceID(), getClientID(), getTransactionID()), "isAtHome");
         return response.getValue();
     }
 
@@ -237,7 +242,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.AtPark">A full description of this member's behavior is provided here</a>
      */
     public boolean isAtPark() {
-        BooleanResponse response = call(getClient().isAtPark(getDeviceID(), getClientID(), getTransactionID()), "isAtPark");
+        BooleanResponse response = cachedCall(() -> getClient().isAtPark(getDeviceID(), getClientID(), getTransactionID()), "isAtPark");
         return response.getValue();
     }
 
@@ -272,7 +277,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Azimuth">A full description of this member's behavior is provided here</a>
      */
     public double getAzimuth() {
-        DoubleResponse response = call(getClient().getAzimuth(getDeviceID(), getClientID(), getTransactionID()), "getAzimuth");
+        DoubleResponse response = cachedCall(() -> getClient().getAzimuth(getDeviceID(), getClientID(), getTransactionID()), "getAzimuth");
         return response.getValue();
     }
 
@@ -307,7 +312,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanFindHome">A full description of this member's behavior is provided here</a>
      */
     public boolean canFindHome() {
-        BooleanResponse response = call(getClient().canFindHome(getDeviceID(), getClientID(), getTransactionID()), "canFindHome");
+        BooleanResponse response = cachedCall(() -> getClient().canFindHome(getDeviceID(), getClientID(), getTransactionID()), "canFindHome");
         return response.getValue();
     }
 
@@ -342,7 +347,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanPark">A full description of this member's behavior is provided here</a>
      */
     public boolean canPark() {
-        BooleanResponse response = call(getClient().canPark(getDeviceID(), getClientID(), getTransactionID()), "canPark");
+        BooleanResponse response = cachedCall(() -> getClient().canPark(getDeviceID(), getClientID(), getTransactionID()), "canPark");
         return response.getValue();
     }
 
@@ -377,7 +382,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanPulseGuide">A full description of this member's behavior is provided here</a>
      */
     public boolean canPulseGuide() {
-        BooleanResponse response = call(getClient().canPulseGuide(getDeviceID(), getClientID(), getTransactionID()), "canPulseGuide");
+        BooleanResponse response = cachedCall(() -> getClient().canPulseGuide(getDeviceID(), getClientID(), getTransactionID()), "canPulseGuide");
         return response.getValue();
     }
 
@@ -412,7 +417,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetDeclinationRate">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetDeclinationRate() {
-        BooleanResponse response = call(getClient().canSetDeclinationRate(getDeviceID(), getClientID(), getTransactionID()), "canSetDeclinationRate");
+        BooleanResponse response = cachedCall(() -> getClient().canSetDeclinationRate(getDeviceID(), getClientID(), getTransactionID()), "canSetDeclinationRate");
         return response.getValue();
     }
 
@@ -447,7 +452,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetGuideRates">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetGuideRates() {
-        BooleanResponse response = call(getClient().canSetGuideRates(getDeviceID(), getClientID(), getTransactionID()), "canSetGuideRates");
+        BooleanResponse response = cachedCall(() -> getClient().canSetGuideRates(getDeviceID(), getClientID(), getTransactionID()), "canSetGuideRates");
         return response.getValue();
     }
 
@@ -482,7 +487,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetPark">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetPark() {
-        BooleanResponse response = call(getClient().canSetPark(getDeviceID(), getClientID(), getTransactionID()), "canSetPark");
+        BooleanResponse response = cachedCall(() -> getClient().canSetPark(getDeviceID(), getClientID(), getTransactionID()), "canSetPark");
         return response.getValue();
     }
 
@@ -517,7 +522,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetPierSide">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetPierSide() {
-        BooleanResponse response = call(getClient().canSetPierSide(getDeviceID(), getClientID(), getTransactionID()), "canSetPierSide");
+        BooleanResponse response = cachedCall(() -> getClient().canSetPierSide(getDeviceID(), getClientID(), getTransactionID()), "canSetPierSide");
         return response.getValue();
     }
 
@@ -552,7 +557,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetRightAscensionRate">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetRightAscensionRate() {
-        BooleanResponse response = call(getClient().canSetRightAscensionRate(getDeviceID(), getClientID(), getTransactionID()), "canSetRightAscensionRate");
+        BooleanResponse response = cachedCall(() -> getClient().canSetRightAscensionRate(getDeviceID(), getClientID(), getTransactionID()), "canSetRightAscensionRate");
         return response.getValue();
     }
 
@@ -587,7 +592,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSetTracking">A full description of this member's behavior is provided here</a>
      */
     public boolean canSetTracking() {
-        BooleanResponse response = call(getClient().canSetTracking(getDeviceID(), getClientID(), getTransactionID()), "canSetTracking");
+        BooleanResponse response = cachedCall(() -> getClient().canSetTracking(getDeviceID(), getClientID(), getTransactionID()), "canSetTracking");
         return response.getValue();
     }
 
@@ -622,7 +627,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSlew">A full description of this member's behavior is provided here</a>
      */
     public boolean canSlew() {
-        BooleanResponse response = call(getClient().canSlew(getDeviceID(), getClientID(), getTransactionID()), "canSlew");
+        BooleanResponse response = cachedCall(() -> getClient().canSlew(getDeviceID(), getClientID(), getTransactionID()), "canSlew");
         return response.getValue();
     }
 
@@ -657,7 +662,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSlewAltAz">A full description of this member's behavior is provided here</a>
      */
     public boolean canSlewAltAz() {
-        BooleanResponse response = call(getClient().canSlewAltAz(getDeviceID(), getClientID(), getTransactionID()), "canSlewAltAz");
+        BooleanResponse response = cachedCall(() -> getClient().canSlewAltAz(getDeviceID(), getClientID(), getTransactionID()), "canSlewAltAz");
         return response.getValue();
     }
 
@@ -692,7 +697,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSlewAltAzAsync">A full description of this member's behavior is provided here</a>
      */
     public boolean canSlewAltAzAsync() {
-        BooleanResponse response = call(getClient().canSlewAltAzAsync(getDeviceID(), getClientID(), getTransactionID()), "canSlewAltAzAsync");
+        BooleanResponse response = cachedCall(() -> getClient().canSlewAltAzAsync(getDeviceID(), getClientID(), getTransactionID()), "canSlewAltAzAsync");
         return response.getValue();
     }
 
@@ -726,7 +731,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSlewAsync">A full description of this member's behavior is provided here</a>
      */
     public boolean canSlewAsync() {
-        BooleanResponse response = call(getClient().canSlewAsync(getDeviceID(), getClientID(), getTransactionID()), "canSlewAsync");
+        BooleanResponse response = cachedCall(() -> getClient().canSlewAsync(getDeviceID(), getClientID(), getTransactionID()), "canSlewAsync");
         return response.getValue();
     }
 
@@ -761,7 +766,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSync">A full description of this member's behavior is provided here</a>
      */
     public boolean canSync() {
-        BooleanResponse response = call(getClient().canSync(getDeviceID(), getClientID(), getTransactionID()), "canSync");
+        BooleanResponse response = cachedCall(() -> getClient().canSync(getDeviceID(), getClientID(), getTransactionID()), "canSync");
         return response.getValue();
     }
 
@@ -796,7 +801,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanSyncAltAz">A full description of this member's behavior is provided here</a>
      */
     public boolean canSyncAltAz() {
-        BooleanResponse response = call(getClient().canSyncAltAz(getDeviceID(), getClientID(), getTransactionID()), "canSyncAltAz");
+        BooleanResponse response = cachedCall(() -> getClient().canSyncAltAz(getDeviceID(), getClientID(), getTransactionID()), "canSyncAltAz");
         return response.getValue();
     }
 
@@ -831,7 +836,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanUnpark">A full description of this member's behavior is provided here</a>
      */
     public boolean canUnpark() {
-        BooleanResponse response = call(getClient().canUnpark(getDeviceID(), getClientID(), getTransactionID()), "canUnpark");
+        BooleanResponse response = cachedCall(() -> getClient().canUnpark(getDeviceID(), getClientID(), getTransactionID()), "canUnpark");
         return response.getValue();
     }
 
@@ -866,7 +871,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Declination">A full description of this member's behavior is provided here</a>
      */
     public double getDeclination() {
-        DoubleResponse response = call(getClient().getDeclination(getDeviceID(), getClientID(), getTransactionID()), "getDeclination");
+        DoubleResponse response = cachedCall(() -> getClient().getDeclination(getDeviceID(), getClientID(), getTransactionID()), "getDeclination");
         return response.getValue();
     }
 
@@ -901,7 +906,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DeclinationRate">A full description of this member's behavior is provided here</a>
      */
     public double getDeclinationRate() {
-        DoubleResponse response = call(getClient().getDeclinationRate(getDeviceID(), getClientID(), getTransactionID()), "getDeclinationRate");
+        DoubleResponse response = cachedCall(() -> getClient().getDeclinationRate(getDeviceID(), getClientID(), getTransactionID()), "getDeclinationRate");
         return response.getValue();
     }
 
@@ -935,7 +940,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DeclinationRate">A full description of this member's behavior is provided here</a>
      */
     public void setDeclinationRate(double declinationRate) {
-        AlpacaResponse response = call(getClient().setDeclinationRate(getDeviceID(), declinationRate, getClientID(), getTransactionID()), "setDeclinationRate", declinationRate);
+        AlpacaResponse response = updateCall(getClient().setDeclinationRate(getDeviceID(), declinationRate, getClientID(), getTransactionID()), "setDeclinationRate", declinationRate);
     }
 
     /**
@@ -947,7 +952,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DeclinationRate">A full description of this member's behavior is provided here</a>
      */
     public void setDeclinationRate(double declinationRate, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setDeclinationRate(getDeviceID(), declinationRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setDeclinationRate(getDeviceID(), declinationRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -969,7 +974,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DoesRefraction">A full description of this member's behavior is provided here</a>
      */
     public boolean doesRefraction() {
-        BooleanResponse response = call(getClient().doesRefraction(getDeviceID(), getClientID(), getTransactionID()), "doesRefraction");
+        BooleanResponse response = cachedCall(() -> getClient().doesRefraction(getDeviceID(), getClientID(), getTransactionID()), "doesRefraction");
         return response.getValue();
     }
 
@@ -1004,7 +1009,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DoesRefraction">A full description of this member's behavior is provided here</a>
      */
     public void setDoesRefraction(boolean doesRefraction) {
-        AlpacaResponse response = call(getClient().setDoesRefraction(getDeviceID(), doesRefraction, getClientID(), getTransactionID()), "setDoesRefraction", doesRefraction);
+        AlpacaResponse response = updateCall(getClient().setDoesRefraction(getDeviceID(), doesRefraction, getClientID(), getTransactionID()), "setDoesRefraction", doesRefraction);
     }
 
     /**
@@ -1017,7 +1022,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DoesRefraction">A full description of this member's behavior is provided here</a>
      */
     public void setDoesRefraction(boolean doesRefraction, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setDoesRefraction(getDeviceID(), doesRefraction, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setDoesRefraction(getDeviceID(), doesRefraction, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1039,7 +1044,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.EquatorialSystem">A full description of this member's behavior is provided here</a>
      */
     public EquatorialCoordinateType getEquatorialSystem() {
-        IntResponse response = call(getClient().getEquatorialSystem(getDeviceID(), getClientID(), getTransactionID()), "getEquatorialSystem");
+        IntResponse response = cachedCall(() -> getClient().getEquatorialSystem(getDeviceID(), getClientID(), getTransactionID()), "getEquatorialSystem");
         return EquatorialCoordinateType.fromType(response.getValue());
     }
 
@@ -1074,7 +1079,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.FocalLength">A full description of this member's behavior is provided here</a>
      */
     public double getFocalLength() {
-        DoubleResponse response = call(getClient().getFocalLength(getDeviceID(), getClientID(), getTransactionID()), "getFocalLength");
+        DoubleResponse response = cachedCall(() -> getClient().getFocalLength(getDeviceID(), getClientID(), getTransactionID()), "getFocalLength");
         return response.getValue();
     }
 
@@ -1109,7 +1114,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateDeclination">A full description of this member's behavior is provided here</a>
      */
     public double getGuideRateDeclination() {
-        DoubleResponse response = call(getClient().getGuideRateDeclination(getDeviceID(), getClientID(), getTransactionID()), "getGuideRateDeclination");
+        DoubleResponse response = cachedCall(() -> getClient().getGuideRateDeclination(getDeviceID(), getClientID(), getTransactionID()), "getGuideRateDeclination");
         return response.getValue();
     }
 
@@ -1144,7 +1149,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateDeclination">A full description of this member's behavior is provided here</a>
      */
     public void setGuideRateDeclination(double guideRate) {
-        AlpacaResponse response = call(getClient().setGuideRateDeclination(getDeviceID(), guideRate, getClientID(), getTransactionID()), "setGuideRateDeclination", guideRate);
+        AlpacaResponse response = updateCall(getClient().setGuideRateDeclination(getDeviceID(), guideRate, getClientID(), getTransactionID()), "setGuideRateDeclination", guideRate);
     }
 
     /**
@@ -1157,7 +1162,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateDeclination">A full description of this member's behavior is provided here</a>
      */
     public void setGuideRateDeclination(double guideRate, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setGuideRateDeclination(getDeviceID(), guideRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setGuideRateDeclination(getDeviceID(), guideRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1179,7 +1184,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateRightAscension">A full description of this member's behavior is provided here</a>
      */
     public double getGuideRateRightAscension() {
-        DoubleResponse response = call(getClient().getGuideRateRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getGuideRateRightAscension");
+        DoubleResponse response = cachedCall(() -> getClient().getGuideRateRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getGuideRateRightAscension");
         return response.getValue();
     }
 
@@ -1214,7 +1219,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateRightAscension">A full description of this member's behavior is provided here</a>
      */
     public void setGuideRateRightAscension(double guideRate) {
-        AlpacaResponse response = call(getClient().setGuideRateRightAscension(getDeviceID(), guideRate, getClientID(), getTransactionID()), "setGuideRateRightAscension", guideRate);
+        AlpacaResponse response = updateCall(getClient().setGuideRateRightAscension(getDeviceID(), guideRate, getClientID(), getTransactionID()), "setGuideRateRightAscension", guideRate);
 
     }
 
@@ -1228,7 +1233,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.GuideRateRightAscension">A full description of this member's behavior is provided here</a>
      */
     public void setGuideRateRightAscension(double guideRate, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setGuideRateRightAscension(getDeviceID(), guideRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setGuideRateRightAscension(getDeviceID(), guideRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1250,7 +1255,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.IsPulseGuiding">A full description of this member's behavior is provided here</a>
      */
     public boolean isPulseGuiding() {
-        BooleanResponse response = call(getClient().isPulseGuiding(getDeviceID(), getClientID(), getTransactionID()), "isPulseGuiding");
+        BooleanResponse response = cachedCall(() -> getClient().isPulseGuiding(getDeviceID(), getClientID(), getTransactionID()), "isPulseGuiding");
         return response.getValue();
     }
 
@@ -1285,7 +1290,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.RightAscension">A full description of this member's behavior is provided here</a>
      */
     public double getRightAscension() {
-        DoubleResponse response = call(getClient().getRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getRightAscension");
+        DoubleResponse response = cachedCall(() -> getClient().getRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getRightAscension");
         return response.getValue();
     }
 
@@ -1320,7 +1325,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.RightAscensionRate">A full description of this member's behavior is provided here</a>
      */
     public double getRightAscensionRate() {
-        DoubleResponse response = call(getClient().getRightAscensionRate(getDeviceID(), getClientID(), getTransactionID()), "getRightAscensionRate");
+        DoubleResponse response = cachedCall(() -> getClient().getRightAscensionRate(getDeviceID(), getClientID(), getTransactionID()), "getRightAscensionRate");
         return response.getValue();
     }
 
@@ -1355,7 +1360,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.RightAscensionRate">A full description of this member's behavior is provided here</a>
      */
     public void setRightAscensionRate(double rightAscensionRate) {
-        AlpacaResponse response = call(getClient().setRightAscensionRate(getDeviceID(), rightAscensionRate, getClientID(), getTransactionID()), "setRightAscensionRate", rightAscensionRate);
+        AlpacaResponse response = updateCall(getClient().setRightAscensionRate(getDeviceID(), rightAscensionRate, getClientID(), getTransactionID()), "setRightAscensionRate", rightAscensionRate);
     }
 
     /**
@@ -1368,7 +1373,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.RightAscensionRate">A full description of this member's behavior is provided here</a>
      */
     public void setRightAscensionRate(double rightAscensionRate, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setRightAscensionRate(getDeviceID(), rightAscensionRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setRightAscensionRate(getDeviceID(), rightAscensionRate, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1390,7 +1395,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SideOfPier">A full description of this member's behavior is provided here</a>
      */
     public PierSide getSideOfPier() {
-        IntResponse response = call(getClient().getSideOfPier(getDeviceID(), getClientID(), getTransactionID()), "getSideOfPier");
+        IntResponse response = cachedCall(() -> getClient().getSideOfPier(getDeviceID(), getClientID(), getTransactionID()), "getSideOfPier");
         return PierSide.fromSide(response.getValue());
     }
 
@@ -1424,7 +1429,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SideOfPier">A full description of this member's behavior is provided here</a>
      */
     public void setSideOfPier(PierSide sideOfPier) {
-        AlpacaResponse response = call(getClient().setSideOfPier(getDeviceID(), sideOfPier.ordinal(), getClientID(), getTransactionID()), "setSideOfPier", sideOfPier.ordinal());
+        AlpacaResponse response = updateCall(getClient().setSideOfPier(getDeviceID(), sideOfPier.ordinal(), getClientID(), getTransactionID()), "setSideOfPier", sideOfPier.ordinal());
     }
 
     /**
@@ -1436,7 +1441,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SideOfPier">A full description of this member's behavior is provided here</a>
      */
     public void setSideOfPier(PierSide sideOfPier, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSideOfPier(getDeviceID(), sideOfPier.ordinal(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSideOfPier(getDeviceID(), sideOfPier.ordinal(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1458,7 +1463,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiderealTime">A full description of this member's behavior is provided here</a>
      */
     public double getSiderealTime() {
-        DoubleResponse response = call(getClient().getSiderealTime(getDeviceID(), getClientID(), getTransactionID()), "getSiderealTime");
+        DoubleResponse response = cachedCall(() -> getClient().getSiderealTime(getDeviceID(), getClientID(), getTransactionID()), "getSiderealTime");
         return response.getValue();
     }
 
@@ -1493,7 +1498,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteElevation">A full description of this member's behavior is provided here</a>
      */
     public double getSiteElevation() {
-        DoubleResponse response = call(getClient().getSiteElevation(getDeviceID(), getClientID(), getTransactionID()), "getSiteElevation");
+        DoubleResponse response = cachedCall(() -> getClient().getSiteElevation(getDeviceID(), getClientID(), getTransactionID()), "getSiteElevation");
         return response.getValue();
     }
 
@@ -1528,7 +1533,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteElevation">A full description of this member's behavior is provided here</a>
      */
     public void setSiteElevation(double siteElevation) {
-        AlpacaResponse response = call(getClient().setSiteElevation(getDeviceID(), siteElevation, getClientID(), getTransactionID()), "setSiteElevation", siteElevation);
+        AlpacaResponse response = updateCall(getClient().setSiteElevation(getDeviceID(), siteElevation, getClientID(), getTransactionID()), "setSiteElevation", siteElevation);
     }
 
     /**
@@ -1541,7 +1546,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteElevation">A full description of this member's behavior is provided here</a>
      */
     public void setSiteElevation(double siteElevation, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSiteElevation(getDeviceID(), siteElevation, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSiteElevation(getDeviceID(), siteElevation, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1563,7 +1568,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLatitude">A full description of this member's behavior is provided here</a>
      */
     public double getSiteLatitude() {
-        DoubleResponse response = call(getClient().getSiteLatitude(getDeviceID(), getClientID(), getTransactionID()), "getSiteLatitude");
+        DoubleResponse response = cachedCall(() -> getClient().getSiteLatitude(getDeviceID(), getClientID(), getTransactionID()), "getSiteLatitude");
         return response.getValue();
     }
 
@@ -1598,7 +1603,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLatitude">A full description of this member's behavior is provided here</a>
      */
     public void setSiteLatitude(double siteLatitude) {
-        AlpacaResponse response = call(getClient().setSiteLatitude(getDeviceID(), siteLatitude, getClientID(), getTransactionID()), "setSiteLatitude", siteLatitude);
+        AlpacaResponse response = updateCall(getClient().setSiteLatitude(getDeviceID(), siteLatitude, getClientID(), getTransactionID()), "setSiteLatitude", siteLatitude);
     }
 
     /**
@@ -1610,7 +1615,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLatitude">A full description of this member's behavior is provided here</a>
      */
     public void setSiteLatitude(double siteLatitude, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSiteLatitude(getDeviceID(), siteLatitude, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSiteLatitude(getDeviceID(), siteLatitude, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1632,7 +1637,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLongitude">A full description of this member's behavior is provided here</a>
      */
     public double getSiteLongitude() {
-        DoubleResponse response = call(getClient().getSiteLongitude(getDeviceID(), getClientID(), getTransactionID()), "getSiteLongitude");
+        DoubleResponse response = cachedCall(() -> getClient().getSiteLongitude(getDeviceID(), getClientID(), getTransactionID()), "getSiteLongitude");
         return response.getValue();
     }
 
@@ -1667,7 +1672,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLongitude">A full description of this member's behavior is provided here</a>
      */
     public void setSiteLongitude(double siteLongitude) {
-        AlpacaResponse response = call(getClient().setSiteLatitude(getDeviceID(), siteLongitude, getClientID(), getTransactionID()), "setSiteLongitude", siteLongitude);
+        AlpacaResponse response = updateCall(getClient().setSiteLatitude(getDeviceID(), siteLongitude, getClientID(), getTransactionID()), "setSiteLongitude", siteLongitude);
     }
 
     /**
@@ -1680,7 +1685,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SiteLongitude">A full description of this member's behavior is provided here</a>
      */
     public void setSiteLongitude(double siteLongitude, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSiteLongitude(getDeviceID(), siteLongitude, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSiteLongitude(getDeviceID(), siteLongitude, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1702,7 +1707,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Slewing">A full description of this member's behavior is provided here</a>
      */
     public boolean isSlewing() {
-        BooleanResponse response = call(getClient().isSlewing(getDeviceID(), getClientID(), getTransactionID()), "isSlewing");
+        BooleanResponse response = cachedCall(() -> getClient().isSlewing(getDeviceID(), getClientID(), getTransactionID()), "isSlewing");
         return response.getValue();
     }
 
@@ -1737,7 +1742,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SlewSettleTime">A full description of this member's behavior is provided here</a>
      */
     public int getSlewSettleTime() {
-        IntResponse response = call(getClient().getSlewSettleTime(getDeviceID(), getClientID(), getTransactionID()), "getSlewSettleTime");
+        IntResponse response = cachedCall(() -> getClient().getSlewSettleTime(getDeviceID(), getClientID(), getTransactionID()), "getSlewSettleTime");
         return response.getValue();
     }
 
@@ -1772,7 +1777,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SlewSettleTime">A full description of this member's behavior is provided here</a>
      */
     public void setSlewSettleTime(int slewSettleTime) {
-        AlpacaResponse response = call(getClient().setSlewSettleTime(getDeviceID(), slewSettleTime, getClientID(), getTransactionID()), "setSlewSettleTime", slewSettleTime);
+        AlpacaResponse response = updateCall(getClient().setSlewSettleTime(getDeviceID(), slewSettleTime, getClientID(), getTransactionID()), "setSlewSettleTime", slewSettleTime);
     }
 
     /**
@@ -1785,7 +1790,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SlewSettleTime">A full description of this member's behavior is provided here</a>
      */
     public void setSlewSettleTime(int slewSettleTime, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setSlewSettleTime(getDeviceID(), slewSettleTime, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setSlewSettleTime(getDeviceID(), slewSettleTime, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1807,7 +1812,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetDeclination">A full description of this member's behavior is provided here</a>
      */
     public double getTargetDeclination() {
-        DoubleResponse response = call(getClient().getTargetDeclination(getDeviceID(), getClientID(), getTransactionID()), "getTargetDeclination");
+        DoubleResponse response = cachedCall(() -> getClient().getTargetDeclination(getDeviceID(), getClientID(), getTransactionID()), "getTargetDeclination");
         return response.getValue();
     }
 
@@ -1842,7 +1847,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetDeclination">A full description of this member's behavior is provided here</a>
      */
     public void setTargetDeclination(int targetDeclination) {
-        AlpacaResponse response = call(getClient().setTargetDeclination(getDeviceID(), targetDeclination, getClientID(), getTransactionID()), "setTargetDeclination", targetDeclination);
+        AlpacaResponse response = updateCall(getClient().setTargetDeclination(getDeviceID(), targetDeclination, getClientID(), getTransactionID()), "setTargetDeclination", targetDeclination);
     }
 
     /**
@@ -1855,7 +1860,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetDeclination">A full description of this member's behavior is provided here</a>
      */
     public void setTargetDeclination(int targetDeclination, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setTargetDeclination(getDeviceID(), targetDeclination, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setTargetDeclination(getDeviceID(), targetDeclination, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1877,7 +1882,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetRightAscension">A full description of this member's behavior is provided here</a>
      */
     public double getTargetRightAscension() {
-        DoubleResponse response = call(getClient().getTargetRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getTargetRightAscension");
+        DoubleResponse response = cachedCall(() -> getClient().getTargetRightAscension(getDeviceID(), getClientID(), getTransactionID()), "getTargetRightAscension");
         return response.getValue();
     }
 
@@ -1912,7 +1917,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetRightAscension">A full description of this member's behavior is provided here</a>
      */
     public void setTargetRightAscension(int targetRightAscension) {
-        AlpacaResponse response = call(getClient().setTargetRightAscension(getDeviceID(), targetRightAscension, getClientID(), getTransactionID()), "setTargetRightAscension", targetRightAscension);
+        AlpacaResponse response = updateCall(getClient().setTargetRightAscension(getDeviceID(), targetRightAscension, getClientID(), getTransactionID()), "setTargetRightAscension", targetRightAscension);
     }
 
     /**
@@ -1925,7 +1930,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TargetRightAscension">A full description of this member's behavior is provided here</a>
      */
     public void setTargetRightAscension(int targetRightAscension, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setTargetRightAscension(getDeviceID(), targetRightAscension, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setTargetRightAscension(getDeviceID(), targetRightAscension, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -1947,7 +1952,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Tracking">A full description of this member's behavior is provided here</a>
      */
     public boolean isTracking() {
-        BooleanResponse response = call(getClient().isTracking(getDeviceID(), getClientID(), getTransactionID()), "isTracking");
+        BooleanResponse response = cachedCall(() -> getClient().isTracking(getDeviceID(), getClientID(), getTransactionID()), "isTracking");
         return response.getValue();
     }
 
@@ -1982,7 +1987,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Tracking">A full description of this member's behavior is provided here</a>
      */
     public void setTracking(boolean tracking) {
-        AlpacaResponse response = call(getClient().setTracking(getDeviceID(), tracking, getClientID(), getTransactionID()), "setTracking", tracking);
+        AlpacaResponse response = updateCall(getClient().setTracking(getDeviceID(), tracking, getClientID(), getTransactionID()), "setTracking", tracking);
     }
 
     /**
@@ -1995,7 +2000,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.Tracking">A full description of this member's behavior is provided here</a>
      */
     public void setTracking(boolean tracking, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setTracking(getDeviceID(), tracking, getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setTracking(getDeviceID(), tracking, getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2017,7 +2022,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TrackingRate">A full description of this member's behavior is provided here</a>
      */
     public DriveRate getTrackingRate() {
-        IntResponse response = call(getClient().getTrackingRate(getDeviceID(), getClientID(), getTransactionID()), "getTrackingRate");
+        IntResponse response = cachedCall(() -> getClient().getTrackingRate(getDeviceID(), getClientID(), getTransactionID()), "getTrackingRate");
         return DriveRate.fromRate(response.getValue());
     }
 
@@ -2052,7 +2057,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TrackingRate">A full description of this member's behavior is provided here</a>
      */
     public void setTrackingRate(DriveRate trackingRate) {
-        AlpacaResponse response = call(getClient().setTrackingRate(getDeviceID(), trackingRate.getRate(), getClientID(), getTransactionID()), "setTrackingRate", trackingRate.getRate());
+        AlpacaResponse response = updateCall(getClient().setTrackingRate(getDeviceID(), trackingRate.getRate(), getClientID(), getTransactionID()), "setTrackingRate", trackingRate.getRate());
     }
 
     /**
@@ -2065,7 +2070,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TrackingRate">A full description of this member's behavior is provided here</a>
      */
     public void setTrackingRate(DriveRate trackingRate, AlpacaCallback<Void> callback) {
-        callAsync(getClient().setTrackingRate(getDeviceID(), trackingRate.getRate(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setTrackingRate(getDeviceID(), trackingRate.getRate(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2087,7 +2092,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.TrackingRates">A full description of this member's behavior is provided here</a>
      */
     public List<DriveRate> getTrackingRates() {
-        ListResponse<DriveRate> response = call(getClient().getTrackingRates(getDeviceID(), getClientID(), getTransactionID()), "getTrackingRates");
+        ListResponse<DriveRate> response = cachedCall(() -> getClient().getTrackingRates(getDeviceID(), getClientID(), getTransactionID()), "getTrackingRates");
         return response.getValue();
     }
 
@@ -2122,7 +2127,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.UTCDate">A full description of this member's behavior is provided here</a>
      */
     public Date getUTCDate() {
-        StringResponse response = call(getClient().getUTCDate(getDeviceID(), getClientID(), getTransactionID()), "getUTCDate");
+        StringResponse response = cachedCall(() -> getClient().getUTCDate(getDeviceID(), getClientID(), getTransactionID()), "getUTCDate");
         SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
         format.setTimeZone(TimeZone.getTimeZone("UTC"));
         try {
@@ -2144,7 +2149,7 @@ public class TelescopeClient extends CommonClient {
     public void setUTCDate(Date utcDate) {
         SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
         format.setTimeZone(TimeZone.getTimeZone("UTC"));
-        AlpacaResponse response = call(getClient().setUTCDate(getDeviceID(), format.format(utcDate), getClientID(), getTransactionID()), "setUTCDate", format.format(utcDate));
+        AlpacaResponse response = updateCall(getClient().setUTCDate(getDeviceID(), format.format(utcDate), getClientID(), getTransactionID()), "setUTCDate", format.format(utcDate));
     }
 
     /**
@@ -2158,7 +2163,7 @@ public class TelescopeClient extends CommonClient {
     public void setUTCDate(Date utcDate, AlpacaCallback<Void> callback) {
         SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
         format.setTimeZone(TimeZone.getTimeZone("UTC"));
-        callAsync(getClient().setUTCDate(getDeviceID(), format.format(utcDate), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setUTCDate(getDeviceID(), format.format(utcDate), getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2214,7 +2219,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.AxisRates">A full description of this member's behavior is provided here</a>
      */
     public List<AxisRate> getAxisRates(TelescopeAxes axis) {
-        ListResponse<AxisRate> response = call(getClient().getAxisRates(getDeviceID(), axis.getAxis(), getClientID(), getTransactionID()), "getAxisRates");
+        ListResponse<AxisRate> response = cachedCall(() -> getClient().getAxisRates(getDeviceID(), axis.getAxis(), getClientID(), getTransactionID()), "getAxisRates");
         return response.getValue();
     }
 
@@ -2251,7 +2256,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.CanMoveAxis">A full description of this member's behavior is provided here</a>
      */
     public boolean canMoveAxis(TelescopeAxes axis) {
-        BooleanResponse response = call(getClient().canMoveAxis(getDeviceID(), axis.getAxis(), getClientID(), getTransactionID()), "canMoveAxis", axis.getAxis());
+        BooleanResponse response = cachedCall(() -> getClient().canMoveAxis(getDeviceID(), axis.getAxis(), getClientID(), getTransactionID()), "canMoveAxis", axis.getAxis());
         return response.getValue();
     }
 
@@ -2289,7 +2294,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.DestinationSideOfPier">A full description of this member's behavior is provided here</a>
      */
     public PierSide getDestinationSideOfPier(double rightAscension, double declination) {
-        IntResponse response = call(getClient().getDestinationSideOfPier(getDeviceID(), rightAscension, declination, getClientID(), getTransactionID()), "getDestinationSideOfPier");
+        IntResponse response = cachedCall(() -> getClient().getDestinationSideOfPier(getDeviceID(), rightAscension, declination, getClientID(), getTransactionID()), "getDestinationSideOfPier");
         return PierSide.fromSide(response.getValue());
     }
 
@@ -2463,7 +2468,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SetPark">A full description of this member's behavior is provided here</a>
      */
     public void setPark() {
-        AlpacaResponse response = call(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), "setPark");
+        AlpacaResponse response = updateCall(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), "setPark");
     }
 
     /**
@@ -2475,7 +2480,7 @@ public class TelescopeClient extends CommonClient {
      * @see <a href="https://ascom-standards.org/newdocs/telescope.html#Telescope.SetPark">A full description of this member's behavior is provided here</a>
      */
     public void setPark(AlpacaCallback<Void> callback) {
-        callAsync(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
+        updateCallAsync(getClient().setPark(getDeviceID(), getClientID(), getTransactionID()), new AlpacaCallback<>() {
             @Override
             public void success(AlpacaResponse result) {
                 callback.success(null);
@@ -2845,4 +2850,15 @@ public class TelescopeClient extends CommonClient {
             }
         }, "unpark");
     }
+
+    /**
+     * Waits for the telescope to finish slewing, without blocking.
+     *
+     * @param timeout the maximum time to wait (in milliseconds), or 0 to wait without a timeout
+     * @return a future completed once the telescope is no longer slewing, or with a TimeoutException
+     * @see CompletionWaiter
+     */
+    public CompletableFuture<Boolean> awaitSlewCompletion(long timeout) {
+        return awaitCompletion("isSlewing", this::isSlewing, slewing -> !slewing, timeout);
+    }
 }
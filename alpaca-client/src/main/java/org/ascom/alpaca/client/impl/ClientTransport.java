@@ -0,0 +1,119 @@
+package org.ascom.alpaca.client.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.jackson.JacksonConverterFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The HTTP transport shared by all the Alpaca clients.  Building a Retrofit instance with its own
+ * {@link OkHttpClient} for every client gives each one its own connection pool, dispatcher thread pool and
+ * Jackson ObjectMapper.  Instead, all clients share a single OkHttpClient, so connections to a server are
+ * kept alive and reused by every client talking to it, and one Retrofit instance is kept per base URL.
+ *
+ * All the Retrofit instances are able to decode the Alpaca ImageBytes format as well as JSON.
+ */
+public final class ClientTransport {
+    private static final int maxIdleConnections = 16;
+    private static final long keepAliveMinutes = 5;
+    private static final int maxRequests = 64;
+    private static final int maxRequestsPerHost = 8;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JacksonConverterFactory jacksonConverterFactory = JacksonConverterFactory.create(objectMapper);
+    private static final ImageBytesConverterFactory imageBytesConverterFactory = ImageBytesConverterFactory.create(jacksonConverterFactory);
+    private static final OkHttpClient httpClient = buildHttpClient();
+    private static final Map<String, Retrofit> retrofits = new ConcurrentHashMap<>();
+    private static volatile Executor asyncExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Alpaca Client Async #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private ClientTransport() {
+    }
+
+    private static OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMinutes, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    /**
+     * The OkHttpClient shared by all the clients.  Anything needing different settings should derive
+     * a client from this one with {@link OkHttpClient#newBuilder()}, so the connection pool and dispatcher
+     * are still shared.
+     * @return the shared OkHttpClient
+     */
+    public static OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * The ObjectMapper shared by all the clients.
+     * @return the shared ObjectMapper
+     */
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Returns the Retrofit instance for the given base URL, creating it the first time it's requested.
+     * @param baseUrl the base URL of the API
+     * @return the Retrofit instance for the base URL
+     */
+    public static Retrofit getRetrofit(String baseUrl) {
+        return retrofits.computeIfAbsent(baseUrl, url -> new Retrofit.Builder()
+                .baseUrl(url)
+                .client(httpClient)
+                .addConverterFactory(imageBytesConverterFactory)
+                .addConverterFactory(jacksonConverterFactory)
+                .build());
+    }
+
+    /**
+     * Creates an implementation of the given API using the Retrofit instance for the base URL.
+     * @param baseUrl the base URL of the API
+     * @param api the API interface to implement
+     * @return an implementation of the API
+     * @param <T> the type of the API
+     */
+    public static <T> T create(String baseUrl, Class<T> api) {
+        return getRetrofit(baseUrl).create(api);
+    }
+
+    /**
+     * The executor the CompletableFuture variants of the client calls run on, unless a client has been given
+     * an executor of its own.  By default, this is a cached pool of daemon threads.
+     * @return the default executor for asynchronous calls
+     */
+    public static Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor the CompletableFuture variants of the client calls run on, for example a virtual thread
+     * per task executor on Java 21 or later.
+     * @param executor the default executor for asynchronous calls
+     */
+    public static void setAsyncExecutor(Executor executor) {
+        asyncExecutor = Objects.requireNonNull(executor);
+    }
+}
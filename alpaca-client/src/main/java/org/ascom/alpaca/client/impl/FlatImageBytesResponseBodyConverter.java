@@ -0,0 +1,162 @@
+package org.ascom.alpaca.client.impl;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import org.ascom.alpaca.model.FlatImageArray;
+import org.ascom.alpaca.model.ImageArray;
+import org.ascom.alpaca.model.ImageElementType;
+import org.ascom.alpaca.response.FlatImageArrayResponse;
+import org.ascom.alpaca.response.ImageArrayResponse;
+import retrofit2.Converter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * A response body converter that decodes image data in the Alpaca ImageBytes format straight into
+ * a {@link FlatImageArray}.  Unlike {@link ImageBytesResponseBodyConverter}, the image data is read
+ * from the response directly into a single buffer, keeping the width of the transmitted elements,
+ * so no per-row buffers are allocated and the image takes roughly the same space as it did on the wire.
+ * If the results don't have a media type of "application/imagebytes", it falls back to JSON decoding
+ * via the standard Retrofit Jackson-based converter and converts the resulting ImageArray.
+ *
+ * @param <T> Generic type of the converted output, which should only be a FlatImageArrayResponse.
+ */
+public class FlatImageBytesResponseBodyConverter<T> implements Converter<ResponseBody, T> {
+    private static final MediaType imageBytesMediaType = MediaType.get("application/imagebytes");
+    private static final int headerSize = 44;
+    private static final int chunkSize = 64 * 1024;
+
+    private final Converter<ResponseBody, ImageArrayResponse> jacksonConverter;
+
+    FlatImageBytesResponseBodyConverter(Converter<ResponseBody, ImageArrayResponse> jacksonConverter) {
+        this.jacksonConverter = jacksonConverter;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T convert(ResponseBody response) throws IOException {
+        MediaType mediaType = response.contentType();
+        // If the device doesn't support ImageBytes encoding, we need to fall back to
+        // JSON decoding.
+        if (mediaType == null || !mediaType.equals(imageBytesMediaType)) {
+            return (T) fromImageArrayResponse(jacksonConverter.convert(response));
+        }
+        try (response) {
+            BufferedSource source = response.source();
+            source.require(headerSize);
+            int metadataVersion = source.readIntLe();
+            int errorNumber = source.readIntLe();
+            int clientTransactionID = source.readIntLe();
+            int serverTransactionID = source.readIntLe();
+            int dataStart = source.readIntLe();
+            int imageElementType = source.readIntLe();
+            int transmissionElementType = source.readIntLe();
+            int rank = source.readIntLe();
+            int dimension1 = source.readIntLe();
+            int dimension2 = source.readIntLe();
+            int dimension3 = source.readIntLe();
+
+            // If there is an error, the device may return some error text where the image would normally
+            // be returned
+            if (errorNumber != 0) {
+                FlatImageArrayResponse errorResponse = new FlatImageArrayResponse(clientTransactionID, serverTransactionID, null);
+                errorResponse.setErrorNumber(errorNumber);
+                errorResponse.setErrorMessage(source.readUtf8());
+                return (T) errorResponse;
+            }
+            if (rank != 2 && rank != 3) {
+                throw new IOException("Received an unsupported image rank: " + rank);
+            }
+            // Later versions of the metadata may have a larger header, so skip to the start of the image data
+            if (dataStart > headerSize) {
+                source.skip(dataStart - headerSize);
+            }
+
+            ImageElementType elementType = getTransmissionElementType(transmissionElementType);
+            ImageArray.Type type = imageElementType >= 0 && imageElementType <= 3 ? ImageArray.Type.fromType(imageElementType) : ImageArray.Type.Integer;
+            FlatImageArray image = FlatImageArray.allocate(type, elementType, dimension1, dimension2, rank == 3 ? dimension3 : 0);
+            if (rank == 2) {
+                readFully(source, image.getData());
+            } else {
+                readPlanes(source, image);
+            }
+            return (T) new FlatImageArrayResponse(clientTransactionID, serverTransactionID, image);
+        }
+    }
+
+    private static ImageElementType getTransmissionElementType(int transmissionElementType) throws IOException {
+        try {
+            ImageElementType elementType = ImageElementType.fromCode(transmissionElementType);
+            if (elementType != ImageElementType.Unknown) {
+                return elementType;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to report the bad element type
+        }
+        throw new IOException("Received an unknown or unsupported transmissionElementType: " + transmissionElementType);
+    }
+
+    private static void readFully(BufferedSource source, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            if (source.read(data) < 0) {
+                throw new EOFException("Image data ended after " + data.position() + " of " + data.limit() + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Reads a multi-plane image.  On the wire the plane index varies fastest, so the elements are read
+     * through a small chunk buffer and scattered into their planes.
+     */
+    private static void readPlanes(BufferedSource source, FlatImageArray image) throws IOException {
+        ByteBuffer data = image.getData();
+        ByteBuffer chunk = ByteBuffer.allocate(chunkSize).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.limit(0);
+        int size = image.getElementType().getSize();
+        for (int x = 0; x < image.getDimension1(); x++) {
+            for (int y = 0; y < image.getDimension2(); y++) {
+                for (int plane = 0; plane < image.getDimension3(); plane++) {
+                    if (chunk.remaining() < size) {
+                        chunk.compact();
+                        while (chunk.position() < size) {
+                            if (source.read(chunk) < 0) {
+                                throw new EOFException("Image data ended before pixel " + x + "," + y + "," + plane);
+                            }
+                        }
+                        chunk.flip();
+                    }
+                    int offset = image.getIndex(x, y, plane) * size;
+                    switch (size) {
+                        case 1 -> data.put(offset, chunk.get());
+                        case 2 -> data.putShort(offset, chunk.getShort());
+                        case 4 -> data.putInt(offset, chunk.getInt());
+                        default -> data.putLong(offset, chunk.getLong());
+                    }
+                }
+            }
+        }
+    }
+
+    private static FlatImageArrayResponse fromImageArrayResponse(ImageArrayResponse response) {
+        FlatImageArray image = null;
+        int[][] value = response.getValue();
+        if (value != null) {
+            int dimension1 = value.length;
+            int dimension2 = dimension1 > 0 ? value[0].length : 0;
+            image = FlatImageArray.allocate(response.getType(), ImageElementType.Int32, dimension1, dimension2);
+            IntBuffer data = image.getData().asIntBuffer();
+            for (int[] column : value) {
+                data.put(column);
+            }
+        }
+        FlatImageArrayResponse flatResponse = new FlatImageArrayResponse(response.getClientTransactionID(), response.getServerTransactionID(), image);
+        flatResponse.setErrorNumber(response.getErrorNumber());
+        flatResponse.setErrorMessage(response.getErrorMessage());
+        return flatResponse;
+    }
+}
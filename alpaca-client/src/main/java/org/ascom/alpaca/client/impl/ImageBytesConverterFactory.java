@@ -3,6 +3,7 @@ package org.ascom.alpaca.client.impl;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import org.ascom.alpaca.response.FlatImageArrayResponse;
 import org.ascom.alpaca.response.ImageArrayResponse;
 import retrofit2.Converter;
 import retrofit2.Retrofit;
@@ -33,6 +34,9 @@ public class ImageBytesConverterFactory extends Converter.Factory {
 
     @Override
     public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        if (type == FlatImageArrayResponse.class) {
+            return new FlatImageBytesResponseBodyConverter<>(jsonConverter(ImageArrayResponse.class, annotations, retrofit));
+        }
         if (type != ImageArrayResponse.class) {
             return null;
         }
@@ -40,6 +44,11 @@ public class ImageBytesConverterFactory extends Converter.Factory {
         return new ImageBytesResponseBodyConverter<>(jacksonConverterFactory.responseBodyConverter(type, annotations, retrofit));
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> Converter<ResponseBody, T> jsonConverter(Class<T> type, Annotation[] annotations, Retrofit retrofit) {
+        return (Converter<ResponseBody, T>) jacksonConverterFactory.responseBodyConverter(type, annotations, retrofit);
+    }
+
     @Override
     public Converter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations, Annotation[] methodAnnotations, Retrofit retrofit) {
         // We only receive them so no need to marshall them
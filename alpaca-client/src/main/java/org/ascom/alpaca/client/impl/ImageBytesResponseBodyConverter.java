@@ -3,7 +3,6 @@ package org.ascom.alpaca.client.impl;
 import okhttp3.MediaType;
 import okhttp3.ResponseBody;
 import org.ascom.alpaca.model.ImageArray;
-import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.ImageArrayResponse;
 import retrofit2.Converter;
 
@@ -56,7 +55,17 @@ public class ImageBytesResponseBodyConverter<T> implements Converter<ResponseBod
             // be returned
             if (errorNumber != 0) {
                 String errorString = new String(is.readAllBytes());
-                new AlpacaResponse(clientTransactionID, serverTransacitonID, errorNumber, errorString);
+                ImageArrayResponse errorResponse = new ImageArrayResponse();
+                errorResponse.setClientTransactionID(clientTransactionID);
+                errorResponse.setServerTransactionID(serverTransacitonID);
+                errorResponse.setErrorNumber(errorNumber);
+                errorResponse.setErrorMessage(errorString);
+                return (T) errorResponse;
+            }
+
+            // An ImageArray can only hold a single plane, multi-plane images need to be decoded as a FlatImageArray
+            if (rank != 2) {
+                throw new IOException("Received an image of rank " + rank + " which can't be held in an ImageArray");
             }
 
             int[][] imageArray = new int[dimension1][dimension2];
@@ -192,6 +192,12 @@ public interface Camera {
                                            @Query("ClientID") int clientID,
                                            @Query("ClientTransactionID") long clientTransactionID);
 
+    @GET("api/v1/camera/{deviceNumber}/imagearray")
+    Call<FlatImageArrayResponse> getFlatImageArray(@Header("Accept") String mediaType,
+                                                   @Path("deviceNumber") int deviceNumber,
+                                                   @Query("ClientID") int clientID,
+                                                   @Query("ClientTransactionID") long clientTransactionID);
+
     @GET("api/v1/camera/{deviceNumber}/imagearrayvariant")
     Call<ImageArrayResponse> getImageArrayVariant(@Path("deviceNumber") int deviceNumber,
                                                   @Query("ClientID") int clientID,
@@ -1,6 +1,7 @@
 package org.ascom.alpaca.client.impl.api;
 
 
+import org.ascom.alpaca.model.PropertyValue;
 import org.ascom.alpaca.model.StateValue;
 import org.ascom.alpaca.response.*;
 import retrofit2.Call;
@@ -93,4 +94,16 @@ public interface Common {
                                        @Field("ClientTransactionID") long clientTransactionID,
                                        @Field("Action") String action,
                                        @Field("Parameters") String parameters);
+
+    @GET("{deviceType}/{deviceNumber}/properties")
+    Call<ListResponse<PropertyValue>> getProperties(@Path("deviceType") String deviceType,
+                                                    @Path("deviceNumber") int deviceNumber,
+                                                    @Query("ClientID") int clientID,
+                                                    @Query("ClientTransactionID") long clientTransactionID,
+                                                    @Query("Names") String names);
+
+    @GET("properties")
+    Call<ListResponse<PropertyValue>> getProperties(@Query("ClientID") int clientID,
+                                                    @Query("ClientTransactionID") long clientTransactionID,
+                                                    @Query("Properties") String properties);
 }
@@ -20,4 +20,19 @@ public class ClientException extends RuntimeException {
         }
     }
 
+    /**
+     * Completes the futures of the asynchronous calls that report an error to their callback.
+     */
+    public static class CallbackError extends ClientException {
+        private final AlpacaClientError error;
+
+        public CallbackError(AlpacaClientError error) {
+            super(error.getErrorMessage() != null ? error.getErrorMessage() : "Error " + error.getErrorCode());
+            this.error = error;
+        }
+
+        public AlpacaClientError getError() {
+            return error;
+        }
+    }
 }
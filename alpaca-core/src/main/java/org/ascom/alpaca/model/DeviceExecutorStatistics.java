@@ -0,0 +1,27 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Diagnostic information about the executor that runs the calls to a device on an Alpaca server.
+ *
+ * @param deviceType the type of the device
+ * @param deviceNumber the device number of the device
+ * @param deviceName the name of the device
+ * @param active the number of calls the device is currently handling
+ * @param queued the number of calls waiting for the device
+ * @param maxQueued the largest number of calls that have been waiting for the device at once
+ * @param completed the number of calls the device has handled
+ * @param rejected the number of calls turned away because too many were already waiting
+ * @param timedOut the number of calls that took longer than the timeout
+ */
+public record DeviceExecutorStatistics(@JsonProperty("DeviceType") DeviceType deviceType,
+                                       @JsonProperty("DeviceNumber") int deviceNumber,
+                                       @JsonProperty("DeviceName") String deviceName,
+                                       @JsonProperty("Active") int active,
+                                       @JsonProperty("Queued") int queued,
+                                       @JsonProperty("MaxQueued") int maxQueued,
+                                       @JsonProperty("Completed") long completed,
+                                       @JsonProperty("Rejected") long rejected,
+                                       @JsonProperty("TimedOut") long timedOut) {
+}
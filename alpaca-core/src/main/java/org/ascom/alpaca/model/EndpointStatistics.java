@@ -0,0 +1,19 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Diagnostic information about the calls made to one endpoint of a device through the device's command queue.
+ *
+ * @param endpoint the endpoint, such as telescope/0/rightascension
+ * @param calls the number of calls made to the device for the endpoint
+ * @param coalesced the number of requests answered with the result of a call already in progress
+ * @param meanWaitMillis the average time calls waited in the queue for the device, in milliseconds
+ * @param maxWaitMillis the longest time a call waited in the queue for the device, in milliseconds
+ */
+public record EndpointStatistics(@JsonProperty("Endpoint") String endpoint,
+                                 @JsonProperty("Calls") long calls,
+                                 @JsonProperty("Coalesced") long coalesced,
+                                 @JsonProperty("MeanWaitMillis") double meanWaitMillis,
+                                 @JsonProperty("MaxWaitMillis") double maxWaitMillis) {
+}
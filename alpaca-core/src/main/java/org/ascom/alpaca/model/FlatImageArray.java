@@ -0,0 +1,324 @@
+package org.ascom.alpaca.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An image held in a single contiguous buffer of primitive elements, rather than the {@code int[][]}
+ * used by {@link ImageArray}.  The elements are kept in the width they were transmitted in
+ * (byte, 16, 32 or 64 bit integers, or floating point values), so an image takes about the same amount
+ * of memory as it did on the wire and can be filled directly from the network without any per-row allocations.
+ *
+ * The elements are stored in little-endian order.  Multi-plane (rank 3) images are stored plane by plane,
+ * with each plane laid out in the same order used by the Alpaca ImageBytes format: the Y index (dimension 2)
+ * varies fastest, so the element for pixel (x, y) of a plane is found at index
+ * {@code plane * getPlaneSize() + x * getStride() + y}.  Single plane (rank 2) images are simply a single plane.
+ *
+ * @see ImageArray
+ * @see <a href="https://ascom-standards.org/AlpacaDeveloper/ASCOMAlpacaAPIReference.html">ImageBytes description in the Alpaca API reference</a>
+ */
+@SuppressWarnings("unused")
+public class FlatImageArray {
+    private final ImageArray.Type type;
+    private final ImageArray.Rank rank;
+    private final ImageElementType elementType;
+    private final int dimension1;
+    private final int dimension2;
+    private final int dimension3;
+    private final ByteBuffer data;
+
+    /**
+     * Creates a new single plane image backed by the supplied buffer.
+     *
+     * @param type the type of the image elements as held by the device
+     * @param elementType the type of the elements stored in the buffer
+     * @param dimension1 the size of the first dimension of the image (NumX)
+     * @param dimension2 the size of the second dimension of the image (NumY)
+     * @param data the buffer holding the elements, starting at position 0
+     */
+    public FlatImageArray(ImageArray.Type type,
+                          ImageElementType elementType,
+                          int dimension1,
+                          int dimension2,
+                          ByteBuffer data) {
+        this(type, elementType, dimension1, dimension2, 0, data);
+    }
+
+    /**
+     * Creates a new image backed by the supplied buffer.  If dimension3 is greater than zero, the image is
+     * a multi-plane (rank 3) image and the buffer holds each of the planes one after the other.
+     *
+     * @param type the type of the image elements as held by the device
+     * @param elementType the type of the elements stored in the buffer
+     * @param dimension1 the size of the first dimension of the image (NumX)
+     * @param dimension2 the size of the second dimension of the image (NumY)
+     * @param dimension3 the number of planes in the image, or 0 for a single plane image
+     * @param data the buffer holding the elements, starting at position 0
+     */
+    public FlatImageArray(ImageArray.Type type,
+                          ImageElementType elementType,
+                          int dimension1,
+                          int dimension2,
+                          int dimension3,
+                          ByteBuffer data) {
+        if (dimension1 < 0 || dimension2 < 0 || dimension3 < 0) {
+            throw new IllegalArgumentException("Image dimensions cannot be negative: " + describe(dimension1, dimension2, dimension3));
+        }
+        if (elementType == ImageElementType.Unknown) {
+            throw new IllegalArgumentException("The image element type must be known");
+        }
+        if (data.capacity() < getByteCount(elementType, dimension1, dimension2, dimension3)) {
+            throw new IllegalArgumentException("Buffer of " + data.capacity() + " bytes is too small for a "
+                    + describe(dimension1, dimension2, dimension3) + " image of " + elementType);
+        }
+        this.type = type;
+        this.rank = dimension3 > 0 ? ImageArray.Rank.MultiPlan : ImageArray.Rank.SinglePlane;
+        this.elementType = elementType;
+        this.dimension1 = dimension1;
+        this.dimension2 = dimension2;
+        this.dimension3 = dimension3;
+        this.data = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Allocates a new image with a direct buffer large enough to hold all of its elements.
+     *
+     * @param type the type of the image elements as held by the device
+     * @param elementType the type of the elements stored in the buffer
+     * @param dimension1 the size of the first dimension of the image (NumX)
+     * @param dimension2 the size of the second dimension of the image (NumY)
+     * @return the newly allocated image, with all elements set to zero
+     */
+    public static FlatImageArray allocate(ImageArray.Type type,
+                                          ImageElementType elementType,
+                                          int dimension1,
+                                          int dimension2) {
+        return allocate(type, elementType, dimension1, dimension2, 0);
+    }
+
+    /**
+     * Allocates a new image with a direct buffer large enough to hold all of its elements.
+     *
+     * @param type the type of the image elements as held by the device
+     * @param elementType the type of the elements stored in the buffer
+     * @param dimension1 the size of the first dimension of the image (NumX)
+     * @param dimension2 the size of the second dimension of the image (NumY)
+     * @param dimension3 the number of planes in the image, or 0 for a single plane image
+     * @return the newly allocated image, with all elements set to zero
+     */
+    public static FlatImageArray allocate(ImageArray.Type type,
+                                          ImageElementType elementType,
+                                          int dimension1,
+                                          int dimension2,
+                                          int dimension3) {
+        long size = getByteCount(elementType, dimension1, dimension2, dimension3);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Image of " + describe(dimension1, dimension2, dimension3) + " " + elementType + " is too large");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        return new FlatImageArray(type, elementType, dimension1, dimension2, dimension3, buffer);
+    }
+
+    private static long getByteCount(ImageElementType elementType, int dimension1, int dimension2, int dimension3) {
+        return (long) dimension1 * dimension2 * Math.max(dimension3, 1) * elementType.getSize();
+    }
+
+    private static String describe(int dimension1, int dimension2, int dimension3) {
+        return dimension3 > 0 ? dimension1 + "x" + dimension2 + "x" + dimension3 : dimension1 + "x" + dimension2;
+    }
+
+    public ImageArray.Type getType() {
+        return type;
+    }
+
+    public ImageArray.Rank getRank() {
+        return rank;
+    }
+
+    /**
+     * The type of the elements held in the buffer.
+     * @return the element type
+     */
+    public ImageElementType getElementType() {
+        return elementType;
+    }
+
+    public int getDimension1() {
+        return dimension1;
+    }
+
+    public int getDimension2() {
+        return dimension2;
+    }
+
+    /**
+     * The number of planes in a multi-plane image.  This is 0 for single plane images.
+     * @return the size of the third dimension of the image
+     */
+    public int getDimension3() {
+        return dimension3;
+    }
+
+    /**
+     * The number of planes held in the buffer, which is 1 for single plane images.
+     * @return the number of planes
+     */
+    public int getPlaneCount() {
+        return Math.max(dimension3, 1);
+    }
+
+    /**
+     * The number of elements in each plane of the image.
+     * @return the size of a plane in elements
+     */
+    public int getPlaneSize() {
+        return dimension1 * dimension2;
+    }
+
+    /**
+     * The number of elements between consecutive X positions in the buffer.
+     * @return the stride of the image in elements
+     */
+    public int getStride() {
+        return dimension2;
+    }
+
+    /**
+     * The total number of elements in the image.
+     * @return the number of elements
+     */
+    public int getElementCount() {
+        return getPlaneSize() * getPlaneCount();
+    }
+
+    /**
+     * Returns a view of the underlying buffer.  The view is positioned at the first element and its limit
+     * is set to the end of the image data.  Changes to the contents of the view are reflected in this image.
+     * @return a little-endian view of the image data
+     */
+    public ByteBuffer getData() {
+        ByteBuffer view = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        view.position(0).limit(getElementCount() * elementType.getSize());
+        return view;
+    }
+
+    /**
+     * Returns the index in the buffer of the element for the given pixel.
+     *
+     * @param x the X position of the pixel
+     * @param y the Y position of the pixel
+     * @param plane the plane of the pixel
+     * @return the index of the element
+     */
+    public int getIndex(int x, int y, int plane) {
+        return plane * getPlaneSize() + x * dimension2 + y;
+    }
+
+    /**
+     * Returns the value of the pixel at the given position of a single plane image.
+     *
+     * @param x the X position of the pixel
+     * @param y the Y position of the pixel
+     * @return the value of the pixel
+     */
+    public int getPixel(int x, int y) {
+        return getElement(x * dimension2 + y);
+    }
+
+    /**
+     * Returns the value of the pixel at the given position of a multi-plane image.
+     *
+     * @param x the X position of the pixel
+     * @param y the Y position of the pixel
+     * @param plane the plane of the pixel
+     * @return the value of the pixel
+     */
+    public int getPixel(int x, int y, int plane) {
+        return getElement(getIndex(x, y, plane));
+    }
+
+    /**
+     * Returns the value of the pixel at the given position of a single plane image as a double.  This
+     * can be used for images of any element type.
+     *
+     * @param x the X position of the pixel
+     * @param y the Y position of the pixel
+     * @return the value of the pixel
+     */
+    public double getPixelAsDouble(int x, int y) {
+        return getElementAsDouble(x * dimension2 + y);
+    }
+
+    /**
+     * Returns the value of the pixel at the given position of a multi-plane image as a double.  This
+     * can be used for images of any element type.
+     *
+     * @param x the X position of the pixel
+     * @param y the Y position of the pixel
+     * @param plane the plane of the pixel
+     * @return the value of the pixel
+     */
+    public double getPixelAsDouble(int x, int y, int plane) {
+        return getElementAsDouble(getIndex(x, y, plane));
+    }
+
+    /**
+     * Returns the element at the given index in the buffer.  This is only supported for element types
+     * whose values always fit in an int.  Use {@link #getElementAsDouble(int)} for the other types.
+     *
+     * @param index the index of the element
+     * @return the value of the element
+     */
+    public int getElement(int index) {
+        return switch (elementType) {
+            case Byte -> data.get(index) & 0xFF;
+            case Int16 -> data.getShort(index * 2);
+            case UInt16 -> data.getShort(index * 2) & 0xFFFF;
+            case Int32 -> data.getInt(index * 4);
+            default -> throw new UnsupportedOperationException("Elements of type " + elementType + " cannot be read as an int");
+        };
+    }
+
+    /**
+     * Returns the element at the given index in the buffer as a double.
+     *
+     * @param index the index of the element
+     * @return the value of the element
+     */
+    public double getElementAsDouble(int index) {
+        return switch (elementType) {
+            case Byte, Int16, UInt16, Int32 -> getElement(index);
+            case UInt32 -> data.getInt(index * 4) & 0xFFFFFFFFL;
+            case Int64 -> data.getLong(index * 8);
+            case UInt64 -> {
+                long value = data.getLong(index * 8);
+                yield value >= 0 ? value : (double) (value >>> 1) * 2.0;
+            }
+            case Single -> data.getFloat(index * 4);
+            case Double -> data.getDouble(index * 8);
+            default -> throw new UnsupportedOperationException("Elements of type " + elementType + " are not supported");
+        };
+    }
+
+    /**
+     * Converts this image into an {@link ImageArray}.  This allocates a full {@code int[][]} copy of
+     * the image, so should only be used where an ImageArray is required.  As an ImageArray can only hold
+     * a single plane of integers, this is only supported for single plane images with integer elements
+     * that fit in an int.
+     * @return a copy of this image as an ImageArray
+     */
+    public ImageArray toImageArray() {
+        if (rank != ImageArray.Rank.SinglePlane) {
+            throw new UnsupportedOperationException("Multi-plane images cannot be converted to an ImageArray");
+        }
+        int[][] value = new int[dimension1][dimension2];
+        int index = 0;
+        for (int x = 0; x < dimension1; x++) {
+            int[] column = value[x];
+            for (int y = 0; y < dimension2; y++) {
+                column[y] = getElement(index++);
+            }
+        }
+        return new ImageArray(type, rank, value);
+    }
+}
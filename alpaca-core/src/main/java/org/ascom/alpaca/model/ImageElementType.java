@@ -0,0 +1,56 @@
+package org.ascom.alpaca.model;
+
+/**
+ * The element types used in the Alpaca ImageBytes metadata to describe both the type of the image
+ * elements held by the device (ImageElementType) and the type of the elements as they are
+ * transmitted over the wire (TransmissionElementType).  The element codes are defined in the
+ * Alpaca specification.
+ *
+ * @see <a href="https://ascom-standards.org/AlpacaDeveloper/ASCOMAlpacaAPIReference.html">ImageBytes description in the Alpaca API reference</a>
+ */
+@SuppressWarnings("unused")
+public enum ImageElementType {
+    Unknown(0, 0),
+    Int16(1, 2),
+    Int32(2, 4),
+    Double(3, 8),
+    Single(4, 4),
+    UInt64(5, 8),
+    Byte(6, 1),
+    Int64(7, 8),
+    UInt16(8, 2),
+    UInt32(9, 4);
+
+    private final int code;
+    private final int size;
+
+    ImageElementType(int code, int size) {
+        this.code = code;
+        this.size = size;
+    }
+
+    /**
+     * The element type code used in the ImageBytes metadata.
+     * @return the element type code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * The number of bytes each element of this type takes on the wire.
+     * @return the size of the element in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public static ImageElementType fromCode(int code) {
+        for (ImageElementType type : ImageElementType.values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Cannot have an image element type of value " + code);
+    }
+}
@@ -0,0 +1,23 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The value of one device property read by a batched property read.  Each property is read on its own, so a
+ * property that fails to read carries the error the read would have returned, and the other properties of the
+ * batch are still returned.
+ *
+ * @param deviceType the type of the device
+ * @param deviceNumber the device number of the device
+ * @param name the name of the property, which is the endpoint it's read from, such as rightascension
+ * @param value the value of the property, or null if the read failed
+ * @param errorNumber the Alpaca error number of the read, or 0 if it succeeded
+ * @param errorMessage the error message of the read, or an empty string if it succeeded
+ */
+public record PropertyValue(@JsonProperty("DeviceType") DeviceType deviceType,
+                            @JsonProperty("DeviceNumber") int deviceNumber,
+                            @JsonProperty("Name") String name,
+                            @JsonProperty("Value") Object value,
+                            @JsonProperty("ErrorNumber") int errorNumber,
+                            @JsonProperty("ErrorMessage") String errorMessage) {
+}
@@ -0,0 +1,40 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Statistics of the recent measurements of an observing conditions sensor, over the device's average period.
+ * Devices that support it return these from the {@link #ACTION} action, as a JSON array with one element for each
+ * sensor asked for.
+ *
+ * @param sensor the name of the sensor, such as windspeed
+ * @param count the number of measurements
+ * @param latest the most recent measurement
+ * @param timestamp the time of the most recent measurement, in milliseconds since the epoch
+ * @param mean the average of the measurements
+ * @param min the smallest measurement
+ * @param max the largest measurement, such as the peak gust
+ * @param standardDeviation the sample standard deviation of the measurements
+ * @param median the median of the measurements
+ * @param percentile90 the 90th percentile of the measurements
+ * @param percentile95 the 95th percentile of the measurements
+ * @param percentile99 the 99th percentile of the measurements
+ */
+public record SensorAggregates(@JsonProperty("Sensor") String sensor,
+                               @JsonProperty("Count") int count,
+                               @JsonProperty("Latest") double latest,
+                               @JsonProperty("Timestamp") long timestamp,
+                               @JsonProperty("Mean") double mean,
+                               @JsonProperty("Min") double min,
+                               @JsonProperty("Max") double max,
+                               @JsonProperty("StandardDeviation") double standardDeviation,
+                               @JsonProperty("Median") double median,
+                               @JsonProperty("Percentile90") double percentile90,
+                               @JsonProperty("Percentile95") double percentile95,
+                               @JsonProperty("Percentile99") double percentile99) {
+    /**
+     * The name of the action that returns the aggregates.  Its parameters are a comma separated list of sensor names,
+     * or an empty string for all the sensors the device supports.
+     */
+    public static final String ACTION = "getAggregates";
+}
@@ -0,0 +1,21 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Diagnostic information about the client sessions of a device on an Alpaca server.
+ *
+ * @param deviceType the type of the device
+ * @param deviceNumber the device number of the device
+ * @param deviceName the name of the device
+ * @param clients the number of clients currently connected to the device
+ * @param maxClients the maximum number of clients that can connect to the device, or 0 if there's no limit
+ * @param expiredSessions the number of clients disconnected from the device because they were idle
+ */
+public record SessionStatistics(@JsonProperty("DeviceType") DeviceType deviceType,
+                                @JsonProperty("DeviceNumber") int deviceNumber,
+                                @JsonProperty("DeviceName") String deviceName,
+                                @JsonProperty("Clients") int clients,
+                                @JsonProperty("MaxClients") int maxClients,
+                                @JsonProperty("ExpiredSessions") long expiredSessions) {
+}
@@ -0,0 +1,15 @@
+package org.ascom.alpaca.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Diagnostic information about the transaction IDs handed out by an Alpaca server.
+ *
+ * @param issued the total number of transaction IDs handed out since the server started
+ * @param lastID the most recent transaction ID handed out
+ * @param stripes the number of stripes the server's transaction ID sequence is split into
+ */
+public record TransactionStatistics(@JsonProperty("Issued") long issued,
+                                    @JsonProperty("LastID") int lastID,
+                                    @JsonProperty("Stripes") int stripes) {
+}
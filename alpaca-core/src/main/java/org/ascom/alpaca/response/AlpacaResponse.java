@@ -6,7 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * The base class for all Alpaca responses.  It includes the attributes common to all Alpaca responses.
  */
 @SuppressWarnings("unused")
-public class AlpacaResponse {
+public class AlpacaResponse implements Cloneable {
     private long clientTransactionID = 0;
     private int serverTransactionID = 0;
     private int errorNumber = 0;
@@ -87,4 +87,18 @@ public class AlpacaResponse {
     public void setErrorMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
+
+    /**
+     * Returns a shallow copy of this response.  The copy can be given its own transaction IDs, so one result
+     * can be returned to several requests.
+     * @return a copy of this response
+     */
+    @Override
+    public AlpacaResponse clone() {
+        try {
+            return (AlpacaResponse) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
 }
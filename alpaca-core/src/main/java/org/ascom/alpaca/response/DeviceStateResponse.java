@@ -0,0 +1,38 @@
+package org.ascom.alpaca.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * The Alpaca response for the device state, where the list of state values has already been serialized
+ * to JSON.  This lets a server serialize the state of a device once and send it to every client asking for
+ * it.  On the wire it is identical to a {@link ListResponse} of {@link org.ascom.alpaca.model.StateValue},
+ * which is what clients should use to read it.
+ */
+@SuppressWarnings("unused")
+public class DeviceStateResponse extends AlpacaResponse {
+    private String value;
+
+    public DeviceStateResponse() {
+        super();
+    }
+
+    public DeviceStateResponse(long clientTransactionID, String value) {
+        super(clientTransactionID);
+        this.value = value;
+    }
+
+    /**
+     * The device state values as a JSON array.
+     * @return the JSON encoded state values
+     */
+    @JsonRawValue
+    @JsonProperty("Value")
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,40 @@
+package org.ascom.alpaca.response;
+
+import org.ascom.alpaca.model.FlatImageArray;
+
+/**
+ * The Alpaca response for an image held in a {@link FlatImageArray}.  This response is produced
+ * when an image is transferred with the ImageBytes mechanism and decoded straight into a
+ * single primitive buffer.
+ */
+@SuppressWarnings("unused")
+public class FlatImageArrayResponse extends AlpacaResponse {
+    private FlatImageArray value;
+
+    public FlatImageArrayResponse() {
+        super();
+    }
+
+    public FlatImageArrayResponse(FlatImageArray value) {
+        super();
+        this.value = value;
+    }
+
+    public FlatImageArrayResponse(long clientTransactionID, FlatImageArray value) {
+        super(clientTransactionID);
+        this.value = value;
+    }
+
+    public FlatImageArrayResponse(long clientTransactionID, int serverTransactionID, FlatImageArray value) {
+        super(clientTransactionID, serverTransactionID, 0, "");
+        this.value = value;
+    }
+
+    public FlatImageArray getValue() {
+        return value;
+    }
+
+    public void setValue(FlatImageArray value) {
+        this.value = value;
+    }
+}
@@ -1,17 +1,26 @@
 package org.ascom.alpaca.response;
 
 /**
- * The TransactionIDFactory is used to generate unique transaction IDs for Alpaca requests.
+ * The TransactionIDFactory is used to generate unique transaction IDs for Alpaca requests.  It holds
+ * the default client and server sequences, for code that doesn't have a {@link TransactionIDSequence} of its own.
  */
 public class TransactionIDFactory {
-    private static int clientTransactionID = 0;
-    private static int serverTransactionID = 0;
+    private static final TransactionIDSequence clientTransactionIDs = new TransactionIDSequence();
+    private static final TransactionIDSequence serverTransactionIDs = new TransactionIDSequence();
 
-    public static synchronized int getClientTransactionID() {
-        return ++clientTransactionID;
+    public static int getClientTransactionID() {
+        return clientTransactionIDs.next();
     }
 
-    public static synchronized int getServerTransactionID() {
-        return ++serverTransactionID;
+    public static int getServerTransactionID() {
+        return serverTransactionIDs.next();
+    }
+
+    public static TransactionIDSequence getClientSequence() {
+        return clientTransactionIDs;
+    }
+
+    public static TransactionIDSequence getServerSequence() {
+        return serverTransactionIDs;
     }
 }
@@ -0,0 +1,101 @@
+package org.ascom.alpaca.response;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free sequence of Alpaca transaction IDs.  IDs are always positive, and once the sequence reaches the
+ * largest value an Alpaca transaction ID can hold it wraps back around to 1.
+ *
+ * For servers handling requests on many threads at once, the sequence can be split into stripes.  Each
+ * thread takes its IDs from one of the stripes, which stops all the threads contending on a single counter.
+ * The IDs are still unique, but are no longer handed out in increasing order across threads.
+ */
+@SuppressWarnings("unused")
+public class TransactionIDSequence {
+    // Each stripe's counter is spaced apart in the array so the stripes don't share a cache line
+    private static final int spacing = 16;
+
+    private final int stripes;
+    private final int limit;
+    private final AtomicIntegerArray counters;
+    private final LongAdder issued = new LongAdder();
+
+    /**
+     * Creates a sequence with a single stripe, which hands out IDs in increasing order.
+     */
+    public TransactionIDSequence() {
+        this(1);
+    }
+
+    /**
+     * Creates a sequence split into the given number of stripes.
+     * @param stripes the number of stripes
+     */
+    public TransactionIDSequence(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("A transaction ID sequence needs at least one stripe");
+        }
+        this.stripes = stripes;
+        this.limit = Integer.MAX_VALUE / stripes;
+        this.counters = new AtomicIntegerArray(stripes * spacing);
+    }
+
+    /**
+     * Returns the next ID in the sequence.
+     * @return the next transaction ID
+     */
+    public int next() {
+        int id;
+        if (stripes == 1) {
+            id = counters.updateAndGet(0, this::increment);
+        } else {
+            int stripe = (int) (Thread.currentThread().getId() % stripes);
+            id = toID(counters.updateAndGet(stripe * spacing, this::increment), stripe);
+        }
+        issued.increment();
+        return id;
+    }
+
+    private int toID(int count, int stripe) {
+        return (count - 1) * stripes + stripe + 1;
+    }
+
+    private int increment(int count) {
+        return count >= limit ? 1 : count + 1;
+    }
+
+    /**
+     * The number of stripes the sequence is split into.
+     * @return the number of stripes
+     */
+    public int getStripes() {
+        return stripes;
+    }
+
+    /**
+     * The most recent ID handed out by the sequence.  This is worked out from the stripes' counters when it's asked
+     * for, rather than recorded by every call, so the stripes' threads don't all write to one field.  With more than
+     * one stripe it's the highest of the stripes' latest IDs, which until the IDs wrap around is the last one handed
+     * out by any of them.
+     * @return the last transaction ID, or 0 if no IDs have been handed out
+     */
+    public int getLastID() {
+        int last = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int count = counters.get(stripe * spacing);
+            if (count > 0) {
+                last = Math.max(last, toID(count, stripe));
+            }
+        }
+        return last;
+    }
+
+    /**
+     * The total number of IDs handed out by the sequence, which keeps counting after the IDs wrap around.
+     * @return the number of IDs handed out
+     */
+    public long getIssued() {
+        return issued.sum();
+    }
+}
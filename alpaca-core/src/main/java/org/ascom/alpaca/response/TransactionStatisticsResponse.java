@@ -0,0 +1,18 @@
+package org.ascom.alpaca.response;
+
+import org.ascom.alpaca.model.TransactionStatistics;
+
+@SuppressWarnings("unused")
+public class TransactionStatisticsResponse extends ValueResponse<TransactionStatistics> {
+    TransactionStatisticsResponse() {
+        super();
+    }
+
+    public TransactionStatisticsResponse(TransactionStatistics value) {
+        super(value);
+    }
+
+    public TransactionStatisticsResponse(long clientTransactionID, TransactionStatistics value) {
+        super(clientTransactionID, value);
+    }
+}
@@ -0,0 +1,81 @@
+package org.ascom.alpaca.example;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * The Boltwood II one line data file, which is also written by other cloud sensors such as the AAG CloudWatcher.
+ * The file holds a single line that's rewritten with each reading.
+ *
+ * Field positions (0-based):
+ * <pre>
+ * 0  Date
+ * 1  Time (may include fractional seconds)
+ * 2  Temp scale (C/F)
+ * 3  Wind scale
+ * 4  Sky temp
+ * 5  Ambient temp
+ * 6  Sensor temp
+ * 7  Wind speed
+ * 8  Humidity
+ * 9  Dew point
+ * 10 Heater %
+ * 11 Rain flag
+ * 12 Wet flag
+ * ...
+ * </pre>
+ */
+public class BoltwoodFileFormat implements WeatherFileFormat {
+    // Boltwood II files typically have 20–21 fields
+    private static final int minFields = 20;
+    private static final List<MeasurementType> types = List.of(MeasurementType.DewPoint, MeasurementType.Humidity,
+            MeasurementType.RainRate, MeasurementType.Temperature, MeasurementType.SkyTemperature, MeasurementType.WindSpeed);
+
+    @Override
+    public List<MeasurementType> getMeasurementTypes() {
+        return types;
+    }
+
+    @Override
+    public void parseLine(FieldTokenizer line, MeasurementSink sink) {
+        if (line.isBlank()) {
+            return;
+        }
+        int fields = line.splitWhitespace();
+        if (fields < minFields) {
+            throw new IllegalArgumentException("Invalid Boltwood line, expected >= " + minFields + " fields, got " + fields);
+        }
+
+        long timestamp = parseTimestamp(line, 0, 1);
+        double skytemp = line.parseDouble(4);
+        double temp = line.parseDouble(5);
+        double windspeed = line.parseDouble(7);
+        double humidity = line.parseDouble(8);
+        double dewpoint = line.parseDouble(9);
+        boolean raining = line.parseInt(11) != 0 || line.parseInt(12) != 0;
+        double rainrate = raining ? 1.0 : 0.0;
+
+        sink.addMeasurement(MeasurementType.SkyTemperature, skytemp, timestamp);
+        sink.addMeasurement(MeasurementType.Temperature, temp, timestamp);
+        sink.addMeasurement(MeasurementType.Humidity, humidity, timestamp);
+        sink.addMeasurement(MeasurementType.DewPoint, dewpoint, timestamp);
+        sink.addMeasurement(MeasurementType.WindSpeed, windspeed, timestamp);
+        sink.addMeasurement(MeasurementType.RainRate, rainrate, timestamp);
+    }
+
+    /**
+     * Parses a local date and time in yyyy-MM-dd HH:mm:ss form, ignoring any fractional seconds.
+     */
+    private static long parseTimestamp(FieldTokenizer line, int dateField, int timeField) {
+        if (line.length(dateField) != 10 || line.length(timeField) < 8) {
+            throw new IllegalArgumentException("Invalid Boltwood date and time: " + line.toString(dateField) + " "
+                    + line.toString(timeField));
+        }
+        LocalDateTime ldt = LocalDateTime.of(
+                line.parseInt(dateField, 0, 4), line.parseInt(dateField, 5, 7), line.parseInt(dateField, 8, 10),
+                line.parseInt(timeField, 0, 2), line.parseInt(timeField, 3, 5), line.parseInt(timeField, 6, 8));
+
+        return ldt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -9,32 +9,37 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.nio.file.Files;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
 
 /**
- * The BoltwoodFilePoller class is responsible for periodically polling the measurements file from a Boltwood device or
- * other device that produces the same format file.  The measurements are then added to the ObservingConditionsDB to
- * make it available to the ObservingConditions and SafetyMonitor devices.
+ * The BoltwoodFilePoller class is responsible for reading the measurements file from a Boltwood device or other
+ * device that produces a supported format file whenever it changes.  The measurements are then added to the
+ * ObservingConditionsDB to make it available to the ObservingConditions and SafetyMonitor devices.
+ *
+ * The directory of the file is watched with a WatchService, so the file is read as soon as it's written rather than
+ * at the next poll.  Some file systems, such as network shares, don't report changes, so the modification time of
+ * the file is also checked every boltwood.file.polling-interval seconds, which is cheap as the file is only read if
+ * it has changed.  The format of the file is set by boltwood.file.format, see {@link WeatherFileFormat}.
  */
 @ApplicationScoped
 public class BoltwoodFilePoller {
     private static final Logger log = LoggerFactory.getLogger(BoltwoodFilePoller.class);
-    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // How long to let the writer finish after a change is reported before reading the file
+    private static final long settleTime = 100;
 
-    private final ScheduledExecutorService scheduler = java.util.concurrent.Executors.newScheduledThreadPool(2);
-    private ScheduledFuture<?> pollingTask;
+    private Thread watchThread;
+    private volatile WatchService watchService;
+    private volatile boolean running;
+    private WeatherFileReader reader;
 
-    @Inject @ConfigProperty(name="boltwood.file.polling_interval", defaultValue = "60")
-    long boltwoodPollingInterval;
+    @Inject @ConfigProperty(name="boltwood.file.polling-interval", defaultValue = "5")
+    volatile long boltwoodPollingInterval;
     @Inject @ConfigProperty(name="boltwood.file.path")
     String boltwoodFile;
+    @Inject @ConfigProperty(name="boltwood.file.format", defaultValue = "boltwood")
+    String boltwoodFileFormat;
 
     @Inject
     ObservingConditionsDB observingConditionsDB;
@@ -46,103 +51,129 @@ public class BoltwoodFilePoller {
     void onStart(@Observes Startup ev) {
         log.info("Initializing boltwood polling");
 
+        WeatherFileFormat format = WeatherFileFormat.forName(boltwoodFileFormat);
         // Register the supported measurements
-        observingConditionsDB.registerSupportedMeasurements(List.of(MeasurementType.DewPoint, MeasurementType.Humidity,
-                MeasurementType.RainRate, MeasurementType.Temperature, MeasurementType.SkyTemperature, MeasurementType.WindSpeed));
+        observingConditionsDB.registerSupportedMeasurements(format.getMeasurementTypes());
 
-        if (pollingTask != null) {
+        if (watchThread != null) {
             log.warn("boltwood poller already running");
             return;
         }
 
         log.info("Starting boltwood poller");
-        schedulePollingJob(boltwoodPollingInterval);
+        reader = new WeatherFileReader(Path.of(boltwoodFile), format, observingConditionsDB::addMeasurement);
+        running = true;
+        watchThread = new Thread(this::watch, "Alpaca Weather File Watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
         log.info("Finished initializing boltwood polling");
     }
 
     void onStop(@Observes Shutdown ev) {
         log.info("Shutting down the polling thread...");
-        pollingTask.cancel(true);
-        scheduler.shutdown();
+        running = false;
+        if (watchThread != null) {
+            watchThread.interrupt();
+        }
+        closeWatchService();
+        if (reader != null) {
+            reader.close();
+        }
     }
 
-    void schedulePollingJob(long delay) {
-        boltwoodPollingInterval = delay;
-        pollingTask = scheduler.scheduleAtFixedRate(this::poll, 0, delay, java.util.concurrent.TimeUnit.SECONDS);
+    /**
+     * Changes how often the modification time of the file is checked, from the next check.
+     * @param interval the interval in seconds
+     */
+    void setPollingInterval(long interval) {
+        boltwoodPollingInterval = interval;
     }
 
-    void reschedulePollingJob(long delay) {
-        pollingTask.cancel(true);
-        schedulePollingJob(delay);
+    /**
+     * Reads the file now, if it has changed since it was last read.
+     */
+    public void poll() {
+        poll(false);
     }
 
-    public void poll() {
+    private void poll(boolean force) {
         try {
-            log.debug("Polling boltwood to get weather data");
-
-            File boltwoodFile = new File(this.boltwoodFile);
-            if (!boltwoodFile.exists()) {
-                log.warn("boltwood file does not exist: {}", boltwoodFile.getAbsolutePath());
-                return;
+            if (reader.readIfChanged(force)) {
+                log.debug("Read new weather data from {}", reader.getPath());
             }
+        } catch (Exception e) {
+            log.warn("Got an exception polling boltwood: {}", e.getMessage(), e);
+        }
+    }
 
-            List<String> lines = Files.readAllLines(boltwoodFile.toPath());
-            if (lines.isEmpty()) {
-                throw new IllegalArgumentException("Boltwood file is empty");
+    private void watch() {
+        while (running) {
+            Path file = reader.getPath().toAbsolutePath();
+            openWatchService(file.getParent());
+            poll(false);
+            try {
+                waitForChanges(file.getFileName());
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
             }
+        }
+        closeWatchService();
+    }
 
-            String line = lines.get(0).trim();
-            String[] tokens = line.split("\\s+");
+    private void openWatchService(Path directory) {
+        closeWatchService();
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Unable to watch {} for changes, checking every {} seconds instead: {}", directory,
+                    boltwoodPollingInterval, e.getMessage());
+        }
+    }
 
-            // Boltwood II files typically have 20–21 tokens
-            if (tokens.length < 20) {
-                throw new IllegalArgumentException(
-                        "Invalid Boltwood line, expected >= 20 fields, got " + tokens.length);
+    private void closeWatchService() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.debug("Unable to close the watch service", e);
             }
-
-            /*
-             * Boltwood Field positions (0-based):
-             * 0  Date
-             * 1  Time (may include fractional seconds)
-             * 2  Temp scale (C/F)
-             * 3  Wind scale
-             * 4  Sky temp
-             * 5  Ambient temp
-             * 6  Sensor temp
-             * 7  Wind speed
-             * 8  Humidity
-             * 9  Dew point
-             * 10 Heater %
-             * 11 Rain flag
-             * 12 Wet flag
-             * ...
-             */
-
-            long timestamp = parseTimestamp(tokens[0], tokens[1]);
-            double skytemp = Double.parseDouble(tokens[4]);
-            double temp = Double.parseDouble(tokens[5]);
-            double humidity = Double.parseDouble(tokens[8]);
-            double dewpoint = Double.parseDouble(tokens[9]);
-            double windspeed = Double.parseDouble(tokens[7]);
-            boolean raining = Integer.parseInt(tokens[11]) != 0 || Integer.parseInt(tokens[12]) != 0;
-            double rainrate = raining ? 1.0 : 0.0;
-
-            observingConditionsDB.addMeasurement(MeasurementType.SkyTemperature, skytemp, timestamp);
-            observingConditionsDB.addMeasurement(MeasurementType.Temperature, temp, timestamp);
-            observingConditionsDB.addMeasurement(MeasurementType.Humidity, humidity, timestamp);
-            observingConditionsDB.addMeasurement(MeasurementType.DewPoint, dewpoint, timestamp);
-            observingConditionsDB.addMeasurement(MeasurementType.WindSpeed, windspeed, timestamp);
-            observingConditionsDB.addMeasurement(MeasurementType.RainRate, rainrate, timestamp);
-        } catch (Exception e) {
-            log.warn("Got an exception polling boltwood: {}", e.getMessage(), e);
         }
     }
 
-    private static long parseTimestamp(String date, String time) {
-        // Strip fractional seconds if present
-        String cleanTime = time.contains(".") ? time.substring(0, time.indexOf('.')) : time;
-        LocalDateTime ldt = LocalDateTime.parse(date + " " + cleanTime, DATE_TIME);
-
-        return ldt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    /**
+     * Reads the file each time it changes, until the directory can no longer be watched.
+     */
+    private void waitForChanges(Path fileName) throws InterruptedException {
+        while (running) {
+            WatchService service = watchService;
+            if (service == null) {
+                // Not watched, so check again later, when the directory may exist
+                Thread.sleep(TimeUnit.SECONDS.toMillis(boltwoodPollingInterval));
+                return;
+            }
+            WatchKey key = service.poll(boltwoodPollingInterval, TimeUnit.SECONDS);
+            boolean changed = false;
+            boolean valid = true;
+            if (key != null) {
+                // Let the writer finish, and gather the other changes it makes while it does
+                Thread.sleep(settleTime);
+                for (; key != null; key = service.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+                    }
+                    valid &= key.reset();
+                }
+            }
+            // Always check the modification time, in case a change wasn't reported
+            poll(changed);
+            if (!valid) {
+                // The directory was removed
+                return;
+            }
+        }
     }
 }
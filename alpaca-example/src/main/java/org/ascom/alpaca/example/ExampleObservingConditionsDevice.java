@@ -1,14 +1,18 @@
 package org.ascom.alpaca.example;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.Startup;
 import jakarta.inject.Inject;
 import org.ascom.alpaca.device.BaseDevice;
 import org.ascom.alpaca.model.DeviceType;
+import org.ascom.alpaca.model.SensorAggregates;
 import org.ascom.alpaca.model.StateValue;
 import org.ascom.alpaca.response.InvalidValueException;
 import org.ascom.alpaca.response.PropertyNotImplementedException;
+import org.ascom.alpaca.response.ServerException;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +30,7 @@ import java.util.List;
 @ApplicationScoped
 public class ExampleObservingConditionsDevice extends BaseDevice implements org.ascom.alpaca.device.ObservingConditionsDevice {
     private static final Logger log = LoggerFactory.getLogger(ExampleObservingConditionsDevice.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Inject
     ObservingConditionsDB observingConditionsDB;
@@ -35,6 +40,7 @@ public class ExampleObservingConditionsDevice extends BaseDevice implements org.
         super(DeviceType.ObservingConditions, "Boltwood Observing Conditions", org.ascom.alpaca.device.ObservingConditionsDevice.interfaceVersion, deviceVersion);
         setDescription("Boltwood Observing Conditions Device");
         setEnforceConnection(false);
+        addSupportedAction(SensorAggregates.ACTION, this::getAggregates);
     }
 
     void onStart(@Observes Startup ev) {
@@ -134,6 +140,36 @@ public class ExampleObservingConditionsDevice extends BaseDevice implements org.
         return observingConditionsDB.getMeasurementValue(MeasurementType.WindSpeed);
     }
 
+    /**
+     * The action returning the statistics of the sensors over the average period, as a JSON array of
+     * {@link SensorAggregates}.
+     * @param parameters a comma separated list of sensor names, or an empty string for all the sensors with measurements
+     * @return the JSON encoded statistics
+     */
+    private String getAggregates(String parameters) {
+        List<SensorAggregates> aggregates = new ArrayList<>();
+        if (parameters == null || parameters.isBlank()) {
+            for (MeasurementType type : observingConditionsDB.getSupportedMeasurements()) {
+                if (observingConditionsDB.getMeasurement(type) != null) {
+                    aggregates.add(observingConditionsDB.getAggregates(type));
+                }
+            }
+        } else {
+            for (String sensorName : parameters.split(",")) {
+                MeasurementType type = MeasurementType.fromString(sensorName.trim());
+                if (type == null || !observingConditionsDB.getSupportedMeasurements().contains(type)) {
+                    throw new PropertyNotImplementedException("Property " + sensorName.trim() + " is not implemented");
+                }
+                aggregates.add(observingConditionsDB.getAggregates(type));
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(aggregates);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("Unable to encode the sensor aggregates: " + e.getMessage());
+        }
+    }
+
     @Override
     public void refresh() {
         // Do nothing, the data is updated via polling automatically
@@ -4,7 +4,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.Startup;
 import jakarta.inject.Inject;
-import org.ascom.alpaca.config.ConfigManager;
 import org.ascom.alpaca.device.BaseDevice;
 import org.ascom.alpaca.device.SafetyMonitorDevice;
 import org.ascom.alpaca.model.DeviceType;
@@ -18,6 +17,8 @@ import org.slf4j.LoggerFactory;
  * This device uses an ObservingConditionsDB as the source of weather measurements.  A separate polling
  * thread is used to get new measurements and update the ObservingConditionsDB.  In this way,
  * the device can use weather measurements that different sources to determine if it is safe to observe the sky.
+ * The decision is made by a {@link SafetyEvaluator} as the measurements arrive, so asking whether it is safe
+ * doesn't look at the measurements at all.
  */
 @ApplicationScoped
 public class ExampleSafetyMonitor extends BaseDevice implements SafetyMonitorDevice {
@@ -25,9 +26,7 @@ public class ExampleSafetyMonitor extends BaseDevice implements SafetyMonitorDev
     private ExampleSafetyMonitorConfig config;
 
     @Inject
-    ObservingConditionsDB observingConditionsDB;
-    @Inject
-    ConfigManager configManager;
+    SafetyEvaluator safetyEvaluator;
     @Inject
     QutePageRenderer setupPageRenderer;
 
@@ -46,19 +45,8 @@ public class ExampleSafetyMonitor extends BaseDevice implements SafetyMonitorDev
 
     @Override
     public boolean isSafe() {
-        // ConfigurationManager.getConfig will instantiate the config if it doesn't exist
-        // This configuration can be updated at runtime via the Alpca setup mechanism.
-        ExampleSafetyMonitorConfig config = configManager.getConfig(ExampleSafetyMonitorConfig.class);
-
-        // If the max safe wind speed is configured, consider it for safety
-        if (config.maxSafeWindSpeed > 0) {
-            Measurement windSpeed = observingConditionsDB.getMeasurement(MeasurementType.WindSpeed);
-            if (windSpeed == null || windSpeed.value() > config.maxSafeWindSpeed) {
-                return false;
-            }
-        }
-
-        Measurement rainRate = observingConditionsDB.getMeasurement(MeasurementType.RainRate);
-        return rainRate != null && rainRate.value() == 0;
+        // The verdict is kept up to date as measurements arrive and when the configuration, which can be updated at
+        // runtime via the Alpaca setup mechanism, changes
+        return safetyEvaluator.isSafe();
     }
 }
@@ -17,4 +17,16 @@ public class ExampleSafetyMonitorConfig {
     @Key("boltwood.safetymonitor.max_safe_windspeed") @DefaultValue("10")
     @Description("The wind speed in m/s when conditions are unsafe.  If zero, windspeed is not considered in safety")
     public long maxSafeWindSpeed = 0;
+
+    @Key("boltwood.safetymonitor.windspeed_hysteresis") @DefaultValue("2")
+    @Description("How far in m/s the wind speed must drop below the maximum before it is safe again")
+    public double windSpeedHysteresis = 0;
+
+    @Key("boltwood.safetymonitor.safe_delay") @DefaultValue("60")
+    @Description("How long in seconds conditions must stay safe after being unsafe before they are reported as safe")
+    public long safeDelay = 0;
+
+    @Key("boltwood.safetymonitor.max_data_age") @DefaultValue("300")
+    @Description("Conditions are unsafe if no measurements have arrived for this many seconds.  If zero, the age of the measurements is not considered")
+    public long maxDataAge = 0;
 }
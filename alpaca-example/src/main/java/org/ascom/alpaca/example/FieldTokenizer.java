@@ -0,0 +1,318 @@
+package org.ascom.alpaca.example;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a line of a weather file into fields and parses them, without creating any objects.
+ *
+ * The tokenizer refers to the bytes of the line where they were read rather than copying them, and records where
+ * each field starts and ends in arrays that are reused for every line.  The line is only valid until the reader
+ * reads more of the file, so formats must parse the fields they need while the line is being handled.  Only ASCII
+ * is expected in the fields that are parsed, which holds for all the weather file formats.
+ */
+@SuppressWarnings("unused")
+public class FieldTokenizer {
+    // Powers of ten that are exactly representable as a double
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long maxExactMantissa = 1L << 53;
+
+    private byte[] bytes;
+    private int lineStart;
+    private int lineEnd;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int count;
+
+    /**
+     * Sets the line to tokenize, which has no fields until it's split.
+     * @param bytes the bytes containing the line
+     * @param start the index of the first byte of the line
+     * @param end the index after the last byte of the line, excluding the line terminator
+     */
+    public void setLine(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.lineStart = start;
+        this.lineEnd = end;
+        this.count = 0;
+    }
+
+    /**
+     * Whether the line is empty or only whitespace.
+     * @return true if blank
+     */
+    public boolean isBlank() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (!isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the line into fields separated by runs of whitespace, ignoring leading and trailing whitespace.
+     * @return the number of fields
+     */
+    public int splitWhitespace() {
+        count = 0;
+        int i = lineStart;
+        while (true) {
+            while (i < lineEnd && isWhitespace(bytes[i])) {
+                i++;
+            }
+            if (i == lineEnd) {
+                return count;
+            }
+            int start = i;
+            while (i < lineEnd && !isWhitespace(bytes[i])) {
+                i++;
+            }
+            addField(start, i);
+        }
+    }
+
+    /**
+     * Splits the line into fields separated by a delimiter, with the whitespace around each field trimmed.
+     * Consecutive delimiters give empty fields.
+     * @param delimiter the delimiter, such as ',' or '='
+     * @param limit the most fields to split the line into, the last of which holds the rest of the line, or 0 for
+     *              no limit
+     * @return the number of fields
+     */
+    public int split(char delimiter, int limit) {
+        count = 0;
+        int start = lineStart;
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (bytes[i] == delimiter && (limit <= 0 || count < limit - 1)) {
+                addTrimmedField(start, i);
+                start = i + 1;
+            }
+        }
+        addTrimmedField(start, lineEnd);
+        return count;
+    }
+
+    private void addTrimmedField(int start, int end) {
+        while (start < end && isWhitespace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        addField(start, end);
+    }
+
+    private void addField(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f';
+    }
+
+    public int getFieldCount() {
+        return count;
+    }
+
+    public int length(int field) {
+        checkField(field);
+        return ends[field] - starts[field];
+    }
+
+    /**
+     * Returns a byte of a field.
+     * @param field the index of the field
+     * @param index the index of the byte within the field
+     * @return the byte
+     */
+    public byte byteAt(int field, int index) {
+        checkField(field);
+        if (index < 0 || index >= ends[field] - starts[field]) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside field " + field);
+        }
+        return bytes[starts[field] + index];
+    }
+
+    /**
+     * Whether a field is equal to a name, ignoring the case of ASCII letters.
+     * @param field the index of the field
+     * @param name the name in lower case ASCII, such as the bytes of "windspeed"
+     * @return true if equal
+     */
+    public boolean equalsLowerCase(int field, byte[] name) {
+        checkField(field);
+        int start = starts[field];
+        if (ends[field] - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            byte b = bytes[start + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a field as a decimal number, such as -12.5 or 1.2e3.
+     * @param field the index of the field
+     * @return the number
+     * @throws NumberFormatException if the field isn't a number
+     */
+    public double parseDouble(int field) {
+        checkField(field);
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean exact = true;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                if (mantissa < maxExactMantissa / 10) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (point) {
+                        scale--;
+                    }
+                } else {
+                    exact = false;
+                }
+                digits++;
+            } else if (b == '.' && !point) {
+                point = true;
+            } else if (b == 'e' || b == 'E') {
+                break;
+            } else {
+                throw new NumberFormatException("Invalid number: " + toString(field));
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid number: " + toString(field));
+        }
+        if (i < end) {
+            // An exponent
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            if (i == end) {
+                throw new NumberFormatException("Invalid number: " + toString(field));
+            }
+            int exponent = 0;
+            for (; i < end; i++) {
+                byte b = bytes[i];
+                if (b < '0' || b > '9' || exponent > 10000) {
+                    throw new NumberFormatException("Invalid number: " + toString(field));
+                }
+                exponent = exponent * 10 + (b - '0');
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        if (!exact || scale < -22 || scale > 22) {
+            // Too many digits to parse exactly here, which the weather formats don't use
+            return Double.parseDouble(toString(field));
+        }
+        // Both operands are exact, so the result is correctly rounded
+        double value = scale < 0 ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a field as a decimal integer.
+     * @param field the index of the field
+     * @return the integer
+     * @throws NumberFormatException if the field isn't an integer
+     */
+    public int parseInt(int field) {
+        return parseInt(field, 0, length(field));
+    }
+
+    /**
+     * Parses part of a field as a decimal integer, such as the month in a date.
+     * @param field the index of the field
+     * @param from the index of the first byte within the field
+     * @param to the index after the last byte within the field
+     * @return the integer
+     * @throws NumberFormatException if that part of the field isn't an integer
+     */
+    public int parseInt(int field, int from, int to) {
+        checkField(field);
+        int start = starts[field] + from;
+        int end = starts[field] + to;
+        if (from < 0 || to > ends[field] - starts[field] || start >= end) {
+            throw new NumberFormatException("Invalid integer: " + toString(field));
+        }
+        int i = start;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("Invalid integer: " + toString(field));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b < '0' || b > '9') {
+                throw new NumberFormatException("Invalid integer: " + toString(field));
+            }
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("Integer too large: " + toString(field));
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer too large: " + toString(field));
+        }
+        return (int) value;
+    }
+
+    /**
+     * Copies a field into a string, which should only be needed for logging and errors.
+     * @param field the index of the field
+     * @return the field
+     */
+    public String toString(int field) {
+        checkField(field);
+        return new String(bytes, starts[field], ends[field] - starts[field], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Copies the line into a string, which should only be needed for logging and errors.
+     * @return the line
+     */
+    @Override
+    public String toString() {
+        return bytes == null ? "" : new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.US_ASCII);
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= count) {
+            throw new IndexOutOfBoundsException("Field " + field + " of " + count);
+        }
+    }
+}
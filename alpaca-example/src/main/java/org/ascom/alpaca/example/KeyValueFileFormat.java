@@ -0,0 +1,71 @@
+package org.ascom.alpaca.example;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A file of name=value lines, one for each measurement, such as:
+ * <pre>
+ * temperature=6.2
+ * humidity=41
+ * windspeed=3.4
+ * </pre>
+ * The names are those of the {@link MeasurementType}s, ignoring case, and lines with other names, blank lines and
+ * comments starting with # are ignored.  A value of the timestamp name, in milliseconds since the epoch, is used as
+ * the time of the measurements if present, otherwise the time the file was modified is used.  The file is rewritten
+ * with each reading, and the measurements are added once the whole file has been read.
+ */
+public class KeyValueFileFormat implements WeatherFileFormat {
+    private static final byte[] timestampName = "timestamp".getBytes(StandardCharsets.US_ASCII);
+    private static final MeasurementType[] allTypes = MeasurementType.values();
+    private static final byte[][] names = new byte[allTypes.length][];
+
+    static {
+        for (int i = 0; i < allTypes.length; i++) {
+            names[i] = allTypes[i].getName().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    // The values of the record being read, indexed by the ordinal of their type
+    private final double[] values = new double[allTypes.length];
+    private final boolean[] present = new boolean[allTypes.length];
+    private long timestamp;
+
+    @Override
+    public List<MeasurementType> getMeasurementTypes() {
+        return List.of(allTypes);
+    }
+
+    @Override
+    public void startRead(long modifiedTime) {
+        Arrays.fill(present, false);
+        timestamp = modifiedTime;
+    }
+
+    @Override
+    public void parseLine(FieldTokenizer line, MeasurementSink sink) {
+        if (line.isBlank() || line.split('=', 2) < 2 || line.length(0) == 0 || line.byteAt(0, 0) == '#') {
+            return;
+        }
+        if (line.equalsLowerCase(0, timestampName)) {
+            timestamp = (long) line.parseDouble(1);
+            return;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (line.equalsLowerCase(0, names[i])) {
+                values[i] = line.parseDouble(1);
+                present[i] = true;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void endRead(MeasurementSink sink) {
+        for (int i = 0; i < allTypes.length; i++) {
+            if (present[i]) {
+                sink.addMeasurement(allTypes[i], values[i], timestamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.ascom.alpaca.example;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The recent measurements of one sensor, held in a fixed size ring buffer of primitive timestamps and values.
+ *
+ * Measurements are added by one writer at a time, and the statistics of the measurements in the buffer are updated
+ * incrementally as they're added and expired, so nothing ever needs to walk the measurements:
+ * <ul>
+ *     <li>the mean and variance are kept with Welford's algorithm, which values can be taken out of as well as put in</li>
+ *     <li>the minimum and maximum are kept with monotonic deques of the measurements that could still become the
+ *     minimum or maximum once older ones expire</li>
+ *     <li>percentiles are kept with a {@link QuantileSketch}, which also supports taking values out</li>
+ * </ul>
+ * After each change the writer publishes an immutable {@link Summary} through a volatile field, which readers use
+ * without locking.  The mean and variance are recomputed from the buffer each time the buffer has been turned over,
+ * so floating point errors don't build up.
+ *
+ * If more measurements arrive within the average interval than the buffer holds, the oldest are dropped, and the
+ * statistics cover the most recent measurements that fit.
+ */
+@SuppressWarnings("unused")
+public class MeasurementSeries {
+    private static final double sketchAccuracy = 0.005;
+    private final MeasurementType type;
+    private final long[] timestamps;
+    private final double[] values;
+    // The buffer and the statistics are guarded by the series, and only used by writers.  Measurements are numbered in
+    // the order they were added, and a measurement's slot in the buffer is its number modulo the capacity.
+    private long first;
+    private int size;
+    private double mean;
+    private double m2;
+    private int removedSinceResum;
+    private final SequenceDeque minimums;
+    private final SequenceDeque maximums;
+    private final QuantileSketch sketch = new QuantileSketch(sketchAccuracy);
+    private volatile Summary summary;
+
+    /**
+     * An immutable summary of the measurements in the series.
+     * @param count the number of measurements
+     * @param mean the average value of the measurements
+     * @param min the smallest value of the measurements
+     * @param max the largest value of the measurements
+     * @param variance the sample variance of the measurements
+     * @param latest the most recent measurement
+     */
+    public record Summary(int count, double mean, double min, double max, double variance, Measurement latest) {
+        public double standardDeviation() {
+            return Math.sqrt(variance);
+        }
+    }
+
+    /**
+     * A double-ended queue of measurement numbers, in a ring of its own.
+     */
+    private static final class SequenceDeque {
+        private final long[] items;
+        private int head;
+        private int size;
+
+        SequenceDeque(int capacity) {
+            items = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long first() {
+            return items[head];
+        }
+
+        long last() {
+            return items[(head + size - 1) % items.length];
+        }
+
+        void removeFirst() {
+            head = (head + 1) % items.length;
+            size--;
+        }
+
+        void removeLast() {
+            size--;
+        }
+
+        void addLast(long sequence) {
+            items[(head + size) % items.length] = sequence;
+            size++;
+        }
+    }
+
+    /**
+     * Creates an empty series.
+     * @param type the type of the measurements
+     * @param capacity the most measurements the series can hold
+     */
+    public MeasurementSeries(MeasurementType type, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.type = type;
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.minimums = new SequenceDeque(capacity);
+        this.maximums = new SequenceDeque(capacity);
+        this.summary = new Summary(0, 0, Double.NaN, Double.NaN, 0, null);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % values.length);
+    }
+
+    /**
+     * Adds a measurement, and expires the measurements older than the expiry time.
+     * @param value the value of the measurement
+     * @param timestamp the time of the measurement, in milliseconds since the epoch
+     * @param expireTime measurements taken before this time, in milliseconds since the epoch, are removed
+     * @return the number of measurements that were expired
+     */
+    public synchronized int add(double value, long timestamp, long expireTime) {
+        if (size == values.length) {
+            // Full, so drop the oldest to make room
+            removeOldest();
+        }
+        long sequence = first + size;
+        int index = slot(sequence);
+        timestamps[index] = timestamp;
+        values[index] = value;
+        size++;
+
+        double delta = value - mean;
+        mean += delta / size;
+        m2 += delta * (value - mean);
+        // Measurements that can't be the minimum or maximum while this one is in the window are never needed again
+        while (!minimums.isEmpty() && values[slot(minimums.last())] >= value) {
+            minimums.removeLast();
+        }
+        minimums.addLast(sequence);
+        while (!maximums.isEmpty() && values[slot(maximums.last())] <= value) {
+            maximums.removeLast();
+        }
+        maximums.addLast(sequence);
+        sketch.add(value);
+
+        int expired = 0;
+        while (size > 1 && timestamps[slot(first)] < expireTime) {
+            removeOldest();
+            expired++;
+        }
+        if (removedSinceResum >= values.length) {
+            resum();
+        }
+        double variance = size > 1 ? Math.max(m2, 0) / (size - 1) : 0;
+        summary = new Summary(size, mean, values[slot(minimums.first())], values[slot(maximums.first())], variance,
+                new Measurement(type, value, timestamp));
+        return expired;
+    }
+
+    private void removeOldest() {
+        double value = values[slot(first)];
+        if (size == 1) {
+            mean = 0;
+            m2 = 0;
+        } else {
+            double delta = value - mean;
+            mean -= delta / (size - 1);
+            m2 -= delta * (value - mean);
+        }
+        if (minimums.first() == first) {
+            minimums.removeFirst();
+        }
+        if (maximums.first() == first) {
+            maximums.removeFirst();
+        }
+        sketch.remove(value);
+        first++;
+        size--;
+        removedSinceResum++;
+    }
+
+    private void resum() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[slot(first + i)];
+        }
+        double newMean = total / size;
+        double squares = 0;
+        for (int i = 0; i < size; i++) {
+            double delta = values[slot(first + i)] - newMean;
+            squares += delta * delta;
+        }
+        mean = newMean;
+        m2 = squares;
+        removedSinceResum = 0;
+    }
+
+    /**
+     * The current summary of the series.
+     * @return the summary
+     */
+    public Summary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Returns quantiles of the measurements in the series, to within half a percent.
+     * @param quantiles the quantiles, from 0 to 1, such as 0.95 for the 95th percentile
+     * @return the values of the quantiles, or NaN if the series is empty
+     */
+    public synchronized double[] getQuantiles(double... quantiles) {
+        double[] results = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            results[i] = sketch.getQuantile(quantiles[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Copies the measurements in the series.
+     * @return the measurements, oldest first
+     */
+    public synchronized List<Measurement> toList() {
+        List<Measurement> measurements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = slot(first + i);
+            measurements.add(new Measurement(type, values[index], timestamps[index]));
+        }
+        return measurements;
+    }
+}
@@ -3,6 +3,7 @@ package org.ascom.alpaca.example;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.ascom.alpaca.config.ConfigManager;
+import org.ascom.alpaca.model.SensorAggregates;
 import org.ascom.alpaca.response.InvalidValueException;
 import org.ascom.alpaca.response.PropertyNotImplementedException;
 import org.ascom.alpaca.response.ValueNotSetException;
@@ -11,20 +12,29 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The ObservingConditionsDB class is responsible for storing and managing the weather measurements that
  * an ObservingConditions or SafetyMonitor device can use. Some other object is responsible for periodically
  * polling the measurements file and adding the measurements to the ObservingConditionsDB.
+ *
+ * Each type of measurement is kept in a {@link MeasurementSeries}, which keeps the average and other statistics of
+ * the measurements within the average interval up to date as measurements arrive.  Measurements can be added and read
+ * at the same time without any global lock, and reading a measurement's statistics doesn't depend on how many
+ * measurements there are.
  */
 @SuppressWarnings("unused")
 @Singleton
 public class ObservingConditionsDB {
     private static final Logger log = LoggerFactory.getLogger(ObservingConditionsDB.class);
-    private final Map<MeasurementType, LinkedList<Measurement>> measurements = new ConcurrentHashMap<>();
+    // Enough for a measurement a second over a four-hour average interval
+    private static final int seriesCapacity = 4 * 3600;
+    private final Map<MeasurementType, MeasurementSeries> measurements = new ConcurrentHashMap<>();
     private final Set<MeasurementType> supportedMethods = new TreeSet<>();
-    private long lastUpdateTime = 0;
-    private long averageInterval = 10000;
+    private final List<MeasurementListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile long lastUpdateTime = 0;
+    private volatile long averageInterval = 10000;
 
     @Inject
     ConfigManager configManager;
@@ -32,6 +42,27 @@ public class ObservingConditionsDB {
     ObservingConditionsDB() {
     }
 
+    /**
+     * A listener that is told when a measurement is added, such as a device that derives a result from the
+     * measurements and wants to update it as soon as they change rather than each time it's read.
+     */
+    @FunctionalInterface
+    public interface MeasurementListener {
+        /**
+         * Called on the thread that added the measurement, after it has been added.
+         * @param measurement the measurement
+         */
+        void measurementAdded(Measurement measurement);
+    }
+
+    public void addListener(MeasurementListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MeasurementListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Register a list of supported measurement types with the ObservingConditionsDB.  This can be used
      * by an ObservingConditions device to determine which measurements are available to the device.  This
@@ -71,15 +102,15 @@ public class ObservingConditionsDB {
         return type != null && isSupportedMeasurement(type);
     }
 
-    public synchronized Measurement getMeasurement(MeasurementType type) {
+    public Measurement getMeasurement(MeasurementType type) {
         if (!supportedMethods.contains(type)) {
             throw new PropertyNotImplementedException("No support for measurement " + type);
         }
-        List<Measurement> measurement = measurements.get(type);
-        if (measurement == null) {
+        MeasurementSeries series = measurements.get(type);
+        if (series == null) {
             return null;
         }
-        return measurement.get(measurement.size() - 1);
+        return series.getSummary().latest();
     }
 
     /**
@@ -88,8 +119,9 @@ public class ObservingConditionsDB {
      * @param type The type of measurement to return
      * @return A list of measurements of the given type, or null if there are no measurements of that type.
      */
-    public synchronized List<Measurement> getMeasurements(MeasurementType type) {
-        return measurements.get(type);
+    public List<Measurement> getMeasurements(MeasurementType type) {
+        MeasurementSeries series = measurements.get(type);
+        return series == null ? null : series.toList();
     }
 
     /**
@@ -98,22 +130,49 @@ public class ObservingConditionsDB {
      * @param type The type of the measurement
      * @return The value of the measurement
      */
-    public synchronized double getMeasurementValue(MeasurementType type) {
+    public double getMeasurementValue(MeasurementType type) {
         if (!supportedMethods.contains(type)) {
             throw new PropertyNotImplementedException("No support for measurement " + type);
         }
-        List<Measurement> measurements = getMeasurements(type);
-        if (measurements != null) {
-            double result = 0;
-            for (Measurement measurement: measurements) {
-                result += measurement.value();
-            }
-            return result / measurements.size();
+        MeasurementSeries series = measurements.get(type);
+        MeasurementSeries.Summary summary = series == null ? null : series.getSummary();
+        if (summary != null && summary.count() > 0) {
+            return summary.mean();
         } else {
             throw new ValueNotSetException("No measurements available for sensor " + type.name());
         }
     }
 
+    /**
+     * Get the statistics of the measurements of the given type within the average interval, such as the peak and
+     * the 95th percentile of the wind speed.
+     * @param type The type of the measurement
+     * @return The statistics of the measurements
+     */
+    public SensorAggregates getAggregates(MeasurementType type) {
+        if (!supportedMethods.contains(type)) {
+            throw new PropertyNotImplementedException("No support for measurement " + type);
+        }
+        MeasurementSeries series = measurements.get(type);
+        MeasurementSeries.Summary summary = series == null ? null : series.getSummary();
+        if (summary == null || summary.count() == 0) {
+            throw new ValueNotSetException("No measurements available for sensor " + type.name());
+        }
+        double[] quantiles = series.getQuantiles(0.5, 0.9, 0.95, 0.99);
+        return new SensorAggregates(type.getName(),
+                summary.count(),
+                summary.latest().value(),
+                summary.latest().timestamp(),
+                summary.mean(),
+                summary.min(),
+                summary.max(),
+                summary.standardDeviation(),
+                quantiles[0],
+                quantiles[1],
+                quantiles[2],
+                quantiles[3]);
+    }
+
     /**
      * Add a measurement to the database.  If there is an average interval set, then the measurement is maintained
      * for the average interval so that the average value can be calculated over multiple measurements.  Any existing
@@ -134,16 +193,26 @@ public class ObservingConditionsDB {
      * @param value The value of the measurement
      * @param timestamp The timestamp of the measurement
      */
-    public synchronized void addMeasurement(MeasurementType type, double value, long timestamp) {
-        List<Measurement> list = measurements.computeIfAbsent(type, k -> new LinkedList<>());
-        list.add(new Measurement(type, value, timestamp));
+    public void addMeasurement(MeasurementType type, double value, long timestamp) {
+        MeasurementSeries series = measurements.computeIfAbsent(type, k -> new MeasurementSeries(k, seriesCapacity));
         // The average interval is specified as hours
         long expireTime = timestamp - (long) (getAverageInterval()*3600000);
-        int size = list.size();
-        if (list.removeIf(m -> (m.timestamp() < expireTime))) {
-            log.trace("Removed {} measurements for {} due to expiration", size - list.size(), type);
+        int expired = series.add(value, timestamp, expireTime);
+        if (expired > 0) {
+            log.trace("Removed {} measurements for {} due to expiration", expired, type);
         }
         lastUpdateTime = System.currentTimeMillis();
+        if (!listeners.isEmpty()) {
+            // Not the series' latest, which may already be another writer's measurement
+            Measurement measurement = new Measurement(type, value, timestamp);
+            for (MeasurementListener listener : listeners) {
+                try {
+                    listener.measurementAdded(measurement);
+                } catch (RuntimeException e) {
+                    log.warn("Measurement listener failed: {}", e.getMessage(), e);
+                }
+            }
+        }
     }
 
     /**
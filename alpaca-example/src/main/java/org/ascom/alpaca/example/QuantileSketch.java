@@ -0,0 +1,136 @@
+package org.ascom.alpaca.example;
+
+/**
+ * A streaming quantile sketch that values can be removed from as well as added to, so it can follow a sliding window.
+ *
+ * Values are counted in buckets whose bounds grow geometrically, so every quantile it returns is within the relative
+ * accuracy of the true value, whatever the range of the values.  Adding or removing a value is a single counter
+ * update.  Finding a quantile walks the buckets, of which there are a few hundred for the range of values a weather
+ * sensor reports.  The sketch isn't thread safe.
+ */
+@SuppressWarnings("unused")
+public class QuantileSketch {
+    // Values closer to zero than this are counted as zero
+    private static final double minMagnitude = 1e-9;
+    private final double gamma;
+    private final double logGamma;
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount;
+    private long count;
+
+    /**
+     * Creates an empty sketch.
+     * @param relativeAccuracy the relative accuracy of the quantiles, such as 0.01 for 1%
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("The relative accuracy must be between 0 and 1");
+        }
+        gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Counters for a range of bucket indexes, grown as values arrive outside the range.
+     */
+    private static final class Buckets {
+        private long[] counts = new long[0];
+        private int offset;
+
+        void add(int index, long delta) {
+            if (counts.length == 0) {
+                counts = new long[64];
+                offset = index - 32;
+            } else if (index < offset || index >= offset + counts.length) {
+                int low = Math.min(offset, index);
+                int high = Math.max(offset + counts.length, index + 1);
+                // Leave room to grow in the same direction again
+                int length = Math.max(high - low, counts.length * 2);
+                int newOffset = index < offset ? high - length : low;
+                long[] grown = new long[length];
+                System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+                counts = grown;
+                offset = newOffset;
+            }
+            counts[index - offset] += delta;
+        }
+    }
+
+    private int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(int index) {
+        // The point of the bucket with the smallest relative error to all the values in it
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    public void add(double value) {
+        update(value, 1);
+    }
+
+    /**
+     * Removes a value that was added earlier.
+     * @param value the value to remove
+     */
+    public void remove(double value) {
+        update(value, -1);
+    }
+
+    private void update(double value, long delta) {
+        if (value > minMagnitude) {
+            positive.add(index(value), delta);
+        } else if (value < -minMagnitude) {
+            negative.add(index(-value), delta);
+        } else {
+            zeroCount += delta;
+        }
+        count += delta;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        positive.counts = new long[0];
+        negative.counts = new long[0];
+        zeroCount = 0;
+        count = 0;
+    }
+
+    /**
+     * Returns a quantile of the values.
+     * @param quantile the quantile, from 0 to 1, such as 0.95 for the 95th percentile
+     * @return the value of the quantile, or NaN if the sketch is empty
+     */
+    public double getQuantile(double quantile) {
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (Math.max(0, Math.min(1, quantile)) * (count - 1));
+        long seen = 0;
+        // The most negative values are in the highest negative buckets
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            seen += negative.counts[i];
+            if (seen > rank) {
+                return -value(i + negative.offset);
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            seen += positive.counts[i];
+            if (seen > rank) {
+                return value(i + positive.offset);
+            }
+        }
+        return Double.NaN;
+    }
+}
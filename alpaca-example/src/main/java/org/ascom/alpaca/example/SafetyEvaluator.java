@@ -0,0 +1,176 @@
+package org.ascom.alpaca.example;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.config.ConfigManager;
+import org.ascom.alpaca.response.AlpacaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether it is safe to observe from the weather measurements, for the ExampleSafetyMonitor.
+ *
+ * The verdict is worked out again only when something it depends on changes: when a wind speed or rain rate
+ * measurement is added to the ObservingConditionsDB, when the configuration is updated, and at the times the
+ * time-based rules change their outcome.  It's published through a volatile field, so however often roof controllers
+ * and schedulers ask whether it's safe, answering is a single read.
+ *
+ * The rules, set by {@link ExampleSafetyMonitorConfig}, are:
+ * <ul>
+ *     <li>it's unsafe while it's raining, or the rain rate isn't known</li>
+ *     <li>it's unsafe once the wind speed is above the maximum, and stays unsafe until it has dropped below the
+ *     maximum by the hysteresis, so a wind speed around the maximum doesn't flip the verdict back and forth</li>
+ *     <li>it's unsafe if no measurements have arrived for the maximum data age, such as when the weather station
+ *     has stopped writing its file</li>
+ *     <li>after being unsafe, it's only safe once the other rules have said it is safe for the safe delay</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class SafetyEvaluator {
+    private static final Logger log = LoggerFactory.getLogger(SafetyEvaluator.class);
+
+    /**
+     * A decision about whether it's safe.
+     * @param safe whether it's safe
+     * @param reason why it's unsafe, or null if it's safe
+     * @param time when the decision was made, in milliseconds since the epoch
+     */
+    public record Verdict(boolean safe, String reason, long time) {}
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Alpaca Safety Evaluator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Verdict verdict = new Verdict(false, "No measurements", 0);
+    // Guarded by the evaluator
+    private boolean windExceeded;
+    private long lastUnsafeTime;
+    private ScheduledFuture<?> nextEvaluation;
+
+    @Inject
+    ObservingConditionsDB observingConditionsDB;
+    @Inject
+    ConfigManager configManager;
+
+    SafetyEvaluator() {
+    }
+
+    void onStart(@Observes Startup ev) {
+        observingConditionsDB.addListener(this::measurementAdded);
+        configManager.addListener(this::evaluate);
+        evaluate();
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The current verdict.
+     * @return the verdict
+     */
+    public Verdict getVerdict() {
+        return verdict;
+    }
+
+    public boolean isSafe() {
+        return verdict.safe();
+    }
+
+    private void measurementAdded(Measurement measurement) {
+        if (measurement.type() == MeasurementType.WindSpeed || measurement.type() == MeasurementType.RainRate) {
+            evaluate();
+        }
+    }
+
+    /**
+     * Works out the verdict from the latest measurements and the configuration, and publishes it.
+     */
+    public synchronized void evaluate() {
+        ExampleSafetyMonitorConfig config = configManager.getConfig(ExampleSafetyMonitorConfig.class);
+        long now = System.currentTimeMillis();
+        // When the outcome of the time-based rules next changes, if nothing else does
+        long nextChange = Long.MAX_VALUE;
+
+        String reason = null;
+        try {
+            if (config.maxDataAge > 0) {
+                long lastUpdated = observingConditionsDB.getLastUpdated();
+                long staleTime = lastUpdated + TimeUnit.SECONDS.toMillis(config.maxDataAge);
+                if (lastUpdated > 0) {
+                    if (now >= staleTime) {
+                        reason = "No measurements for " + (now - lastUpdated) / 1000 + " seconds";
+                    } else {
+                        nextChange = staleTime;
+                    }
+                }
+            }
+
+            if (config.maxSafeWindSpeed > 0) {
+                Measurement windSpeed = observingConditionsDB.getMeasurement(MeasurementType.WindSpeed);
+                double limit = windExceeded ? config.maxSafeWindSpeed - config.windSpeedHysteresis : config.maxSafeWindSpeed;
+                windExceeded = windSpeed == null || windSpeed.value() > limit;
+                if (windSpeed == null) {
+                    reason = unsafe(reason, "No wind speed measurement");
+                } else if (windExceeded) {
+                    reason = unsafe(reason, "Wind speed " + windSpeed.value() + " is above " + limit);
+                }
+            } else {
+                windExceeded = false;
+            }
+
+            Measurement rainRate = observingConditionsDB.getMeasurement(MeasurementType.RainRate);
+            if (rainRate == null) {
+                reason = unsafe(reason, "No rain rate measurement");
+            } else if (rainRate.value() != 0) {
+                reason = unsafe(reason, "Raining");
+            }
+        } catch (AlpacaException e) {
+            // Such as a measurement that isn't supported by the weather file
+            reason = unsafe(reason, e.getMessage());
+        }
+
+        if (reason != null) {
+            lastUnsafeTime = now;
+        } else if (lastUnsafeTime > 0) {
+            long safeTime = lastUnsafeTime + TimeUnit.SECONDS.toMillis(config.safeDelay);
+            if (now < safeTime) {
+                reason = "Waiting " + (safeTime - now + 999) / 1000 + " seconds for conditions to stay safe";
+                nextChange = Math.min(nextChange, safeTime);
+            }
+        }
+
+        Verdict previous = verdict;
+        if (previous.safe() != (reason == null) || !Objects.equals(previous.reason(), reason)) {
+            verdict = new Verdict(reason == null, reason, now);
+            if (previous.safe() != (reason == null)) {
+                log.info("Conditions are now {}", reason == null ? "safe" : "unsafe: " + reason);
+            }
+        }
+        scheduleEvaluation(nextChange, now);
+    }
+
+    private static String unsafe(String reason, String another) {
+        return reason == null ? another : reason + ", " + another;
+    }
+
+    private void scheduleEvaluation(long time, long now) {
+        if (nextEvaluation != null) {
+            nextEvaluation.cancel(false);
+            nextEvaluation = null;
+        }
+        if (time != Long.MAX_VALUE && !scheduler.isShutdown()) {
+            nextEvaluation = scheduler.schedule(this::evaluate, Math.max(time - now, 0) + 1, TimeUnit.MILLISECONDS);
+        }
+    }
+}
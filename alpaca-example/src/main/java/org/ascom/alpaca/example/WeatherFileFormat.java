@@ -0,0 +1,80 @@
+package org.ascom.alpaca.example;
+
+import java.util.List;
+
+/**
+ * The format of a file of weather measurements, such as the one line data file written by a Boltwood cloud sensor.
+ * A {@link WeatherFileReader} reads the file when it changes and passes each line to the format, which parses the
+ * measurements from it.
+ *
+ * Formats are chosen with the boltwood.file.format setting, which is either the name of one of the formats here or
+ * the class name of another implementation with a public no-argument constructor.  A format is only used by the
+ * reader's thread, so can keep state between lines.
+ */
+public interface WeatherFileFormat {
+    /**
+     * Receives the measurements parsed from a file.
+     */
+    @FunctionalInterface
+    interface MeasurementSink {
+        void addMeasurement(MeasurementType type, double value, long timestamp);
+    }
+
+    /**
+     * The measurements the format provides.
+     * @return the measurement types
+     */
+    List<MeasurementType> getMeasurementTypes();
+
+    /**
+     * Whether the program writing the file appends a line for each reading, such as a log, rather than rewriting the
+     * whole file.  Only the lines added since the last read are parsed from appended files.
+     * @return true if appended
+     */
+    default boolean isAppended() {
+        return false;
+    }
+
+    /**
+     * Called before the lines read after a change to the file.
+     * @param modifiedTime the time the file was modified, in milliseconds since the epoch
+     */
+    default void startRead(long modifiedTime) {
+    }
+
+    /**
+     * Parses the measurements from a line of the file.
+     * @param line the line, which is only valid during the call
+     * @param sink receives the measurements
+     * @throws IllegalArgumentException if the line isn't valid
+     */
+    void parseLine(FieldTokenizer line, MeasurementSink sink);
+
+    /**
+     * Called after the lines read after a change to the file, for formats whose records span several lines.
+     * @param sink receives the measurements
+     */
+    default void endRead(MeasurementSink sink) {
+    }
+
+    /**
+     * Creates a format from its name.
+     * @param name boltwood, key-value, or the class name of a WeatherFileFormat
+     * @return the format
+     * @throws IllegalArgumentException if the format isn't known
+     */
+    static WeatherFileFormat forName(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "boltwood":
+                return new BoltwoodFileFormat();
+            case "key-value":
+                return new KeyValueFileFormat();
+            default:
+                try {
+                    return Class.forName(name.trim()).asSubclass(WeatherFileFormat.class).getConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalArgumentException("Unknown weather file format " + name, e);
+                }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.ascom.alpaca.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * Reads a file of weather measurements when it changes, and passes its lines to a {@link WeatherFileFormat}.
+ *
+ * The file is kept open, and read with positional reads into a buffer that's reused for every read, so reading
+ * doesn't create any objects beyond those the format creates.  The file is only read if its modification time or
+ * size has changed since the last read, unless the read is forced, such as when the file system has reported a
+ * change.  Files that are rewritten with each reading are read from the start, while files that are appended to are
+ * read from where the last read stopped, so only the new lines are parsed.  If the file is replaced, such as by a
+ * program that writes a new file and renames it over the old one, the new file is opened.  Where the file system
+ * doesn't give files a key to tell them apart, the file is opened again for every read.
+ *
+ * A reader isn't thread safe beyond its methods being synchronized.
+ */
+@SuppressWarnings("unused")
+public class WeatherFileReader implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WeatherFileReader.class);
+    private static final int bufferSize = 8192;
+
+    private final Path path;
+    private final WeatherFileFormat format;
+    private final WeatherFileFormat.MeasurementSink sink;
+    private final FieldTokenizer tokenizer = new FieldTokenizer();
+    private ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    private FileChannel channel;
+    private Object fileKey;
+    // Where the next read of an appended file starts
+    private long position;
+    private long lastModified = -1;
+    private long lastSize = -1;
+    private boolean skipPartial;
+    private boolean missingLogged;
+
+    /**
+     * Creates a reader, which doesn't open the file until it's first read.
+     * @param path the file
+     * @param format the format of the file
+     * @param sink receives the measurements parsed from the file
+     */
+    public WeatherFileReader(Path path, WeatherFileFormat format, WeatherFileFormat.MeasurementSink sink) {
+        this.path = path;
+        this.format = format;
+        this.sink = sink;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public WeatherFileFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Reads the file if it has changed since it was last read.
+     * @param force read the file even if its modification time and size haven't changed, which may not change if
+     *              the file is rewritten quickly with a reading of the same length
+     * @return true if the file was read
+     * @throws IOException if the file can't be read
+     */
+    public synchronized boolean readIfChanged(boolean force) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            if (!missingLogged) {
+                log.warn("Weather file does not exist: {}", path.toAbsolutePath());
+                missingLogged = true;
+            }
+            closeChannel();
+            return false;
+        }
+        missingLogged = false;
+
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        Object key = attributes.fileKey();
+        boolean replaced = channel == null || (key != null && !key.equals(fileKey));
+        if (!force && !replaced && modified == lastModified && size == lastSize) {
+            return false;
+        }
+        if (replaced) {
+            closeChannel();
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileKey = key;
+            position = startPosition(size);
+            // Starting part way through the file may mean starting part way through a line
+            skipPartial = position > 0 && !isLineStart(position);
+        } else {
+            if (key == null) {
+                // Without a file key, such as on Windows, a file that's been replaced can't be told apart from the
+                // one that's open, so the path is opened again to read whichever file is there now
+                closeChannel();
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            }
+            if (!format.isAppended() || size < position) {
+                // Rewritten or truncated, so read it all again
+                position = 0;
+                skipPartial = false;
+            }
+        }
+        lastModified = modified;
+        lastSize = size;
+
+        format.startRead(modified);
+        read();
+        format.endRead(sink);
+        return true;
+    }
+
+    private long startPosition(long size) {
+        // Only the latest readings of an existing appended file are wanted, so start a buffer's length from its end
+        return format.isAppended() ? Math.max(0, size - buffer.capacity()) : 0;
+    }
+
+    private void read() throws IOException {
+        long readPosition = position;
+        buffer.clear();
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                // A line longer than the buffer, which is unlikely, so grow the buffer to hold it
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+            int count = channel.read(buffer, readPosition);
+            if (count <= 0) {
+                break;
+            }
+            readPosition += count;
+
+            byte[] bytes = buffer.array();
+            int end = buffer.position();
+            int lineStart = 0;
+            for (int i = 0; i < end; i++) {
+                if (bytes[i] == '\n') {
+                    if (skipPartial) {
+                        skipPartial = false;
+                    } else {
+                        parseLine(bytes, lineStart, i);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            // Move the start of any incomplete line to the front of the buffer for the next read
+            buffer.limit(end).position(lineStart);
+            buffer.compact();
+        }
+        int remaining = buffer.position();
+        if (format.isAppended()) {
+            // The rest of the last line hasn't been written yet, so read it again next time
+            position = readPosition - remaining;
+        } else {
+            // The last line of a rewritten file may not end with a line terminator
+            if (remaining > 0 && !skipPartial) {
+                parseLine(buffer.array(), 0, remaining);
+            }
+            skipPartial = false;
+            position = readPosition;
+        }
+    }
+
+    private boolean isLineStart(long filePosition) throws IOException {
+        ByteBuffer previous = ByteBuffer.allocate(1);
+        return channel.read(previous, filePosition - 1) == 1 && previous.get(0) == '\n';
+    }
+
+    private void parseLine(byte[] bytes, int start, int end) {
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        tokenizer.setLine(bytes, start, end);
+        try {
+            format.parseLine(tokenizer, sink);
+        } catch (RuntimeException e) {
+            log.warn("Invalid line in weather file {}: {} - {}", path, tokenizer, e.getMessage());
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Unable to close weather file {}", path, e);
+            }
+            channel = null;
+            fileKey = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closeChannel();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toString(path);
+    }
+}
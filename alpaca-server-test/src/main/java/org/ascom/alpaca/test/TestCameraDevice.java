@@ -253,11 +253,6 @@ public class TestCameraDevice extends BaseDevice implements CameraDevice {
         return new ImageArray(ImageArray.Type.Integer, ImageArray.Rank.SinglePlane, imagearray);
     }
 
-    @Override
-    public byte[] getImageBytes() {
-        throw new PropertyNotImplementedException("Not implemented");
-    }
-
     @Override
     public boolean isImageReady() {
         getCameraState();
@@ -2,6 +2,7 @@ package org.ascom.alpaca.config;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
 import jakarta.enterprise.event.Startup;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -9,12 +10,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Properties;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * The ConfigManager is used to create and manage configuration objects that are used
@@ -28,6 +35,7 @@ import java.util.Properties;
  *
  * setup.properties_file: The path to the properties file containing the default configuration.
  * setup.overrides_file: The path to the properties file containing override configuration.
+ * setup.watch_files: Whether to reload the configuration when either file is changed, defaults to true.
  *
  * The properties file should be formatted as key=value pairs, with one pair per line.
  * When the user updates the configuration, the ConfigManager will apply the changes to the
@@ -35,23 +43,166 @@ import java.util.Properties;
  * The override file is not to be modified by the user.  It'll contain only the properties
  * that have been updated by the user that differ from the default configuration. You'd need
  * to check both files to get the full configuration.
+ *
+ * The properties and the configuration objects built from them are held in an immutable snapshot, which is replaced
+ * as a whole whenever the configuration changes, so getting a configuration object is a single volatile read without
+ * any locking, and a configuration object is never changed once it has been handed out.  The fields of each
+ * configuration class are found once, and set with method handles when its objects are built.
  */
 @ApplicationScoped
 public class ConfigManager {
     private static final Logger log = LoggerFactory.getLogger(ConfigManager.class);
-    private final Map<Class<?>, Object> configCache = new HashMap<>();
+    // How long to let an editor finish writing a file after a change is reported before reading it
+    private static final long settleTime = 100;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Map<Class<?>, ConfigBinder> binders = new ConcurrentHashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final Object updateLock = new Object();
+    private volatile WatchService watchService;
+    private Thread watchThread;
 
     @Inject
     @ConfigProperty(name="setup.properties_file", defaultValue = "setup_config.properties")
     String configFile;
+    @Inject
     @ConfigProperty(name="setup.overrides_file", defaultValue = "setup_override.properties")
     String overrideFile;
+    @Inject
+    @ConfigProperty(name="setup.watch_files", defaultValue = "true")
+    boolean watchFiles;
 
     ConfigManager() {
     }
 
+    /**
+     * The properties, and the configuration objects built from them.
+     * @param defaultProps the properties of the config file
+     * @param overrideProps the properties of the override file
+     * @param configs the configuration object of each class that's been requested
+     */
+    private record Snapshot(Properties defaultProps, Properties overrideProps, Map<Class<?>, Object> configs) {}
+
+    /**
+     * Sets the fields of one configuration class from the properties.
+     */
+    private static final class ConfigBinder {
+        private final Class<?> configClass;
+        private final MethodHandle constructor;
+        private final List<FieldBinder> fields = new ArrayList<>();
+
+        private record FieldBinder(String name, String key, String defaultValue, Class<?> type,
+                                   Function<String, Object> converter, MethodHandle setter) {}
+
+        ConfigBinder(Class<?> configClass) throws ReflectiveOperationException {
+            this.configClass = configClass;
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            var declaredConstructor = configClass.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(declaredConstructor)
+                    .asType(MethodType.methodType(Object.class));
+            for (Field field : configClass.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Key.class)) {
+                    Function<String, Object> converter = converter(field.getType());
+                    if (converter == null) {
+                        log.warn("Unsupported field type: {}", field.getType().getName());
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    MethodHandle setter = lookup.unreflectSetter(field)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    DefaultValue defaultValue = field.getAnnotation(DefaultValue.class);
+                    fields.add(new FieldBinder(field.getName(), field.getAnnotation(Key.class).value(),
+                            defaultValue == null ? null : defaultValue.value(), field.getType(), converter, setter));
+                }
+            }
+        }
+
+        Object build(Properties defaultProps, Properties overrideProps) {
+            Object config;
+            try {
+                config = constructor.invokeExact();
+            } catch (Throwable e) {
+                log.error("Failed to instantiate config class {}: {}", configClass.getName(), e.getMessage());
+                throw new RuntimeException(e);
+            }
+            for (FieldBinder field : fields) {
+                String value = overrideProps.getProperty(field.key());
+                // if it's never been overridden, see if it is in the defaults prop
+                if (value == null) {
+                    value = defaultProps.getProperty(field.key());
+                }
+                if (value == null) {
+                    value = field.defaultValue();
+                }
+                if (value == null) {
+                    continue;
+                }
+
+                Object convertedValue;
+                try {
+                    convertedValue = field.converter().apply(value);
+                } catch (RuntimeException e) {
+                    log.warn("Cannot convert {} to {}: {}", value, field.type().getName(), e.getMessage());
+                    continue;
+                }
+                try {
+                    field.setter().invokeExact(config, convertedValue);
+                    log.debug("Assigned {} to field {}", value, field.name());
+                } catch (Throwable e) {
+                    log.error("Failed to set field {}: {}", field.name(), e.getMessage());
+                }
+            }
+            return config;
+        }
+    }
+
+    private static Function<String, Object> converter(Class<?> type) {
+        if (type == String.class) {
+            return value -> value;
+        } else if (type == int.class || type == Integer.class) {
+            return value -> value.isEmpty() ? 0 : Integer.parseInt(value);
+        } else if (type == long.class || type == Long.class) {
+            return value -> value.isEmpty() ? 0L : Long.parseLong(value);
+        } else if (type == double.class || type == Double.class) {
+            return value -> value.isEmpty() ? 0.0 : Double.parseDouble(value);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean::parseBoolean;
+        }
+        return null;
+    }
+
     void onStart(@Observes Startup ev) {
         log.info("Loading config from {}", configFile);
+        currentSnapshot();
+        if (watchFiles) {
+            startWatching();
+        }
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.debug("Unable to close the config watch service", e);
+            }
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (updateLock) {
+                current = snapshot.get();
+                if (current == null) {
+                    current = new Snapshot(loadProperties(configFile), loadProperties(overrideFile), Map.of());
+                    snapshot.set(current);
+                }
+            }
+        }
+        return current;
     }
 
     /**
@@ -60,13 +211,15 @@ public class ConfigManager {
      * and will inspect the object's fields annotated with {@code @Key} to bind configuration properties.
      * The Key annotation value should be the name of the configuration property to bind to the field.
      *
-     * If the configuration is not already present in the cache, it will be loaded
-     * and stored in the cache for future access. If any of the configuration properties
+     * If the configuration is not already present in the current snapshot, it will be built and
+     * added to the snapshot for future access. If any of the configuration properties
      * in the object are not found in the configuration file, they will be set to their default values.
      *
      * If any of the properties in the object have been updated by the client using the setup endpoint,
-     * the updated values will be applied to the configuration object, so the updated configuration
-     * is immediately available for use.
+     * or either properties file has been changed, a new configuration object is built with the updated
+     * values, so the updated configuration is immediately available for use.  The object returned before
+     * the update isn't changed, so callers should get the configuration each time they use it rather than
+     * keeping it, which costs no more than reading a volatile field.
      *
      * If more than one type of device is running in this service, each device should create their
      * own config object and will have its own configuration object, and the ConfigManager will manage
@@ -79,127 +232,209 @@ public class ConfigManager {
      *                        This class must have a default no-argument constructor and may contain
      *                        fields annotated with {@code @Key} to bind configuration properties.
      * @return The configuration object implementing the specified interface {@code T}.
-     *         Returns a cached instance if available or a newly instantiated and populated instance otherwise.
+     *         Returns the instance in the current snapshot if available or a newly instantiated and populated
+     *         instance otherwise.
      * @throws RuntimeException if there is a failure during configuration instantiation
      *                          or property loading.
      */
     @SuppressWarnings("unchecked")
-    public synchronized <T> T getConfig(Class<T> configInterface) {
-        return (T) configCache.computeIfAbsent(configInterface, k -> loadConfig(configInterface));
+    public <T> T getConfig(Class<T> configInterface) {
+        Object config = currentSnapshot().configs().get(configInterface);
+        if (config != null) {
+            return (T) config;
+        }
+        // Only the first request for each class gets here
+        ConfigBinder binder = binder(configInterface);
+        while (true) {
+            Snapshot current = snapshot.get();
+            config = current.configs().get(configInterface);
+            if (config != null) {
+                return (T) config;
+            }
+            config = binder.build(current.defaultProps(), current.overrideProps());
+            Map<Class<?>, Object> configs = new HashMap<>(current.configs());
+            configs.put(configInterface, config);
+            if (snapshot.compareAndSet(current, new Snapshot(current.defaultProps(), current.overrideProps(), Map.copyOf(configs)))) {
+                return (T) config;
+            }
+        }
+    }
+
+    private ConfigBinder binder(Class<?> configClass) {
+        return binders.computeIfAbsent(configClass, k -> {
+            try {
+                return new ConfigBinder(configClass);
+            } catch (ReflectiveOperationException e) {
+                log.error("Failed to instantiate config class {}: {}", configClass.getName(), e.getMessage());
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     /**
      * Updates the configuration properties with the specified changes.
      * If a property's value differs from the existing value, it is updated, and the resulting
-     * changes are persisted to the configuration file. Additionally, the in-memory configuration
-     * cache is refreshed to reflect the updates, so all the active configuration objects are
+     * changes are persisted to the configuration file. Additionally, a new snapshot of the configuration
+     * objects is published to reflect the updates, so all the active configuration objects are
      * immediately available for use.
      *
      * @param configChanges A map of configuration key-value pairs representing the changes to
      *                      be applied. Each entry contains a key as the property name and the
      *                      corresponding value as the new property value.
      */
-    public synchronized void updateConfig(Map<String, String> configChanges) {
-        Properties overrideProps = loadProperties(overrideFile);
-        Properties defaultProps = loadProperties(configFile);
-        for (String key : configChanges.keySet()) {
-            String newValue = configChanges.get(key);
-            String oldOverrideValue = overrideProps.getProperty(key);
-            String defaultValue = defaultProps.getProperty(key);
-            if ((oldOverrideValue == null && !newValue.equals(defaultValue)) || (oldOverrideValue != null && !oldOverrideValue.equals(newValue))) {
-                if (newValue.equals(defaultValue)) {
-                    log.info("Config key {} has been set from overriden value {} to default value {} - removing from overrides", key, oldOverrideValue, newValue);
-                    overrideProps.remove(key);
-                } else {
-                    log.info("Updating config key {} from {} to value {}", key, oldOverrideValue, newValue);
-                    overrideProps.setProperty(key, newValue);
+    public void updateConfig(Map<String, String> configChanges) {
+        synchronized (updateLock) {
+            Snapshot current = currentSnapshot();
+            Properties overrideProps = new Properties();
+            overrideProps.putAll(current.overrideProps());
+            Properties defaultProps = current.defaultProps();
+            for (String key : configChanges.keySet()) {
+                String newValue = configChanges.get(key);
+                String oldOverrideValue = overrideProps.getProperty(key);
+                String defaultValue = defaultProps.getProperty(key);
+                if ((oldOverrideValue == null && !newValue.equals(defaultValue)) || (oldOverrideValue != null && !oldOverrideValue.equals(newValue))) {
+                    if (newValue.equals(defaultValue)) {
+                        log.info("Config key {} has been set from overriden value {} to default value {} - removing from overrides", key, oldOverrideValue, newValue);
+                        overrideProps.remove(key);
+                    } else {
+                        log.info("Updating config key {} from {} to value {}", key, oldOverrideValue, newValue);
+                        overrideProps.setProperty(key, newValue);
+                    }
                 }
             }
+            try (OutputStream out = Files.newOutputStream(Paths.get(overrideFile))) {
+                overrideProps.store(out, "Updated overridden setup configuration");
+            } catch (IOException e) {
+                log.warn("Could not write config file {}: {}", overrideFile, e.getMessage());
+            }
+            publish(defaultProps, overrideProps);
         }
-        try {
-            overrideProps.store(Files.newOutputStream(Paths.get(overrideFile)), "Updated overridden setup configuration");
-        } catch (IOException e) {
-            log.warn("Could not write config file {}: {}", configFile, e.getMessage());
+        notifyListeners();
+    }
+
+    /**
+     * Rereads the properties files, and publishes a new snapshot if they have changed.
+     * @return true if the configuration changed
+     */
+    public boolean reload() {
+        synchronized (updateLock) {
+            Snapshot current = currentSnapshot();
+            Properties defaultProps = loadProperties(configFile);
+            Properties overrideProps = loadProperties(overrideFile);
+            if (defaultProps.equals(current.defaultProps()) && overrideProps.equals(current.overrideProps())) {
+                return false;
+            }
+            log.info("Reloading the setup configuration from {} and {}", configFile, overrideFile);
+            publish(defaultProps, overrideProps);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    // Called holding the update lock
+    private void publish(Properties defaultProps, Properties overrideProps) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            // Rebuild every configuration object that has been requested, with getConfig possibly adding more
+            Map<Class<?>, Object> configs = new HashMap<>();
+            for (Class<?> configClass : current.configs().keySet()) {
+                configs.put(configClass, binder(configClass).build(defaultProps, overrideProps));
+            }
+            if (snapshot.compareAndSet(current, new Snapshot(defaultProps, overrideProps, Map.copyOf(configs)))) {
+                return;
+            }
+        }
+    }
+
+    private void notifyListeners() {
+        // Outside the lock, so listeners can get their config
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Config listener failed: {}", e.getMessage(), e);
+            }
         }
-        configCache.values().forEach(config -> loadConfig(config, loadProperties(configFile), overrideProps));
+    }
+
+    /**
+     * Adds a listener that's called after the configuration has been updated or reloaded, such as by a device that
+     * caches a result derived from its configuration.
+     * @param listener the listener
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
     }
 
     private Properties loadProperties(String filename) {
         Properties props = new Properties();
-        try {
-            props.load(Files.newInputStream(Paths.get(filename)));
+        try (InputStream in = Files.newInputStream(Paths.get(filename))) {
+            props.load(in);
         } catch (IOException e) {
-            log.warn("Could not load config file {}: {}. Using defaults.", configFile, e.getMessage());
+            log.warn("Could not load config file {}: {}. Using defaults.", filename, e.getMessage());
         }
         return props;
     }
 
-    private Object loadConfig(Class<?> configClass) {
+    private void startWatching() {
+        Set<Path> directories = new HashSet<>();
+        Set<Path> fileNames = new HashSet<>();
+        for (String file : List.of(configFile, overrideFile)) {
+            Path path = Paths.get(file).toAbsolutePath();
+            directories.add(path.getParent());
+            fileNames.add(path.getFileName());
+        }
         try {
-            Object config = configClass.getDeclaredConstructor().newInstance();
-            loadConfig(config, loadProperties(configFile), loadProperties(overrideFile));
-            return config;
-        } catch (Exception e) {
-            log.error("Failed to instantiate config class {}: {}", configClass.getName(), e.getMessage());
-            throw new RuntimeException(e);
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                try {
+                    directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                } catch (IOException e) {
+                    log.warn("Unable to watch {} for config changes: {}", directory, e.getMessage());
+                }
+            }
+            watchService = service;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Unable to watch the config files for changes: {}", e.getMessage());
+            return;
         }
+        watchThread = new Thread(() -> watch(fileNames), "Alpaca Config Watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
     }
 
-    // Iterates over the member variables in the supplied object and scans for
-    // fields annotated with `@Key`. If a matching key is found in the properties,
-    // the value is assigned to the field.
-    private void loadConfig(Object config, Properties defaultProps, Properties overrideProps) {
-        Class<?> clazz = config.getClass();
-        // Iterates fields; processes those with `@Key`
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Key.class)) {
-                Key keyAnnotation = field.getAnnotation(Key.class);
-                String key = keyAnnotation.value();
-
-                String value = overrideProps.getProperty(key);
-                // if it's never been overridden, see if it is in the defaults prop
-                if (value == null && defaultProps != null) {
-                    value = defaultProps.getProperty(key);
+    private void watch(Set<Path> fileNames) {
+        try {
+            while (true) {
+                WatchService service = watchService;
+                if (service == null) {
+                    return;
                 }
-
-                if (value == null && field.isAnnotationPresent(DefaultValue.class)) {
-                    value = field.getAnnotation(DefaultValue.class).value();
+                WatchKey key = service.take();
+                boolean changed = false;
+                // Let the writer finish, and gather the other changes it makes while it does
+                Thread.sleep(settleTime);
+                for (; key != null; key = service.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileNames.contains((Path) event.context());
+                    }
+                    key.reset();
                 }
-
-                if (value != null) {
+                if (changed) {
                     try {
-                        field.setAccessible(true);
-                        Object convertedValue = convertValue(field.getType(), value);
-                        if (convertedValue != null) {
-                            field.set(config, convertedValue);
-                            log.debug("Assigned {} to field {}", value, field.getName());
-                        }
-                    } catch (IllegalAccessException e) {
-                        log.error("Failed to set field {}: {}", field.getName(), e.getMessage());
+                        reload();
+                    } catch (RuntimeException e) {
+                        log.warn("Unable to reload the setup configuration: {}", e.getMessage(), e);
                     }
                 }
             }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
         }
     }
-
-    private Object convertValue(Class<?> type, String value) {
-        try {
-            if (type == String.class) {
-                return value;
-            } else if (type == int.class || type == Integer.class) {
-                return value.isEmpty() ? 0 : Integer.parseInt(value);
-            } else if (type == long.class || type == Long.class) {
-                return value.isEmpty() ? 0 : Long.parseLong(value);
-            } else if (type == double.class || type == Double.class) {
-                return value.isEmpty() ? 0 : Double.parseDouble(value);
-            } else if (type == boolean.class || type == Boolean.class) {
-                return Boolean.parseBoolean(value);
-            }
-        } catch (Exception e) {
-            log.warn("Cannot convert {} to {}: {}", value, type.getName(), e.getMessage());
-            return null;
-        }
-        log.warn("Unsupported field type: {}", type.getName());
-        return null;
-    }
 }
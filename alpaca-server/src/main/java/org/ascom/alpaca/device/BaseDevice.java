@@ -8,6 +8,7 @@ import org.ascom.alpaca.config.SetupPageRenderer;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.model.DeviceType;
 import org.ascom.alpaca.model.StateValue;
+import org.ascom.alpaca.response.InvalidOperationException;
 import org.ascom.alpaca.response.NotConnectedException;
 import org.ascom.alpaca.response.PropertyNotImplementedException;
 import org.slf4j.Logger;
@@ -17,6 +18,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -37,11 +41,13 @@ public class BaseDevice implements Device {
     private String driverVersion = "1.0";
     private String name;
     private DeviceDescriptor deviceDescriptor;
-    private boolean connecting = false;
     private boolean enforceConnection = true;
+    private volatile int maxClients = 0;
+    private final LongAdder expiredSessions = new LongAdder();
     private final Map<String, Function<String,String>> supportedActions = new HashMap<>();
-    private final Map<Integer, Boolean> clientConnectedStates = new HashMap<>();
+    private final ClientSessionTable clientSessions = new ClientSessionTable();
     private final List<StateValue> emptyDeviceState = new ArrayList<>();
+    private final List<DeviceStateListener> deviceStateListeners = new CopyOnWriteArrayList<>();
     private SetupPageRenderer pageRenderer = new DefaultSetupPageRenderer();
     private Class<?> pageRendererConfigClass = null;
 
@@ -102,6 +108,7 @@ public class BaseDevice implements Device {
      * @param deviceID the device ID
      */
     public void setDeviceID(int deviceID) {
+        this.deviceID = deviceID;
         deviceDescriptor.setDeviceNumber(deviceID);
     }
 
@@ -170,6 +177,24 @@ public class BaseDevice implements Device {
         this.enforceConnection = enforceConnection;
     }
 
+    /**
+     * Returns the maximum number of clients that can be connected to this device at the same time.
+     * @return the maximum number of clients, or 0 if there's no limit
+     */
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    /**
+     * Sets the maximum number of clients that can be connected to this device at the same time.  Once the limit
+     * is reached, further clients trying to connect get an InvalidOperationException.  Clients already connected
+     * when the limit is lowered stay connected.
+     * @param maxClients the maximum number of clients, or 0 for no limit
+     */
+    protected void setMaxClients(int maxClients) {
+        this.maxClients = Math.max(maxClients, 0);
+    }
+
     /**
      * Returns the page renderer for the device which renders an HTML page for the client to
      * edit device configuration attributes via the setup() method. The default renderer provided
@@ -194,6 +219,46 @@ public class BaseDevice implements Device {
     }
 
 
+    /**
+     * Adds a listener that is told whenever this device publishes its state.
+     * @param listener the listener to add
+     */
+    public void addDeviceStateListener(DeviceStateListener listener) {
+        deviceStateListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addDeviceStateListener(DeviceStateListener)}.
+     * @param listener the listener to remove
+     */
+    public void removeDeviceStateListener(DeviceStateListener listener) {
+        deviceStateListeners.remove(listener);
+    }
+
+    /**
+     * Publishes the current state of the device.  Devices that know when their state changes, for example
+     * because the hardware reports it, should call this so the server can serve the device state to clients
+     * without calling {@link #getDeviceState()} for every request.
+     * @param state the current state of the device
+     */
+    protected void publishDeviceState(List<StateValue> state) {
+        for (DeviceStateListener listener : deviceStateListeners) {
+            try {
+                listener.deviceStateChanged(this, state);
+            } catch (Exception e) {
+                log.warn("Device state listener failed for device {}", deviceID, e);
+            }
+        }
+    }
+
+    /**
+     * Publishes the state of the device returned by {@link #getDeviceState()}.
+     * @see #publishDeviceState(List)
+     */
+    protected void deviceStateChanged() {
+        publishDeviceState(getDeviceState());
+    }
+
     // The following methods implement the operations common to all Alpaca devices.  Each method
     // corresponds to the Alpca operartions called by clients.
 
@@ -206,8 +271,11 @@ public class BaseDevice implements Device {
      * @param clientID the id of the calling client
      */
     public void checkConnectionStatus(int clientID) {
-        Boolean connected = clientConnectedStates.get(clientID);
-        if (isEnforceConnection() && (connected == null || !connected)) {
+        ClientSession session = clientSessions.get(clientID);
+        if (session != null) {
+            session.touch();
+        }
+        if (isEnforceConnection() && (session == null || !session.isConnected())) {
             throw new NotConnectedException(clientID + " is not connected to device " + deviceType + " deviceID=" + deviceID);
         }
     }
@@ -223,14 +291,103 @@ public class BaseDevice implements Device {
      */
     @Override
     public void connect(int clientID) {
-        connecting = true;
         log.info("Connecting to device {}", deviceID);
-        if (clientConnectedStates.getOrDefault(clientID, Boolean.FALSE)) {
+        ClientSession session = openSession(clientID);
+        session.touch();
+        if (session.isConnected()) {
             log.info("Client {} is already connected to device {}", clientID, deviceID);
             return;
         }
-        clientConnectedStates.put(clientID, Boolean.TRUE);
-        connecting = false;
+        session.setConnected(true);
+    }
+
+    /**
+     * Returns the sessions of the clients of this device.  Devices that connect asynchronously can use the
+     * sessions to track which of their clients are still connecting.
+     * @return the client sessions of the device
+     */
+    protected ClientSessionTable getClientSessions() {
+        return clientSessions;
+    }
+
+    /**
+     * Returns the session of a client, creating one if the device isn't already at its limit of clients.
+     */
+    private ClientSession openSession(int clientID) {
+        ClientSession session = clientSessions.get(clientID);
+        if (session != null) {
+            return session;
+        }
+        // Only opening a session is serialized, so concurrent connects can't take the device over its limit
+        synchronized (clientSessions) {
+            int limit = maxClients;
+            if (limit > 0 && clientSessions.get(clientID) == null && clientSessions.size() >= limit) {
+                throw new InvalidOperationException("Device " + deviceType + " deviceID=" + deviceID + " already has the maximum of " + limit + " clients connected");
+            }
+            return clientSessions.getOrCreate(clientID);
+        }
+    }
+
+    /**
+     * Records that a client has made a request to this device, so its session isn't expired as idle.  Clients
+     * that aren't connected have no session, and are ignored.
+     * @param clientID the id of the calling client
+     */
+    public void recordActivity(int clientID) {
+        ClientSession session = clientSessions.get(clientID);
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    /**
+     * Disconnects the clients that haven't made a request to this device for longer than the timeout.  These
+     * are usually clients that crashed or lost their network without disconnecting.  Each client is disconnected
+     * with {@link #disconnect(int)}, so devices that override it can release whatever they hold for the client.
+     * @param timeoutNanos the idle timeout in nanoseconds
+     * @return the number of clients disconnected
+     */
+    public int expireIdleSessions(long timeoutNanos) {
+        List<ClientSession> idle = new ArrayList<>();
+        long now = System.nanoTime();
+        clientSessions.forEach(session -> {
+            if (session.isIdle(timeoutNanos, now)) {
+                idle.add(session);
+            }
+        });
+        int expired = 0;
+        for (ClientSession session : idle) {
+            // Check again, in case the client made a request since the sessions were scanned
+            if (clientSessions.get(session.getClientID()) == session && session.isIdle(timeoutNanos, System.nanoTime())) {
+                log.info("Disconnecting client {} from device {} after it was idle for {}s", session.getClientID(), deviceID,
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - session.getLastSeen()));
+                try {
+                    disconnect(session.getClientID());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to disconnect idle client {} from device {}", session.getClientID(), deviceID, e);
+                }
+                clientSessions.remove(session.getClientID());
+                expired++;
+            }
+        }
+        expiredSessions.add(expired);
+        return expired;
+    }
+
+    /**
+     * The number of clients with a session on this device.
+     * @return the number of clients
+     */
+    public int getClientCount() {
+        return clientSessions.size();
+    }
+
+    /**
+     * The number of client sessions that have been expired because the client was idle.
+     * @return the number of expired sessions
+     */
+    public long getExpiredSessionCount() {
+        return expiredSessions.sum();
     }
 
     /**
@@ -240,7 +397,7 @@ public class BaseDevice implements Device {
     @Override
     public void disconnect(int clientID) {
         log.info("Disconnecting from device {}", deviceID);
-        clientConnectedStates.remove(clientID);
+        clientSessions.remove(clientID);
     }
 
     /**
@@ -252,7 +409,8 @@ public class BaseDevice implements Device {
      */
     @Override
     public boolean isConnecting(int clientID) {
-        return connecting;
+        ClientSession session = clientSessions.get(clientID);
+        return session != null && session.isConnecting();
     }
 
     /**
@@ -262,7 +420,8 @@ public class BaseDevice implements Device {
      */
     @Override
     public boolean isConnected(int clientID) {
-        return clientConnectedStates.getOrDefault(clientID, Boolean.FALSE);
+        ClientSession session = clientSessions.get(clientID);
+        return session != null && session.isConnected();
     }
 
     /**
@@ -277,11 +436,13 @@ public class BaseDevice implements Device {
     public void setConnectedState(int clientID, boolean connectedState) {
         checkFormParameters(clientID);
         if (connectedState) {
-            clientConnectedStates.put(clientID, Boolean.TRUE);
+            ClientSession session = openSession(clientID);
+            session.touch();
+            session.setConnected(true);
+            session.setConnecting(false);
         } else {
-            clientConnectedStates.remove(clientID);
+            clientSessions.remove(clientID);
         }
-        connecting = false;
     }
 
     /**
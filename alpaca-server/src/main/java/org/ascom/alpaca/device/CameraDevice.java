@@ -1,6 +1,7 @@
 package org.ascom.alpaca.device;
 
 import org.ascom.alpaca.model.CameraState;
+import org.ascom.alpaca.model.FlatImageArray;
 import org.ascom.alpaca.model.ImageArray;
 import org.ascom.alpaca.model.SensorType;
 
@@ -91,7 +92,27 @@ public interface CameraDevice extends Device {
 
     ImageArray getImageArray();
 
-    byte[] getImageBytes();
+    /**
+     * Returns the last image as a {@link FlatImageArray}, which lets a device hand over the image in the
+     * buffer it was read into.  When a client requests the image using the ImageBytes mechanism, this image
+     * is streamed directly to the client.  Devices that don't hold their images in this form can return null,
+     * in which case the image returned from {@link #getImageArray()} is encoded instead.
+     * @return the last image, or null if the device only supplies images via getImageArray()
+     */
+    default FlatImageArray getFlatImageArray() {
+        return null;
+    }
+
+    /**
+     * @deprecated The ImageBytes encoding is now done by the server from the image returned by
+     * {@link #getFlatImageArray()} or {@link #getImageArray()}, so this is no longer called, and devices don't
+     * need to implement it.
+     * @return null
+     */
+    @Deprecated
+    default byte[] getImageBytes() {
+        return null;
+    }
 
     boolean isImageReady();
 
@@ -0,0 +1,81 @@
+package org.ascom.alpaca.device;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The connection state of one client of a device.  Sessions are held in a {@link ClientSessionTable}, and their
+ * state can be read and updated from any thread.
+ */
+@SuppressWarnings("unused")
+public final class ClientSession {
+    // lastSeen is only updated when it's at least this far behind, so busy clients don't write it on every request
+    private static final long touchGranularity = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int clientID;
+    private final long created;
+    private volatile boolean connecting;
+    private volatile boolean connected;
+    private volatile long lastSeen;
+
+    ClientSession(int clientID) {
+        this.clientID = clientID;
+        this.created = System.nanoTime();
+        this.lastSeen = created;
+    }
+
+    public int getClientID() {
+        return clientID;
+    }
+
+    public boolean isConnecting() {
+        return connecting;
+    }
+
+    public void setConnecting(boolean connecting) {
+        this.connecting = connecting;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public void setConnected(boolean connected) {
+        this.connected = connected;
+    }
+
+    /**
+     * When the session was created, as a {@link System#nanoTime()} value.
+     * @return the time the session was created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * When the client was last seen, as a {@link System#nanoTime()} value.
+     * @return the time of the client's last request
+     */
+    public long getLastSeen() {
+        return lastSeen;
+    }
+
+    /**
+     * Records that the client has just made a request.
+     */
+    public void touch() {
+        long now = System.nanoTime();
+        if (now - lastSeen > touchGranularity) {
+            lastSeen = now;
+        }
+    }
+
+    /**
+     * Whether the client hasn't made a request for longer than the timeout.
+     * @param timeoutNanos the idle timeout in nanoseconds
+     * @param now the current {@link System#nanoTime()}
+     * @return true if the session has been idle longer than the timeout
+     */
+    public boolean isIdle(long timeoutNanos, long now) {
+        return now - lastSeen > timeoutNanos;
+    }
+}
@@ -0,0 +1,152 @@
+package org.ascom.alpaca.device;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The sessions of the clients of a device, keyed by client ID.
+ *
+ * Looking up a session is lock-free and allocation-free, as it's done for every request the device handles.
+ * The table is split into stripes by client ID.  Each stripe holds an immutable pair of sorted arrays, the client
+ * IDs and their sessions, which are searched without locking.  Adding or removing a session replaces the arrays of
+ * its stripe with updated copies while holding the stripe's lock.  Sessions are added far less often than they're
+ * looked up, and a device rarely has more than a few clients, so the copies are small.
+ */
+@SuppressWarnings("unused")
+public final class ClientSessionTable {
+    private static final int stripeCount = 16;
+    private final Stripe[] stripes = new Stripe[stripeCount];
+
+    private static final class Stripe {
+        private static final int[] noKeys = new int[0];
+        private static final ClientSession[] noSessions = new ClientSession[0];
+
+        private volatile Entries entries = new Entries(noKeys, noSessions);
+    }
+
+    private record Entries(int[] keys, ClientSession[] sessions) {}
+
+    public ClientSessionTable() {
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private Stripe stripe(int clientID) {
+        // Spread the bits of the ID, since client IDs are often small sequential numbers
+        int hash = clientID ^ (clientID >>> 16);
+        return stripes[(hash * 0x9E3779B9 >>> 28) & (stripeCount - 1)];
+    }
+
+    /**
+     * Returns the session of a client.
+     * @param clientID the ID of the client
+     * @return the client's session, or null if the client has no session
+     */
+    public ClientSession get(int clientID) {
+        Entries entries = stripe(clientID).entries;
+        int index = Arrays.binarySearch(entries.keys(), clientID);
+        return index >= 0 ? entries.sessions()[index] : null;
+    }
+
+    /**
+     * Returns the session of a client, creating a new one if the client doesn't have one.
+     * @param clientID the ID of the client
+     * @return the client's session
+     */
+    public ClientSession getOrCreate(int clientID) {
+        ClientSession session = get(clientID);
+        if (session != null) {
+            return session;
+        }
+        Stripe stripe = stripe(clientID);
+        synchronized (stripe) {
+            Entries entries = stripe.entries;
+            int index = Arrays.binarySearch(entries.keys(), clientID);
+            if (index >= 0) {
+                return entries.sessions()[index];
+            }
+            int insert = -index - 1;
+            int size = entries.keys().length;
+            int[] keys = new int[size + 1];
+            ClientSession[] sessions = new ClientSession[size + 1];
+            System.arraycopy(entries.keys(), 0, keys, 0, insert);
+            System.arraycopy(entries.sessions(), 0, sessions, 0, insert);
+            System.arraycopy(entries.keys(), insert, keys, insert + 1, size - insert);
+            System.arraycopy(entries.sessions(), insert, sessions, insert + 1, size - insert);
+            session = new ClientSession(clientID);
+            keys[insert] = clientID;
+            sessions[insert] = session;
+            stripe.entries = new Entries(keys, sessions);
+            return session;
+        }
+    }
+
+    /**
+     * Removes the session of a client.
+     * @param clientID the ID of the client
+     * @return the removed session, or null if the client had no session
+     */
+    public ClientSession remove(int clientID) {
+        Stripe stripe = stripe(clientID);
+        synchronized (stripe) {
+            Entries entries = stripe.entries;
+            int index = Arrays.binarySearch(entries.keys(), clientID);
+            if (index < 0) {
+                return null;
+            }
+            ClientSession session = entries.sessions()[index];
+            int size = entries.keys().length;
+            int[] keys = new int[size - 1];
+            ClientSession[] sessions = new ClientSession[size - 1];
+            System.arraycopy(entries.keys(), 0, keys, 0, index);
+            System.arraycopy(entries.sessions(), 0, sessions, 0, index);
+            System.arraycopy(entries.keys(), index + 1, keys, index, size - index - 1);
+            System.arraycopy(entries.sessions(), index + 1, sessions, index, size - index - 1);
+            stripe.entries = new Entries(keys, sessions);
+            return session;
+        }
+    }
+
+    /**
+     * Removes the sessions that have been idle for longer than the timeout.
+     * @param timeoutNanos the idle timeout in nanoseconds
+     * @return the removed sessions
+     */
+    public List<ClientSession> removeIdle(long timeoutNanos) {
+        List<ClientSession> removed = new ArrayList<>();
+        long now = System.nanoTime();
+        forEach(session -> {
+            if (session.isIdle(timeoutNanos, now) && remove(session.getClientID()) == session) {
+                removed.add(session);
+            }
+        });
+        return removed;
+    }
+
+    /**
+     * Calls the action for each session in the table.
+     * @param action the action to call
+     */
+    public void forEach(Consumer<ClientSession> action) {
+        for (Stripe stripe : stripes) {
+            for (ClientSession session : stripe.entries.sessions()) {
+                action.accept(session);
+            }
+        }
+    }
+
+    /**
+     * The number of sessions in the table.
+     * @return the number of sessions
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.entries.keys().length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,19 @@
+package org.ascom.alpaca.device;
+
+import org.ascom.alpaca.model.StateValue;
+
+import java.util.List;
+
+/**
+ * A listener that is told when a device publishes a change to its state.
+ * @see BaseDevice#publishDeviceState(List)
+ */
+@FunctionalInterface
+public interface DeviceStateListener {
+    /**
+     * Called when the device publishes its state.
+     * @param device the device whose state changed
+     * @param state the current state of the device
+     */
+    void deviceStateChanged(Device device, List<StateValue> state);
+}
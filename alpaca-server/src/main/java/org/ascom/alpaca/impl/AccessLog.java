@@ -0,0 +1,220 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.impl.utils.LoggingFilter;
+import org.ascom.alpaca.response.ErrorCode;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the access log of the requests handled by the server.
+ *
+ * The request threads only capture a small {@link Entry} for each request and put it on a bounded queue.  A
+ * background thread takes the entries off the queue and does all the formatting, including working out the
+ * client's address from the proxy headers.  If the queue is full the entry is dropped rather than holding up
+ * the request, and the number of dropped entries is logged once the queue has room again.
+ *
+ * Nothing at all is captured when INFO logging is disabled for {@link LoggingFilter}, which remains the name the
+ * access log is written under.  Requests for the endpoints listed in alpaca.access-log.suppress (such as the
+ * devicestate or slewing polls) are not logged, and only the fraction of the remaining requests set by
+ * alpaca.access-log.sample-rate are.  Requests that fail are always logged.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class AccessLog {
+    private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
+    private final LongAdder dropped = new LongAdder();
+    private BlockingQueue<Entry> queue;
+    private Set<String> suppressed;
+    private Thread writer;
+
+    @Inject @ConfigProperty(name = "alpaca.access-log.queue-size", defaultValue = "4096")
+    int queueSize;
+
+    @Inject @ConfigProperty(name = "alpaca.access-log.sample-rate", defaultValue = "1.0")
+    double sampleRate;
+
+    @Inject @ConfigProperty(name = "alpaca.access-log.suppress")
+    Optional<List<String>> suppress;
+
+    /**
+     * What's captured about a request for the access log.  The header values are kept as they were received,
+     * and are only parsed when the entry is written.  The client and transaction IDs are the request's logging
+     * context entries, which are put back in the logging context while the entry is written, so the log format
+     * can include them as it does for the request's other log messages.
+     */
+    public record Entry(String method,
+                        String path,
+                        String query,
+                        int status,
+                        int errorNumber,
+                        long durationNanos,
+                        String forwarded,
+                        String forwardedFor,
+                        String realIP,
+                        String remoteHost,
+                        String clientID,
+                        String clientTransactionID,
+                        String serverTransactionID) {}
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(Math.max(queueSize, 1));
+        Set<String> endpoints = new HashSet<>();
+        for (String endpoint : suppress.orElse(List.of())) {
+            if (!endpoint.isBlank()) {
+                endpoints.add(endpoint.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        suppressed = Set.copyOf(endpoints);
+        writer = new Thread(this::drain, "Alpaca Access Log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        writer.interrupt();
+    }
+
+    /**
+     * Whether requests are logged at all.  Callers should check this before capturing anything for a request.
+     * @return true if the access log is enabled
+     */
+    public boolean isEnabled() {
+        return log.isInfoEnabled();
+    }
+
+    /**
+     * Decides whether a request should be logged.  Failed requests are always logged.  Otherwise, requests to
+     * suppressed endpoints aren't logged, and the rest are sampled.
+     * @param path the path of the request
+     * @param failed whether the request failed
+     * @return true if the request should be logged
+     */
+    public boolean shouldLog(String path, boolean failed) {
+        if (failed) {
+            return true;
+        }
+        if (!suppressed.isEmpty() && suppressed.contains(endpoint(path))) {
+            return false;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Queues an entry to be written to the log.  If the queue is full the entry is dropped.
+     * @param entry the entry to write
+     */
+    public void submit(Entry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * The number of entries dropped because the queue was full.
+     * @return the number of dropped entries
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private static String endpoint(String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        int start = path.lastIndexOf('/', end - 1) + 1;
+        return path.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Entry entry = queue.poll(1, TimeUnit.SECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+                long drops = dropped.sum();
+                if (drops != reportedDrops && queue.isEmpty()) {
+                    log.warn("Dropped {} access log entries because the log couldn't keep up", drops - reportedDrops);
+                    reportedDrops = drops;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Shutting down, so write out whatever is left
+            List<Entry> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(this::write);
+        }
+    }
+
+    private void write(Entry entry) {
+        try {
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("status=").append(entry.status());
+            sb.append(", ms=").append(TimeUnit.NANOSECONDS.toMillis(entry.durationNanos()));
+            if (entry.errorNumber() > 0) {
+                sb.append(", error=");
+                try {
+                    sb.append(ErrorCode.fromCode(entry.errorNumber()));
+                } catch (IllegalArgumentException e) {
+                    sb.append(entry.errorNumber());
+                }
+            }
+            String clientIP = getClientIP(entry);
+            if (!clientIP.isEmpty()) {
+                sb.append(", client_ip=").append(clientIP);
+            }
+            String query = entry.query() != null ? "?" + entry.query() : "";
+            putContext("ClientID", entry.clientID());
+            putContext("ClientTransactionID", entry.clientTransactionID());
+            putContext("ServerTransactionID", entry.serverTransactionID());
+            log.info("REQUEST: {} {}{} {}", entry.method(), entry.path(), query, sb);
+        } catch (RuntimeException e) {
+            log.debug("Unable to write access log entry", e);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static void putContext(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        }
+    }
+
+    private static String getClientIP(Entry entry) {
+        // On the remote chance that the client is on the other side of a proxy, we need to get the client IP from the
+        // Forwarded header.
+        if (entry.forwarded() != null) {
+            for (String part : entry.forwarded().split(";")) {
+                String[] keyValue = part.trim().split("=");
+                if (keyValue.length == 2 && keyValue[0].trim().equalsIgnoreCase("for")) {
+                    return keyValue[1].trim();
+                }
+            }
+        }
+        if (entry.forwardedFor() != null) {
+            return entry.forwardedFor();
+        }
+        if (entry.realIP() != null) {
+            return entry.realIP();
+        }
+        return entry.remoteHost() != null ? entry.remoteHost() : "";
+    }
+}
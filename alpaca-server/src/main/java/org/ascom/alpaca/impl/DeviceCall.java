@@ -0,0 +1,19 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks resource methods that call a device, so they can be run on the device's own executor by the
+ * {@link DeviceCallInterceptor}.  The device is found from the deviceNumber path parameter and either the
+ * deviceType path parameter or the first segment of the method's path.
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeviceCall {
+}
@@ -0,0 +1,146 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.model.DeviceType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes the resource methods marked with {@link DeviceCall} through the {@link DeviceCommandQueue} and onto the
+ * executor of the device they call, when those are enabled.  Otherwise, the methods are called directly as before.
+ *
+ * Only the GET methods of the device type specific resources are coalesced by the command queue, as the connection
+ * of every one of their requests is checked the same way.
+ */
+@SuppressWarnings("unused")
+@DeviceCall
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER)
+public class DeviceCallInterceptor {
+    private static final Target noTarget = new Target(-1, null, -1, null, false, -1, new int[0]);
+    private final Map<Method, Target> targets = new ConcurrentHashMap<>();
+
+    @Inject
+    DeviceExecutors deviceExecutors;
+
+    @Inject
+    DeviceCommandQueue deviceCommandQueue;
+
+    @Inject
+    DeviceManager deviceManager;
+
+    /**
+     * Where to find the device called by a resource method.  The device type is either fixed by the method's path,
+     * or taken from the argument at typeIndex.  The arguments at keyIndexes identify a read of the device.
+     */
+    private record Target(int numberIndex, DeviceType type, int typeIndex, String endpoint, boolean read, int clientIDIndex, int[] keyIndexes) {}
+
+    @AroundInvoke
+    Object dispatch(InvocationContext context) throws Exception {
+        if (!deviceExecutors.isEnabled() && !deviceCommandQueue.isEnabled()) {
+            return context.proceed();
+        }
+        Target target = targets.computeIfAbsent(context.getMethod(), DeviceCallInterceptor::findTarget);
+        Device device = findDevice(target, context.getParameters());
+        if (device == null) {
+            // Let the resource report the unknown device
+            return context.proceed();
+        }
+
+        Callable<Object> call = context::proceed;
+        if (deviceCommandQueue.isEnabled()) {
+            Callable<Object> proceed = call;
+            Object[] args = context.getParameters();
+            if (target.read() && target.type() != null && target.clientIDIndex() >= 0) {
+                List<Object> key = new ArrayList<>(target.keyIndexes().length);
+                for (int index : target.keyIndexes()) {
+                    key.add(args[index]);
+                }
+                int clientID = ((Number) args[target.clientIDIndex()]).intValue();
+                call = () -> deviceCommandQueue.read(device, target.endpoint(), key, clientID, proceed);
+            } else {
+                call = () -> deviceCommandQueue.execute(device, target.endpoint(), proceed);
+            }
+        }
+        return deviceExecutors.isEnabled() ? deviceExecutors.execute(device, call) : call.call();
+    }
+
+    private Device findDevice(Target target, Object[] args) {
+        if (target == noTarget) {
+            return null;
+        }
+        try {
+            DeviceType type = target.type() != null ? target.type() : DeviceType.fromType((String) args[target.typeIndex()]);
+            return deviceManager.findDevice(((Number) args[target.numberIndex()]).intValue(), type);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static Target findTarget(Method method) {
+        int numberIndex = -1;
+        int typeIndex = -1;
+        int clientIDIndex = -1;
+        int transactionIDIndex = -1;
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof PathParam pathParam) {
+                    if (pathParam.value().equals("deviceNumber")) {
+                        numberIndex = i;
+                    } else if (pathParam.value().equals("deviceType")) {
+                        typeIndex = i;
+                    }
+                } else if (annotation instanceof QueryParam queryParam) {
+                    if (queryParam.value().equals("ClientID")) {
+                        clientIDIndex = i;
+                    } else if (queryParam.value().equals("ClientTransactionID")) {
+                        transactionIDIndex = i;
+                    }
+                }
+            }
+        }
+        Path path = method.getAnnotation(Path.class);
+        if (numberIndex < 0 || path == null) {
+            return noTarget;
+        }
+        // The endpoint is the last segment of the method's path, such as focuser/{deviceNumber}/ismoving
+        String value = path.value().startsWith("/") ? path.value().substring(1) : path.value();
+        String endpoint = value.substring(value.lastIndexOf('/') + 1);
+        boolean read = method.isAnnotationPresent(GET.class);
+        // All the other arguments, such as a switch Id or the accepted media type, identify a read
+        List<Integer> keyIndexes = new ArrayList<>();
+        for (int i = 0; i < annotations.length; i++) {
+            if (i != numberIndex && i != typeIndex && i != clientIDIndex && i != transactionIDIndex) {
+                keyIndexes.add(i);
+            }
+        }
+        int[] keys = keyIndexes.stream().mapToInt(Integer::intValue).toArray();
+        if (typeIndex >= 0) {
+            return new Target(numberIndex, null, typeIndex, endpoint, read, clientIDIndex, keys);
+        }
+
+        // Otherwise the device type is the first segment of the path
+        int slash = value.indexOf('/');
+        DeviceType type = DeviceType.fromType(slash > 0 ? value.substring(0, slash) : value);
+        if (type == DeviceType.Unknown) {
+            return noTarget;
+        }
+        return new Target(numberIndex, type, -1, endpoint, read, clientIDIndex, keys);
+    }
+}
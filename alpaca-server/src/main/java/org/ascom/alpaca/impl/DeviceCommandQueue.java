@@ -0,0 +1,203 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.utils.ClientContext;
+import org.ascom.alpaca.model.EndpointStatistics;
+import org.ascom.alpaca.response.AlpacaResponse;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queues the calls to each device so the device only handles one command at a time, which most hardware
+ * requires.  Drivers then don't need to synchronize their methods themselves.  This covers the server's own calls to
+ * the devices, such as refreshing their state and disconnecting idle clients, as well as the calls of requests.
+ *
+ * This is turned on with alpaca.device-queue.enabled.  Calls to a device are then made one at a time, in the order
+ * they arrive.  The commands that stop a device, such as abortslew, haltcover and stopexposure, skip the queue, so they
+ * can stop a device that is busy with a long command.
+ * Reads of a device's properties are coalesced.  If a read of the same property with the same arguments is already
+ * waiting or in progress, a request joins it instead of queueing a call of its own, and gets a copy of its result.
+ * Each request still has its connection to the device checked for itself.  The time calls wait in the queue is
+ * recorded for each endpoint.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class DeviceCommandQueue {
+    private final Map<Device, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Map<Read, CompletableFuture<Object>> reads = new ConcurrentHashMap<>();
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+
+    @Inject @ConfigProperty(name = "alpaca.device-queue.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    DeviceExecutors deviceExecutors;
+
+    /**
+     * A read of a device property, identified by the endpoint and the arguments of the call other than the
+     * client's IDs.
+     */
+    private record Read(Device device, String endpoint, List<Object> arguments) {}
+
+    private static final class Latency {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder totalWait = new LongAdder();
+        private final LongAccumulator maxWait = new LongAccumulator(Math::max, 0);
+
+        void waited(long nanos) {
+            calls.increment();
+            totalWait.add(nanos);
+            maxWait.accumulate(nanos);
+        }
+    }
+
+    /**
+     * Whether calls to the devices are queued.
+     * @return true if the device queues are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Makes a call that changes the device, or can't be coalesced, once the device has finished any earlier calls.
+     * @param device the device being called
+     * @param endpoint the endpoint of the call, such as slewtocoordinatesasync
+     * @param call the call to make
+     * @return the result of the call
+     * @throws Exception the exception thrown by the call
+     */
+    public Object execute(Device device, String endpoint, Callable<Object> call) throws Exception {
+        if (isStop(endpoint)) {
+            return call.call();
+        }
+        ReentrantLock lock = locks.computeIfAbsent(device, d -> new ReentrantLock(true));
+        if (lock.isHeldByCurrentThread()) {
+            // Called from a call that's already been queued, such as a devicestate request reading the state
+            return call.call();
+        }
+        Latency latency = latency(device, endpoint);
+        long queued = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            latency.waited(System.nanoTime() - queued);
+            return call.call();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes a call to a device on behalf of the server rather than a client, such as refreshing its state, the
+     * same way the {@link DeviceCallInterceptor} makes the calls of requests.  The call is queued, and run on the
+     * device's executor, when those are enabled.
+     * @param device the device being called
+     * @param endpoint the endpoint the call corresponds to, such as devicestate
+     * @param call the call to make
+     * @return the result of the call
+     * @throws Exception the exception thrown by the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T call(Device device, String endpoint, Callable<T> call) throws Exception {
+        Callable<T> queued = call;
+        if (enabled) {
+            queued = () -> (T) execute(device, endpoint, call::call);
+        }
+        return deviceExecutors.isEnabled() ? deviceExecutors.execute(device, queued) : queued.call();
+    }
+
+    private static boolean isStop(String endpoint) {
+        return endpoint.startsWith("abort") || endpoint.startsWith("halt") || endpoint.equals("stopexposure");
+    }
+
+    /**
+     * Reads a property of a device, joining a read of the same property that's already waiting or in progress.
+     * @param device the device being called
+     * @param endpoint the endpoint of the call, such as rightascension
+     * @param arguments the arguments of the call, other than the client's IDs
+     * @param clientID the id of the calling client
+     * @param call the call to make
+     * @return a copy of the result of the call, with this request's ClientTransactionID
+     * @throws Exception the exception thrown by the call
+     */
+    public Object read(Device device, String endpoint, List<Object> arguments, int clientID, Callable<Object> call) throws Exception {
+        // Joining another client's read skips the resource's own connection check, so it's done up front
+        device.checkConnectionStatus(clientID);
+
+        Read read = new Read(device, endpoint, arguments);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = reads.putIfAbsent(read, result);
+        if (inProgress != null) {
+            latency(device, endpoint).coalesced.increment();
+            return copy(await(inProgress));
+        }
+        try {
+            Object value = execute(device, endpoint, call);
+            // The joiners copy the value, so it's left as the resource returned it
+            result.complete(value);
+            return copy(value);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            throw t;
+        } finally {
+            reads.remove(read, result);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> read) throws Exception {
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    private static Object copy(Object value) {
+        // Each request's response gets its own transaction IDs, so can't be shared.  The resource set the
+        // ClientTransactionID of the request that made the read, so it's replaced with this request's.
+        if (value instanceof AlpacaResponse response) {
+            AlpacaResponse copy = response.clone();
+            copy.setClientTransactionID(ClientContext.getContext().getClientTransactionID());
+            return copy;
+        }
+        return value;
+    }
+
+    private Latency latency(Device device, String endpoint) {
+        String name = device.getDeviceType().getTypeName() + "/" + device.getDeviceID() + "/" + endpoint;
+        return latencies.computeIfAbsent(name, n -> new Latency());
+    }
+
+    /**
+     * Returns the queue statistics of each endpoint that has been called.
+     * @return the endpoint statistics
+     */
+    public List<EndpointStatistics> getStatistics() {
+        List<EndpointStatistics> statistics = new ArrayList<>();
+        latencies.forEach((endpoint, latency) -> {
+            long calls = latency.calls.sum();
+            double mean = calls > 0 ? latency.totalWait.sum() / (double) calls : 0;
+            statistics.add(new EndpointStatistics(endpoint,
+                    calls,
+                    latency.coalesced.sum(),
+                    mean / TimeUnit.MILLISECONDS.toNanos(1),
+                    latency.maxWait.get() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        });
+        statistics.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return statistics;
+    }
+}
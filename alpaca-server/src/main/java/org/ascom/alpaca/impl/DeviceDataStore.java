@@ -0,0 +1,153 @@
+package org.ascom.alpaca.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores the unique IDs of the devices the server has seen, so a device keeps the same unique ID across
+ * restarts.  The IDs are held in alpaca.device-state.file.
+ *
+ * Changes are written behind on a background thread.  A change schedules a write a short time later, and any
+ * other changes made before the write happens are saved along with it, so registering many new devices at
+ * startup writes the file once rather than once per device.  The file is replaced atomically: the IDs are
+ * written and synced to a temporary file in the same directory, which is then renamed over the old file.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class DeviceDataStore {
+    private static final Logger log = LoggerFactory.getLogger(DeviceDataStore.class);
+    // How long to wait for more changes before writing the file
+    private static final long writeDelay = 250;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, UUID> knownDevices = new ConcurrentHashMap<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final AtomicLong version = new AtomicLong();
+    private long savedVersion = 0;
+    private ScheduledExecutorService writer;
+
+    @Inject @ConfigProperty(name = "alpaca.device-state.file", defaultValue = "./devices.json")
+    String persistenceFile;
+
+    @PostConstruct
+    void init() {
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Alpaca Device Data Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        load();
+    }
+
+    @PreDestroy
+    void close() {
+        writer.shutdown();
+        flush();
+    }
+
+    private void load() {
+        Path file = Path.of(persistenceFile);
+        if (Files.exists(file)) {
+            try {
+                knownDevices.putAll(objectMapper.readValue(file.toFile(), new TypeReference<Map<String, UUID>>() {}));
+                log.info("Loaded {} known devices from {}", knownDevices.size(), persistenceFile);
+            } catch (IOException e) {
+                log.error("Failed to load device data from {}", persistenceFile, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the unique ID stored for a device.
+     * @param deviceKey the key of the device
+     * @return the unique ID of the device, or null if the device hasn't been seen before
+     */
+    public UUID getUniqueID(String deviceKey) {
+        return knownDevices.get(deviceKey);
+    }
+
+    /**
+     * Stores the unique ID of a device.  The ID is written to the file in the background.
+     * @param deviceKey the key of the device
+     * @param uniqueID the unique ID of the device
+     */
+    public void putUniqueID(String deviceKey, UUID uniqueID) {
+        if (!uniqueID.equals(knownDevices.put(deviceKey, uniqueID))) {
+            version.incrementAndGet();
+            scheduleWrite();
+        }
+    }
+
+    private void scheduleWrite() {
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                writer.schedule(this::write, writeDelay, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // The writer has been shut down, so the changes are saved by the final flush
+                writeScheduled.set(false);
+            }
+        }
+    }
+
+    private void write() {
+        // Changes made from here on schedule another write
+        writeScheduled.set(false);
+        flush();
+    }
+
+    /**
+     * Writes any unsaved changes to the file.
+     */
+    public synchronized void flush() {
+        long current = version.get();
+        if (current == savedVersion) {
+            return;
+        }
+        Map<String, UUID> snapshot = new TreeMap<>(knownDevices);
+        try {
+            writeAtomically(Path.of(persistenceFile), objectMapper.writeValueAsBytes(snapshot));
+            savedVersion = current;
+            log.info("Saved {} known devices to {}", snapshot.size(), persistenceFile);
+        } catch (IOException e) {
+            log.error("Failed to save device data to {}", persistenceFile, e);
+        }
+    }
+
+    private static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
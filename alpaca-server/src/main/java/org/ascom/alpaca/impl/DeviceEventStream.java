@@ -0,0 +1,209 @@
+package org.ascom.alpaca.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.model.StateValue;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the changes to the state of devices to subscribed clients as Server-Sent Events, so clients don't need to
+ * poll properties such as slewing or camerastate to find out when they change.
+ *
+ * A subscriber is first sent the whole state of the device, and then only the state values that changed.  Each
+ * event is named "state", and its data is a JSON array of state values, the same as the Value of a devicestate
+ * response.  Changes are found by comparing the snapshots of the {@link DeviceStateCache}.  The snapshots of
+ * devices that publish their state change as soon as it's published.  The state of other devices is read every
+ * alpaca.device-events.poll-interval milliseconds while they have subscribers, so their subscribers share one read
+ * of the device rather than each polling it.  A comment is sent every alpaca.device-events.heartbeat-interval
+ * seconds, so subscribers and the server both notice a dropped connection.  Each device can have at most
+ * alpaca.device-events.max-subscribers subscribers.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class DeviceEventStream {
+    private static final Logger log = LoggerFactory.getLogger(DeviceEventStream.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Device, Channel> channels = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private volatile Sse sse;
+
+    @Inject
+    DeviceStateCache deviceStateCache;
+
+    @Inject @ConfigProperty(name = "alpaca.device-events.poll-interval", defaultValue = "500")
+    long pollInterval;
+
+    @Inject @ConfigProperty(name = "alpaca.device-events.heartbeat-interval", defaultValue = "15")
+    long heartbeatInterval;
+
+    @Inject @ConfigProperty(name = "alpaca.device-events.max-subscribers", defaultValue = "32")
+    int maxSubscribers;
+
+    /**
+     * The subscribers of a device, and the state they've been sent.
+     */
+    private static final class Channel {
+        private final List<SseEventSink> sinks = new CopyOnWriteArrayList<>();
+        // The state last sent to the subscribers, guarded by the channel
+        private final Map<String, Object> sent = new HashMap<>();
+        private long eventID;
+    }
+
+    void onStart(@Observes Startup ev) {
+        deviceStateCache.addListener(this::stateChanged);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Alpaca Device Events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (pollInterval > 0) {
+            scheduler.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        }
+        if (heartbeatInterval > 0) {
+            scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (Channel channel : channels.values()) {
+            channel.sinks.forEach(SseEventSink::close);
+        }
+    }
+
+    /**
+     * Subscribes a client to the changes to the state of a device.  The client is sent the device's current state
+     * straight away.
+     * @param device the device to subscribe to
+     * @param sink the client's event stream
+     * @param sse the factory for the events
+     */
+    public void subscribe(Device device, SseEventSink sink, Sse sse) {
+        this.sse = sse;
+        Channel channel = channels.computeIfAbsent(device, d -> new Channel());
+        if (maxSubscribers > 0 && channel.sinks.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Device " + device.getDeviceDescriptor().getDeviceName() + " has too many subscribers");
+        }
+        DeviceStateCache.Snapshot snapshot = deviceStateCache.getSnapshot(device);
+        synchronized (channel) {
+            // Bring the existing subscribers up to the same state first, so they all stay in step from here on
+            sendChanges(channel, snapshot.state());
+            channel.sinks.add(sink);
+            send(channel, sink, event(channel.eventID, snapshot.json()));
+        }
+        log.info("Client subscribed to the state of device {}", device.getDeviceDescriptor().getDeviceName());
+    }
+
+    private void stateChanged(Device device, List<StateValue> state) {
+        Channel channel = channels.get(device);
+        if (channel == null || channel.sinks.isEmpty()) {
+            return;
+        }
+        synchronized (channel) {
+            sendChanges(channel, state);
+        }
+    }
+
+    private void sendChanges(Channel channel, List<StateValue> state) {
+        List<StateValue> changes = new ArrayList<>();
+        for (StateValue value : state) {
+            if (!channel.sent.containsKey(value.name()) || !Objects.equals(channel.sent.get(value.name()), value.value())) {
+                channel.sent.put(value.name(), value.value());
+                changes.add(value);
+            }
+        }
+        if (changes.isEmpty() || channel.sinks.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            log.warn("Cannot serialize the changes to a device's state", e);
+            return;
+        }
+        OutboundSseEvent event = event(++channel.eventID, json);
+        for (SseEventSink sink : channel.sinks) {
+            send(channel, sink, event);
+        }
+    }
+
+    private OutboundSseEvent event(long id, String json) {
+        return sse.newEventBuilder()
+                .id(Long.toString(id))
+                .name("state")
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(String.class, json)
+                .build();
+    }
+
+    private void send(Channel channel, SseEventSink sink, OutboundSseEvent event) {
+        if (sink.isClosed()) {
+            channel.sinks.remove(sink);
+            return;
+        }
+        sink.send(event).whenComplete((result, error) -> {
+            if (error != null) {
+                // The client has gone
+                channel.sinks.remove(sink);
+                sink.close();
+            }
+        });
+    }
+
+    /**
+     * Reads the state of the subscribed devices that don't publish it, which tells the listener of any changes.
+     */
+    private void poll() {
+        channels.forEach((device, channel) -> {
+            if (!channel.sinks.isEmpty()) {
+                try {
+                    deviceStateCache.getSnapshot(device);
+                } catch (Exception e) {
+                    log.debug("Unable to read the state of device {}: {}", device.getDeviceDescriptor().getDeviceName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void heartbeat() {
+        Sse factory = sse;
+        if (factory == null) {
+            return;
+        }
+        OutboundSseEvent event = factory.newEventBuilder().comment("heartbeat").build();
+        channels.values().forEach(channel -> channel.sinks.forEach(sink -> send(channel, sink, event)));
+    }
+
+    /**
+     * The number of clients subscribed to a device.
+     * @param device the device
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount(Device device) {
+        Channel channel = channels.get(device);
+        return channel == null ? 0 : channel.sinks.size();
+    }
+}
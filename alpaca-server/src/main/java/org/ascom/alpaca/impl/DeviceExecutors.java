@@ -0,0 +1,202 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.utils.ClientContext;
+import org.ascom.alpaca.model.DeviceExecutorStatistics;
+import org.ascom.alpaca.response.ServerException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the calls to each device on an executor of its own, so a device that blocks on slow or hung hardware only
+ * holds up the requests to that device, rather than every request to the server.
+ *
+ * This is turned on with alpaca.device-executor.enabled.  Each device then gets a small pool of threads, set by
+ * alpaca.device-executor.threads, and at most alpaca.device-executor.queue-size calls can wait for the device at once.
+ * Calls beyond that are turned away straight away with a ServerException, rather than tying up a server thread.  A
+ * call that takes longer than alpaca.device-executor.timeout milliseconds is interrupted and reported to the client
+ * as a ServerException.  The {@link ClientContext} and logging context of the request are carried over to the
+ * thread the call runs on.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class DeviceExecutors {
+    private static final Logger log = LoggerFactory.getLogger(DeviceExecutors.class);
+    // Set on the executor threads while they're running a call
+    private static final ThreadLocal<Boolean> inDeviceCall = new ThreadLocal<>();
+    private final Map<Device, DeviceExecutor> executors = new ConcurrentHashMap<>();
+
+    @Inject @ConfigProperty(name = "alpaca.device-executor.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject @ConfigProperty(name = "alpaca.device-executor.threads", defaultValue = "1")
+    int threads;
+
+    @Inject @ConfigProperty(name = "alpaca.device-executor.queue-size", defaultValue = "32")
+    int queueSize;
+
+    @Inject @ConfigProperty(name = "alpaca.device-executor.timeout", defaultValue = "30000")
+    long timeout;
+
+    @Inject
+    DeviceManager deviceManager;
+
+    void onStop(@Observes Shutdown ev) {
+        executors.values().forEach(executor -> executor.pool.shutdownNow());
+    }
+
+    /**
+     * Whether device calls are run on the device executors.
+     * @return true if the device executors are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs a call on the executor of a device and waits for its result.
+     * @param device the device being called
+     * @param call the call to make
+     * @return the result of the call
+     * @throws Exception the exception thrown by the call
+     */
+    public <T> T execute(Device device, Callable<T> call) throws Exception {
+        if (inDeviceCall.get() != null) {
+            // Already on a device's executor, and waiting on another executor from there could deadlock
+            return call.call();
+        }
+        return executors.computeIfAbsent(device, DeviceExecutor::new).execute(call);
+    }
+
+    /**
+     * Returns the statistics of the executors of the devices that have been called.
+     * @return the executor statistics
+     */
+    public List<DeviceExecutorStatistics> getStatistics() {
+        List<DeviceExecutorStatistics> statistics = new ArrayList<>();
+        for (Device device : deviceManager.getDevices()) {
+            DeviceExecutor executor = executors.get(device);
+            if (executor != null) {
+                statistics.add(new DeviceExecutorStatistics(device.getDeviceType(),
+                        device.getDeviceID(),
+                        device.getDeviceDescriptor().getDeviceName(),
+                        executor.active.get(),
+                        executor.queued.get(),
+                        executor.maxQueued.get(),
+                        executor.completed.sum(),
+                        executor.rejected.sum(),
+                        executor.timedOut.sum()));
+            }
+        }
+        return statistics;
+    }
+
+    private final class DeviceExecutor {
+        private final String name;
+        private final ThreadPoolExecutor pool;
+        private final Semaphore permits;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger maxQueued = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+
+        DeviceExecutor(Device device) {
+            int poolSize = Math.max(threads, 1);
+            name = device.getDeviceType() + " " + device.getDeviceID();
+            permits = new Semaphore(poolSize + Math.max(queueSize, 0));
+            AtomicInteger count = new AtomicInteger();
+            pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "Alpaca Device " + name + " #" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            log.info("Created executor for device {} with {} threads", name, poolSize);
+        }
+
+        <T> T execute(Callable<T> call) throws Exception {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                throw new ServerException("Device " + name + " is busy, too many requests are waiting for it");
+            }
+            maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+
+            ClientContext context = ClientContext.getContext();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            // Whichever of the task and a timed out caller sets this first is responsible for releasing the permit
+            AtomicBoolean claimed = new AtomicBoolean();
+            Future<T> future;
+            try {
+                future = pool.submit(() -> {
+                    if (claimed.getAndSet(true)) {
+                        return null;
+                    }
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+                    inDeviceCall.set(Boolean.TRUE);
+                    ClientContext.setContext(context);
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    try {
+                        return call.call();
+                    } finally {
+                        MDC.clear();
+                        ClientContext.clearContext();
+                        inDeviceCall.remove();
+                        active.decrementAndGet();
+                        completed.increment();
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                permits.release();
+                throw new ServerException("Device " + name + " is not accepting requests");
+            }
+
+            try {
+                return timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                }
+                throw (Error) cause;
+            } catch (TimeoutException e) {
+                timedOut.increment();
+                abandon(future, claimed);
+                throw new ServerException("Device " + name + " did not respond within " + timeout + "ms");
+            } catch (InterruptedException e) {
+                abandon(future, claimed);
+                Thread.currentThread().interrupt();
+                throw new ServerException("Interrupted while waiting for device " + name);
+            }
+        }
+
+        private void abandon(Future<?> future, AtomicBoolean claimed) {
+            future.cancel(true);
+            if (!claimed.getAndSet(true)) {
+                // The call never started, so it won't release its permit itself
+                queued.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+}
@@ -7,114 +7,213 @@ import jakarta.enterprise.event.Startup;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.ascom.alpaca.device.Device;
 import org.ascom.alpaca.model.DeviceDescriptor;
 import org.ascom.alpaca.model.DeviceType;
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * The device manager is responsible for managing the lifecycle of all Alpaca devices. Implementors of
  * new devices need not interact with the DeviceManager as their device will get registered with
  * the device manager automatically on startup
+ *
+ * The devices are held in an immutable {@link Registry} that is built once all the devices have been registered at
+ * startup, and replaced with a new copy whenever a device is added or removed.  Requests look devices up in the
+ * current registry without any locking.
  */
 @SuppressWarnings("unused")
 @ApplicationScoped
 public class DeviceManager {
     private static final Logger log = LoggerFactory.getLogger(DeviceManager.class);
-    private final List<Device> deviceList = new ArrayList<>();
-    private final Map<DeviceType, List<Device>> deviceMap = new HashMap<>();
-    private Map<String, UUID> knownDevices = new HashMap<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile Registry registry;
 
     @Inject
     Instance<Device> devices;
 
-    @Inject @ConfigProperty(name = "alpaca.device-state.file", defaultValue = "./devices.json")
-    String persistenceFile;
+    @Inject
+    DeviceDataStore deviceDataStore;
+
+    /**
+     * An immutable snapshot of the registered devices.  The devices of each type are held in an array indexed
+     * by the ordinal of the type and then by device number, and the list of descriptors returned by the
+     * configureddevices call is built along with it.
+     */
+    private static final class Registry {
+        private final Device[][] byType;
+        private final List<Device> devices;
+        private final List<DeviceDescriptor> descriptors;
+
+        private Registry(List<Device> devices) {
+            Device[][] byType = new Device[DeviceType.values().length][];
+            int[] counts = new int[byType.length];
+            for (Device device : devices) {
+                counts[device.getDeviceType().ordinal()]++;
+            }
+            for (int i = 0; i < byType.length; i++) {
+                byType[i] = new Device[counts[i]];
+            }
+            List<Device> ordered = new ArrayList<>(devices.size());
+            List<DeviceDescriptor> descriptors = new ArrayList<>(devices.size());
+            for (DeviceType type : DeviceType.values()) {
+                int number = 0;
+                for (Device device : devices) {
+                    if (device.getDeviceType() == type) {
+                        byType[type.ordinal()][number] = device;
+                        ordered.add(device);
+                        descriptors.add(device.getDeviceDescriptor());
+                        number++;
+                    }
+                }
+            }
+            this.byType = byType;
+            this.devices = Collections.unmodifiableList(ordered);
+            this.descriptors = Collections.unmodifiableList(descriptors);
+        }
+
+        Device get(DeviceType type, int deviceID) {
+            Device[] devices = byType[type.ordinal()];
+            return deviceID >= 0 && deviceID < devices.length ? devices[deviceID] : null;
+        }
+
+        int count(DeviceType type) {
+            return byType[type.ordinal()].length;
+        }
+
+        Registry with(Device device) {
+            List<Device> devices = new ArrayList<>(this.devices);
+            devices.add(device);
+            return new Registry(devices);
+        }
+
+        Registry without(Device device) {
+            List<Device> devices = new ArrayList<>(this.devices);
+            devices.remove(device);
+            return new Registry(devices);
+        }
+    }
 
     public DeviceManager() {
 
     }
 
     void onStart(@Observes Startup ev) {
-        loadDeviceData();
+        getRegistry();
     }
 
     void onStop(@Observes Shutdown ev) {
-        saveDeviceData();
+        deviceDataStore.flush();
     }
 
-    private void loadDeviceData() {
-        File file = new File(persistenceFile);
-        if (file.exists()) {
-            try {
-                knownDevices = objectMapper.readValue(file, new TypeReference<Map<String, UUID>>() {});
-                log.info("Loaded {} known devices from {}", knownDevices.size(), persistenceFile);
-            } catch (IOException e) {
-                log.error("Failed to load device data from {}", persistenceFile, e);
-            }
-        }
+    private Registry getRegistry() {
+        Registry current = registry;
+        return current != null ? current : load();
     }
 
-    private void saveDeviceData() {
-        try {
-            objectMapper.writeValue(new File(persistenceFile), knownDevices);
-            log.info("Saved {} known devices to {}", knownDevices.size(), persistenceFile);
-        } catch (IOException e) {
-            log.error("Failed to save device data to {}", persistenceFile, e);
+    /**
+     * Registers all the devices and publishes the first registry.  This normally happens at startup, but is done
+     * by whichever request gets here first if one arrives before the startup event.
+     */
+    private synchronized Registry load() {
+        if (registry == null) {
+            List<Device> registered = new ArrayList<>();
+            for (Device device : devices) {
+                register(device);
+                registered.add(device);
+            }
+            Registry loaded = new Registry(registered);
+            renumber(loaded);
+            registry = loaded;
+            log.info("Registered {} devices", loaded.devices.size());
         }
+        return registry;
     }
 
     @SuppressWarnings("unchecked") // Suppress warning since we ensure type safety
     public <D extends Device> D getDevice(int deviceID, DeviceType type) {
-        if (deviceList.isEmpty()) {
-            devices.forEach(this::addDevice);
-        }
-        List<Device> deviceList = deviceMap.get(type);
-        if (deviceList == null) {
+        Device device = getRegistry().get(type, deviceID);
+        if (device == null) {
             throw new BadRequestException("There are no device of type " + type + " with deviceID " + deviceID);
-
         }
+        return (D) device;
+    }
 
-        if (deviceID < 0 || deviceID > deviceList.size() - 1) {
-            throw new BadRequestException("There are no device of type " + type + " with deviceID " + deviceID);
+    /**
+     * Returns the device with the given type and device number, without throwing if there isn't one.
+     * @param deviceID the device number
+     * @param type the type of the device
+     * @return the device, or null if there's no such device
+     */
+    public Device findDevice(int deviceID, DeviceType type) {
+        return getRegistry().get(type, deviceID);
+    }
+
+    /**
+     * Returns all the registered devices, ordered by type and then device number.
+     * @return an unmodifiable list of the devices
+     */
+    public List<Device> getDevices() {
+        return getRegistry().devices;
+    }
+
+    /**
+     * Returns the descriptors of all the registered devices, in the same order as {@link #getDevices()}.
+     * @return an unmodifiable list of the device descriptors
+     */
+    public List<DeviceDescriptor> getDeviceDescriptors() {
+        return getRegistry().descriptors;
+    }
+
+    public synchronized void addDevice(Device device) {
+        Registry current = getRegistry();
+        if (current.devices.contains(device)) {
+            return;
         }
-        return (D) deviceList.get(deviceID);
+        register(device);
+        Registry updated = current.with(device);
+        renumber(updated);
+        registry = updated;
     }
 
-    public synchronized List<Device> getDevices() {
-        if (deviceList.isEmpty()) {
-            devices.forEach(this::addDevice);
+    /**
+     * Removes a device from the server.  The devices of the same type with higher device numbers are
+     * renumbered, so the device numbers of each type stay sequential as the Alpaca spec requires.
+     * @param device the device to remove
+     * @return true if the device was registered
+     */
+    public synchronized boolean removeDevice(Device device) {
+        Registry current = getRegistry();
+        if (!current.devices.contains(device)) {
+            return false;
         }
-        return deviceMap.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
+        log.info("Removing device {}", device.getDeviceDescriptor().getDeviceName());
+        Registry updated = current.without(device);
+        renumber(updated);
+        registry = updated;
+        return true;
     }
 
-    public synchronized void addDevice(Device device) {
+    private void register(Device device) {
         DeviceDescriptor descriptor = device.getDeviceDescriptor();
         String deviceKey = descriptor.getDeviceType().toString() + ":" + descriptor.getDeviceName();
 
-        if (knownDevices.containsKey(deviceKey)) {
-            log.info("Device {} already known with unique ID {}", descriptor.getDeviceName(), descriptor.getUniqueID());
-            descriptor.setUniqueID(knownDevices.get(deviceKey));
+        UUID uniqueID = deviceDataStore.getUniqueID(deviceKey);
+        if (uniqueID != null) {
+            log.info("Device {} already known with unique ID {}", descriptor.getDeviceName(), uniqueID);
+            descriptor.setUniqueID(uniqueID);
         } else {
             log.info("Adding new device {} with unique ID {}", descriptor.getDeviceName(), descriptor.getUniqueID());
-            knownDevices.put(deviceKey, descriptor.getUniqueID());
-            saveDeviceData();
+            deviceDataStore.putUniqueID(deviceKey, descriptor.getUniqueID());
         }
+    }
 
-        List<Device> devices = deviceMap.computeIfAbsent(device.getDeviceType(), k -> new ArrayList<>());
-        device.setDeviceID(devices.size());
-        devices.add(device);
-
-        deviceList.add(device);
+    private static void renumber(Registry registry) {
+        for (DeviceType type : DeviceType.values()) {
+            for (int number = 0; number < registry.count(type); number++) {
+                registry.get(type, number).setDeviceID(number);
+            }
+        }
     }
 }
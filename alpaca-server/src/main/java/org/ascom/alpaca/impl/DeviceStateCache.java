@@ -0,0 +1,187 @@
+package org.ascom.alpaca.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.device.BaseDevice;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.device.DeviceStateListener;
+import org.ascom.alpaca.model.StateValue;
+import org.ascom.alpaca.response.ServerException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a snapshot of the state of each device, already serialized to JSON, so the devicestate requests
+ * from many clients don't each call the device, and through it the hardware.
+ *
+ * Snapshots are kept up to date in two ways.  Devices extending {@link BaseDevice} can push their state when it
+ * changes with {@link BaseDevice#publishDeviceState(List)}.  Once a device has done that, its devicestate
+ * requests are always served from the last state it published.  For other devices, the snapshots of the devices
+ * clients are asking for are refreshed on a schedule set by alpaca.device-state.refresh-interval (in milliseconds).
+ * If the interval is 0, which is the default, the state is read from the device for every request as before.
+ * The state is read through the {@link DeviceCommandQueue}, so reads for the device event streams and the refresh
+ * wait their turn and run on the device's executor like the calls of requests.
+ *
+ * Listeners added with {@link #addListener(DeviceStateListener)} are told whenever a device's snapshot changes,
+ * however it was updated.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class DeviceStateCache {
+    private static final Logger log = LoggerFactory.getLogger(DeviceStateCache.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Device, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Device, Boolean> listening = new ConcurrentHashMap<>();
+    private final List<DeviceStateListener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    DeviceManager deviceManager;
+
+    @Inject
+    DeviceCommandQueue deviceCommandQueue;
+
+    @Inject @ConfigProperty(name = "alpaca.device-state.refresh-interval", defaultValue = "0")
+    long refreshInterval;
+
+    /**
+     * A snapshot of the state of a device.
+     * @param state the state values of the device
+     * @param json the state values serialized to JSON
+     * @param timestamp when the snapshot was taken, in milliseconds since the epoch
+     * @param published whether the snapshot was published by the device, rather than read from it
+     */
+    public record Snapshot(List<StateValue> state, String json, long timestamp, boolean published) {}
+
+    void onStart(@Observes Startup ev) {
+        for (Device device : deviceManager.getDevices()) {
+            listen(device);
+        }
+        if (refreshInterval > 0) {
+            log.info("Refreshing device state every {}ms", refreshInterval);
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Alpaca Device State Refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the state of the device serialized as a JSON array.
+     * @param device the device to return the state of
+     * @return the JSON encoded state values
+     */
+    public String getDeviceStateJson(Device device) {
+        return getSnapshot(device).json();
+    }
+
+    /**
+     * Returns the latest snapshot of the state of the device.  If the device hasn't published its state and
+     * there's no scheduled refresh of the snapshots, the state is read from the device.
+     * @param device the device to return the state of
+     * @return the snapshot of the device's state
+     */
+    public Snapshot getSnapshot(Device device) {
+        listen(device);
+        Snapshot snapshot = snapshots.get(device);
+        if (snapshot != null && (snapshot.published() || refreshInterval > 0)) {
+            return snapshot;
+        }
+        return update(device, readState(device), false);
+    }
+
+    private List<StateValue> readState(Device device) {
+        try {
+            return deviceCommandQueue.call(device, "devicestate", device::getDeviceState);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServerException("Unable to read the state of device " + device.getDeviceDescriptor().getDeviceName() + ": " + e.getMessage());
+        }
+    }
+
+    private void listen(Device device) {
+        if (device instanceof BaseDevice baseDevice && listening.putIfAbsent(device, Boolean.TRUE) == null) {
+            baseDevice.addDeviceStateListener((d, state) -> update(d, state, true));
+        }
+    }
+
+    private Snapshot update(Device device, List<StateValue> state, boolean published) {
+        List<StateValue> values = state == null ? List.of() : List.copyOf(state);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the state of device " + device.getDeviceDescriptor().getDeviceName(), e);
+        }
+        Snapshot snapshot = new Snapshot(values, json, System.currentTimeMillis(), published);
+        Snapshot previous = snapshots.put(device, snapshot);
+        if (previous == null || !previous.state().equals(values)) {
+            for (DeviceStateListener listener : listeners) {
+                try {
+                    listener.deviceStateChanged(device, values);
+                } catch (Exception e) {
+                    log.warn("Device state listener failed for device {}", device.getDeviceDescriptor().getDeviceName(), e);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Adds a listener that is told whenever the snapshot of a device's state changes.
+     * @param listener the listener to add
+     */
+    public void addListener(DeviceStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(DeviceStateListener)}.
+     * @param listener the listener to remove
+     */
+    public void removeListener(DeviceStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Refreshes the snapshots of the devices clients have asked for, other than the ones the devices publish.
+     */
+    private void refresh() {
+        for (Map.Entry<Device, Snapshot> entry : snapshots.entrySet()) {
+            if (entry.getValue().published()) {
+                continue;
+            }
+            Device device = entry.getKey();
+            try {
+                update(device, readState(device), false);
+            } catch (Exception e) {
+                // Drop the snapshot so the next request reads the state from the device and reports the problem
+                log.debug("Unable to refresh the state of device {}: {}", device.getDeviceDescriptor().getDeviceName(), e.getMessage());
+                snapshots.remove(device);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.webservices.*;
+import org.ascom.alpaca.model.DeviceType;
+import org.ascom.alpaca.model.PropertyValue;
+import org.ascom.alpaca.response.AlpacaException;
+import org.ascom.alpaca.response.ErrorCode;
+import org.ascom.alpaca.response.ListResponse;
+import org.ascom.alpaca.response.ValueResponse;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Reads a batch of device properties in one request.  Each property is read by calling the resource method of its
+ * endpoint, the same as a request for the property on its own would, so it goes through the same connection checks,
+ * device queues and executors, and fails with the same errors.  A property that fails doesn't fail the batch, its
+ * error is returned in its {@link PropertyValue} instead.
+ *
+ * The properties that can be read are the GET endpoints of the device resources that return a value and take no
+ * arguments other than the device and the client's IDs.  Endpoints such as imagearray or switch values, which need
+ * arguments or return something other than a value, have to be read on their own.  At most alpaca.properties.max-count
+ * properties can be read in one batch.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class PropertyReader {
+    private static final Logger log = LoggerFactory.getLogger(PropertyReader.class);
+    private static final List<Class<?>> resourceClasses = List.of(CommonDeviceResource.class,
+            CameraResource.class,
+            CoverCalibratorResource.class,
+            DomeResource.class,
+            FilterWheelResource.class,
+            FocuserResource.class,
+            ObservingConditionsResource.class,
+            RotatorResource.class,
+            SafetyMonitorResource.class,
+            SwitchResource.class,
+            TelescopeResource.class);
+
+    private volatile Map<DeviceType, Map<String, Property>> properties;
+
+    @Inject @Any
+    Instance<Object> resources;
+
+    @Inject
+    DeviceManager deviceManager;
+
+    @Inject @ConfigProperty(name = "alpaca.properties.max-count", defaultValue = "64")
+    int maxCount;
+
+    /**
+     * A readable property, and where to put the device and client's IDs in the arguments of its resource method.
+     * The device type is passed as the argument at typeIndex for the common endpoints, and isn't passed otherwise.
+     */
+    private record Property(Object resource, Method method, int numberIndex, int typeIndex, int clientIDIndex, int transactionIDIndex) {}
+
+    /**
+     * Reads properties of a device.
+     * @param deviceType the type of the device
+     * @param deviceNumber the device number of the device
+     * @param names the names of the properties, such as rightascension
+     * @param clientID the id of the calling client
+     * @param clientTransactionID the transaction id of the request
+     * @return the values of the properties, in the order they were asked for
+     */
+    public List<PropertyValue> read(DeviceType deviceType, int deviceNumber, List<String> names, int clientID, long clientTransactionID) {
+        checkCount(names.size());
+        Device device = deviceManager.getDevice(deviceNumber, deviceType);
+        List<PropertyValue> values = new ArrayList<>(names.size());
+        for (String name : names) {
+            values.add(read(device, name, clientID, clientTransactionID));
+        }
+        return values;
+    }
+
+    /**
+     * Reads properties of any of the devices of the server.
+     * @param paths the properties, each given as deviceType/deviceNumber/name, such as telescope/0/rightascension
+     * @param clientID the id of the calling client
+     * @param clientTransactionID the transaction id of the request
+     * @return the values of the properties, in the order they were asked for
+     */
+    public List<PropertyValue> read(List<String> paths, int clientID, long clientTransactionID) {
+        checkCount(paths.size());
+        List<PropertyValue> values = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            String[] parts = path.split("/");
+            DeviceType type = parts.length == 3 ? DeviceType.fromType(parts[0]) : DeviceType.Unknown;
+            int number = parts.length == 3 ? parseNumber(parts[1]) : -1;
+            if (type == DeviceType.Unknown || number < 0) {
+                throw new BadRequestException("Property is not of the form deviceType/deviceNumber/name: " + path);
+            }
+            Device device = deviceManager.findDevice(number, type);
+            if (device == null) {
+                values.add(new PropertyValue(type, number, parts[2], null, ErrorCode.InvalidValue.getCode(),
+                        "There are no device of type " + type + " with deviceID " + number));
+            } else {
+                values.add(read(device, parts[2], clientID, clientTransactionID));
+            }
+        }
+        return values;
+    }
+
+    private PropertyValue read(Device device, String name, int clientID, long clientTransactionID) {
+        DeviceType type = device.getDeviceType();
+        int number = device.getDeviceID();
+        String endpoint = name.toLowerCase();
+        Property property = getProperties().getOrDefault(type, Map.of()).get(endpoint);
+        if (property == null) {
+            return new PropertyValue(type, number, endpoint, null, ErrorCode.PropertyNotImplemented.getCode(),
+                    "There is no readable property " + endpoint + " of " + type);
+        }
+
+        Object[] args = new Object[property.method().getParameterCount()];
+        args[property.numberIndex()] = number;
+        if (property.typeIndex() >= 0) {
+            args[property.typeIndex()] = type.getTypeName();
+        }
+        if (property.clientIDIndex() >= 0) {
+            args[property.clientIDIndex()] = clientID;
+        }
+        if (property.transactionIDIndex() >= 0) {
+            args[property.transactionIDIndex()] = clientTransactionID;
+        }
+        try {
+            Object response = property.method().invoke(property.resource(), args);
+            Object value = response instanceof ValueResponse<?> valueResponse ? valueResponse.getValue()
+                    : ((ListResponse<?>) response).getValue();
+            return new PropertyValue(type, number, endpoint, value, 0, "");
+        } catch (InvocationTargetException e) {
+            return error(type, number, endpoint, e.getCause());
+        } catch (IllegalAccessException e) {
+            return error(type, number, endpoint, e);
+        }
+    }
+
+    private static PropertyValue error(DeviceType type, int number, String endpoint, Throwable t) {
+        // Map the exception to the error its endpoint would have returned
+        if (t instanceof AlpacaException alpacaException) {
+            return new PropertyValue(type, number, endpoint, null, alpacaException.getErrorNumber(), t.getMessage());
+        } else if (t instanceof IllegalArgumentException || t instanceof WebApplicationException) {
+            return new PropertyValue(type, number, endpoint, null, ErrorCode.InvalidValue.getCode(), t.getMessage());
+        }
+        log.warn("Failed to read {} of {} {}", endpoint, type, number, t);
+        return new PropertyValue(type, number, endpoint, null, ErrorCode.UnknownError.getCode(), String.valueOf(t.getMessage()));
+    }
+
+    private void checkCount(int count) {
+        if (count == 0) {
+            throw new BadRequestException("No properties were given");
+        }
+        if (maxCount > 0 && count > maxCount) {
+            throw new BadRequestException("Cannot read more than " + maxCount + " properties at once");
+        }
+    }
+
+    private static int parseNumber(String number) {
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Map<DeviceType, Map<String, Property>> getProperties() {
+        Map<DeviceType, Map<String, Property>> current = properties;
+        if (current == null) {
+            current = findProperties();
+            properties = current;
+        }
+        return current;
+    }
+
+    /**
+     * Finds the readable properties of each device type in the resource classes.  The common endpoints, whose paths
+     * start with {deviceType}, are readable for every type.
+     */
+    private Map<DeviceType, Map<String, Property>> findProperties() {
+        Map<String, Property> common = new HashMap<>();
+        Map<DeviceType, Map<String, Property>> typed = new EnumMap<>(DeviceType.class);
+        for (Class<?> resourceClass : resourceClasses) {
+            // The resources' client proxies, so the calls are intercepted
+            Object resource = resources.select(resourceClass).get();
+            for (Method method : resourceClass.getMethods()) {
+                Path path = method.getAnnotation(Path.class);
+                if (path == null || !method.isAnnotationPresent(GET.class)
+                        || !(ValueResponse.class.isAssignableFrom(method.getReturnType())
+                            || ListResponse.class.isAssignableFrom(method.getReturnType()))) {
+                    continue;
+                }
+                Property property = findProperty(resource, method);
+                if (property == null) {
+                    continue;
+                }
+                String[] segments = (path.value().startsWith("/") ? path.value().substring(1) : path.value()).split("/");
+                if (segments.length != 3) {
+                    continue;
+                }
+                if (property.typeIndex() >= 0) {
+                    common.put(segments[2], property);
+                } else {
+                    DeviceType type = DeviceType.fromType(segments[0]);
+                    if (type != DeviceType.Unknown) {
+                        typed.computeIfAbsent(type, t -> new HashMap<>()).put(segments[2], property);
+                    }
+                }
+            }
+        }
+
+        Map<DeviceType, Map<String, Property>> properties = new EnumMap<>(DeviceType.class);
+        for (DeviceType type : DeviceType.values()) {
+            Map<String, Property> all = new HashMap<>(common);
+            all.putAll(typed.getOrDefault(type, Map.of()));
+            properties.put(type, Map.copyOf(all));
+        }
+        return properties;
+    }
+
+    private static Property findProperty(Object resource, Method method) {
+        int numberIndex = -1;
+        int typeIndex = -1;
+        int clientIDIndex = -1;
+        int transactionIDIndex = -1;
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            String name = null;
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof PathParam pathParam) {
+                    name = pathParam.value();
+                } else if (annotation instanceof QueryParam queryParam) {
+                    name = queryParam.value();
+                }
+            }
+            if ("deviceNumber".equals(name)) {
+                numberIndex = i;
+            } else if ("deviceType".equals(name)) {
+                typeIndex = i;
+            } else if ("ClientID".equals(name)) {
+                clientIDIndex = i;
+            } else if ("ClientTransactionID".equals(name)) {
+                transactionIDIndex = i;
+            } else {
+                // The endpoint needs an argument that a batch can't give it
+                return null;
+            }
+        }
+        return numberIndex >= 0 ? new Property(resource, method, numberIndex, typeIndex, clientIDIndex, transactionIDIndex) : null;
+    }
+}
@@ -0,0 +1,96 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.device.BaseDevice;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.model.SessionStatistics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Disconnects clients that have stopped making requests without disconnecting, such as clients that crashed.
+ *
+ * When alpaca.sessions.idle-timeout (in seconds) is set, the sessions of every device extending {@link BaseDevice}
+ * are checked on a schedule, and clients that haven't made a request to the device for longer than the timeout are
+ * disconnected, through the {@link DeviceCommandQueue}.  The timeout is 0 by default, which leaves clients connected
+ * until they disconnect themselves.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class SessionReaper {
+    private static final Logger log = LoggerFactory.getLogger(SessionReaper.class);
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    DeviceManager deviceManager;
+
+    @Inject
+    DeviceCommandQueue deviceCommandQueue;
+
+    @Inject @ConfigProperty(name = "alpaca.sessions.idle-timeout", defaultValue = "0")
+    long idleTimeout;
+
+    void onStart(@Observes Startup ev) {
+        if (idleTimeout > 0) {
+            // Check often enough that sessions don't outlive the timeout by much
+            long interval = Math.max(TimeUnit.SECONDS.toMillis(idleTimeout) / 4, 1000);
+            log.info("Disconnecting clients idle for more than {}s", idleTimeout);
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Alpaca Session Reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reap, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void onStop(@Observes Shutdown ev) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reap() {
+        long timeout = TimeUnit.SECONDS.toNanos(idleTimeout);
+        for (Device device : deviceManager.getDevices()) {
+            if (device instanceof BaseDevice baseDevice) {
+                try {
+                    // Disconnecting calls the device, so it waits its turn like the disconnects of requests
+                    deviceCommandQueue.call(device, "disconnect", () -> baseDevice.expireIdleSessions(timeout));
+                } catch (Exception e) {
+                    log.warn("Unable to expire idle sessions of device {}", device.getDeviceDescriptor().getDeviceName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the session statistics of each device extending {@link BaseDevice}.
+     * @return the session statistics
+     */
+    public List<SessionStatistics> getStatistics() {
+        List<SessionStatistics> statistics = new ArrayList<>();
+        for (Device device : deviceManager.getDevices()) {
+            if (device instanceof BaseDevice baseDevice) {
+                statistics.add(new SessionStatistics(device.getDeviceType(),
+                        device.getDeviceID(),
+                        device.getDeviceDescriptor().getDeviceName(),
+                        baseDevice.getClientCount(),
+                        baseDevice.getMaxClients(),
+                        baseDevice.getExpiredSessionCount()));
+            }
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,43 @@
+package org.ascom.alpaca.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.ascom.alpaca.model.TransactionStatistics;
+import org.ascom.alpaca.response.TransactionIDSequence;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Hands out the server transaction IDs for the requests handled by this server.  On servers handling many
+ * requests at once, the sequence can be split into stripes with alpaca.transaction-id.stripes so the request
+ * threads don't all contend on a single counter.
+ */
+@SuppressWarnings("unused")
+@ApplicationScoped
+public class TransactionIDService {
+    private TransactionIDSequence sequence;
+
+    @Inject @ConfigProperty(name = "alpaca.transaction-id.stripes", defaultValue = "1")
+    int stripes;
+
+    @PostConstruct
+    void init() {
+        sequence = new TransactionIDSequence(Math.max(stripes, 1));
+    }
+
+    /**
+     * Returns the server transaction ID for a new request.
+     * @return the next server transaction ID
+     */
+    public int nextServerTransactionID() {
+        return sequence.next();
+    }
+
+    /**
+     * Returns the current state of the server's transaction ID sequence.
+     * @return the transaction ID statistics
+     */
+    public TransactionStatistics getStatistics() {
+        return new TransactionStatistics(sequence.getIssued(), sequence.getLastID(), sequence.getStripes());
+    }
+}
@@ -0,0 +1,247 @@
+package org.ascom.alpaca.impl.utils;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.ascom.alpaca.response.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Writes the JSON for the simple Alpaca responses without going through Jackson.  Most of the requests
+ * a server handles are for single int, boolean, double or string properties, and their responses always have
+ * the same envelope.  This writer builds the JSON for those responses directly into a per-thread byte buffer,
+ * using pre-encoded fragments for the fixed parts of the envelope, so no reflection is done and little is
+ * allocated per response.
+ *
+ * Only the exact response classes listed in {@link #types} are handled here, all other responses are still
+ * written by Jackson.  The JSON written is the same as Jackson writes for these classes.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class AlpacaResponseWriter implements MessageBodyWriter<AlpacaResponse> {
+    private static final Set<Class<?>> types = Set.of(AlpacaResponse.class, IntResponse.class, BooleanResponse.class,
+            DoubleResponse.class, StringResponse.class, DeviceStateResponse.class);
+
+    private static final byte[] clientTransactionIDField = ascii("{\"ClientTransactionID\":");
+    private static final byte[] serverTransactionIDField = ascii(",\"ServerTransactionID\":");
+    private static final byte[] noError = ascii(",\"ErrorNumber\":0,\"ErrorMessage\":\"\"");
+    private static final byte[] errorNumberField = ascii(",\"ErrorNumber\":");
+    private static final byte[] errorMessageField = ascii(",\"ErrorMessage\":");
+    private static final byte[] valueField = ascii(",\"Value\":");
+    private static final byte[] trueValue = ascii("true");
+    private static final byte[] falseValue = ascii("false");
+    private static final byte[] nullValue = ascii("null");
+    private static final byte[] hexDigits = ascii("0123456789ABCDEF");
+
+    // Buffers that have grown past this size are not kept for reuse
+    private static final int maxRetainedSize = 64 * 1024;
+    private static final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return types.contains(type) && MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(AlpacaResponse response,
+                        Class<?> type,
+                        Type genericType,
+                        Annotation[] annotations,
+                        MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream out) throws IOException {
+        Buffer buffer = buffers.get();
+        try {
+            buffer.write(clientTransactionIDField);
+            buffer.writeLong(response.getClientTransactionID());
+            buffer.write(serverTransactionIDField);
+            buffer.writeLong(response.getServerTransactionID());
+            if (response.getErrorNumber() == 0 && "".equals(response.getErrorMessage())) {
+                buffer.write(noError);
+            } else {
+                buffer.write(errorNumberField);
+                buffer.writeLong(response.getErrorNumber());
+                buffer.write(errorMessageField);
+                buffer.writeString(response.getErrorMessage());
+            }
+            writeValue(response, buffer);
+            buffer.write('}');
+            out.write(buffer.bytes, 0, buffer.size);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private static void writeValue(AlpacaResponse response, Buffer buffer) {
+        if (response instanceof DeviceStateResponse stateResponse) {
+            buffer.write(valueField);
+            buffer.writeRaw(stateResponse.getValue());
+        } else if (response instanceof ValueResponse<?> valueResponse) {
+            buffer.write(valueField);
+            Object value = valueResponse.getValue();
+            if (value == null) {
+                buffer.write(nullValue);
+            } else if (value instanceof Boolean b) {
+                buffer.write(b ? trueValue : falseValue);
+            } else if (value instanceof Integer i) {
+                buffer.writeLong(i);
+            } else if (value instanceof Double d) {
+                buffer.writeDouble(d);
+            } else {
+                buffer.writeString(value.toString());
+            }
+        }
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * A growable byte buffer, reused by each thread for all the responses it writes.
+     */
+    private static class Buffer {
+        private byte[] bytes = new byte[256];
+        private int size = 0;
+
+        void reset() {
+            size = 0;
+            if (bytes.length > maxRetainedSize) {
+                bytes = new byte[256];
+            }
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        void write(int b) {
+            ensure(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] fragment) {
+            ensure(fragment.length);
+            System.arraycopy(fragment, 0, bytes, size, fragment.length);
+            size += fragment.length;
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            ensure(20);
+            if (value < 0) {
+                bytes[size++] = '-';
+                value = -value;
+            }
+            int start = size;
+            do {
+                bytes[size++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value != 0);
+            // The digits were written least significant first
+            for (int i = start, j = size - 1; i < j; i++, j--) {
+                byte digit = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = digit;
+            }
+        }
+
+        void writeDouble(double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                // Jackson writes the non-numeric values as strings
+                write('"');
+                writeAscii(Double.toString(value));
+                write('"');
+            } else {
+                writeAscii(Double.toString(value));
+            }
+        }
+
+        private void writeAscii(String s) {
+            int length = s.length();
+            ensure(length);
+            for (int i = 0; i < length; i++) {
+                bytes[size++] = (byte) s.charAt(i);
+            }
+        }
+
+        void writeRaw(String json) {
+            if (json == null) {
+                write(nullValue);
+                return;
+            }
+            write(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeString(String s) {
+            if (s == null) {
+                write(nullValue);
+                return;
+            }
+            int length = s.length();
+            ensure(length + 2);
+            bytes[size++] = '"';
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                    ensure(1);
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x80) {
+                    writeEscaped(c);
+                } else if (c < 0x800) {
+                    ensure(2);
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                    ensure(4);
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    ensure(3);
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            write('"');
+        }
+
+        private void writeEscaped(char c) {
+            ensure(6);
+            bytes[size++] = '\\';
+            switch (c) {
+                case '"' -> bytes[size++] = '"';
+                case '\\' -> bytes[size++] = '\\';
+                case '\n' -> bytes[size++] = 'n';
+                case '\r' -> bytes[size++] = 'r';
+                case '\t' -> bytes[size++] = 't';
+                case '\b' -> bytes[size++] = 'b';
+                case '\f' -> bytes[size++] = 'f';
+                default -> {
+                    bytes[size++] = 'u';
+                    bytes[size++] = '0';
+                    bytes[size++] = '0';
+                    bytes[size++] = hexDigits[c >> 4];
+                    bytes[size++] = hexDigits[c & 0xF];
+                }
+            }
+        }
+    }
+}
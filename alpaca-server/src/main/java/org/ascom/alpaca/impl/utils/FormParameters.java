@@ -0,0 +1,105 @@
+package org.ascom.alpaca.impl.utils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The parameters of a URL encoded form body or query string, held as the raw bytes they arrived in.
+ *
+ * Every request needs the ClientID and ClientTransactionID, so those two are found in a single pass over the
+ * bytes when the parameters are created, without splitting the body or decoding the other parameters.  As the
+ * Alpaca spec requires, the names of the two are matched without regard to case.
+ */
+@SuppressWarnings("unused")
+public final class FormParameters {
+    private static final byte[] clientIDName = "clientid".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] clientTransactionIDName = "clienttransactionid".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] data;
+    private String clientID;
+    private String clientTransactionID;
+
+    private FormParameters(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Scans URL encoded parameters for the ClientID and ClientTransactionID.
+     * @param data the bytes of the body or query string
+     * @return the parameters
+     */
+    public static FormParameters scan(byte[] data) {
+        FormParameters parameters = new FormParameters(data);
+        parameters.scan();
+        return parameters;
+    }
+
+    private void scan() {
+        int length = data.length;
+        int start = 0;
+        while (start < length && (clientID == null || clientTransactionID == null)) {
+            int end = indexOf('&', start, length);
+            int equals = indexOf('=', start, end);
+            if (equals < end) {
+                // Only the first value of each parameter is used
+                if (clientID == null && isName(clientIDName, start, equals)) {
+                    clientID = decode(equals + 1, end);
+                } else if (clientTransactionID == null && isName(clientTransactionIDName, start, equals)) {
+                    clientTransactionID = decode(equals + 1, end);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * The raw value of the ClientID parameter.
+     * @return the value of the ClientID, or null if there isn't one
+     */
+    public String getClientID() {
+        return clientID;
+    }
+
+    /**
+     * The raw value of the ClientTransactionID parameter.
+     * @return the value of the ClientTransactionID, or null if there isn't one
+     */
+    public String getClientTransactionID() {
+        return clientTransactionID;
+    }
+
+    private int indexOf(char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == c) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private boolean isName(byte[] name, int start, int end) {
+        if (end - start != name.length) {
+            // An encoded name can't be compared byte for byte, so decode it first
+            return indexOf('%', start, end) < end && new String(name, StandardCharsets.US_ASCII).equalsIgnoreCase(decode(start, end));
+        }
+        for (int i = 0; i < name.length; i++) {
+            int b = data[start + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (data[i] == '%' || data[i] == '+') {
+                return URLDecoder.decode(new String(data, start, end - start, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            }
+        }
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,205 @@
+package org.ascom.alpaca.impl.utils;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.ascom.alpaca.model.FlatImageArray;
+import org.ascom.alpaca.model.ImageArray;
+import org.ascom.alpaca.model.ImageElementType;
+import org.ascom.alpaca.response.AlpacaResponse;
+import org.ascom.alpaca.response.FlatImageArrayResponse;
+import org.ascom.alpaca.response.ImageArrayResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes image responses in the Alpaca ImageBytes format.  The 44 byte metadata header is written
+ * first, followed by the image data, which is streamed to the response through a small chunk buffer
+ * rather than being copied into a single byte array first.
+ *
+ * Images held in an {@link ImageArray} are sent using the narrowest transmission element type that
+ * can hold all of their values (byte, unsigned 16 bit, signed 16 bit or 32 bit integers).  Images held in a
+ * {@link FlatImageArray} are sent using the element type of their buffer, which also allows multi-plane and
+ * floating point images to be sent.
+ *
+ * @see <a href="https://ascom-standards.org/AlpacaDeveloper/ASCOMAlpacaAPIReference.html">ImageBytes description in the Alpaca API reference</a>
+ */
+@Provider
+@Produces(ImageBytesMessageBodyWriter.IMAGE_BYTES)
+public class ImageBytesMessageBodyWriter implements MessageBodyWriter<AlpacaResponse> {
+    public static final String IMAGE_BYTES = "application/imagebytes";
+    private static final int metadataVersion = 1;
+    private static final int headerSize = 44;
+    private static final int chunkSize = 64 * 1024;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return AlpacaResponse.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(AlpacaResponse response,
+                        Class<?> type,
+                        Type genericType,
+                        Annotation[] annotations,
+                        MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream out) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(chunkSize).order(ByteOrder.LITTLE_ENDIAN);
+        if (response.getErrorNumber() != 0) {
+            writeError(response, chunk, out);
+        } else if (response instanceof FlatImageArrayResponse flatResponse && flatResponse.getValue() != null) {
+            writeFlatImage(response, flatResponse.getValue(), chunk, out);
+        } else if (response instanceof ImageArrayResponse imageResponse && imageResponse.getValue() != null) {
+            writeImage(imageResponse, chunk, out);
+        } else {
+            throw new IOException("Cannot encode a " + type.getSimpleName() + " as " + IMAGE_BYTES);
+        }
+        out.flush();
+    }
+
+    private void writeError(AlpacaResponse response, ByteBuffer chunk, OutputStream out) throws IOException {
+        writeHeader(response, ImageElementType.Unknown.getCode(), ImageElementType.Unknown, 0, 0, 0, 0, chunk);
+        flush(chunk, out);
+        String message = response.getErrorMessage();
+        if (message != null) {
+            out.write(message.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeFlatImage(AlpacaResponse response, FlatImageArray image, ByteBuffer chunk, OutputStream out) throws IOException {
+        writeHeader(response, getImageElementType(image.getType()), image.getElementType(),
+                image.getRank().getRank(), image.getDimension1(), image.getDimension2(), image.getDimension3(), chunk);
+        if (image.getRank() == ImageArray.Rank.MultiPlan) {
+            writePlanes(image, chunk, out);
+            return;
+        }
+        flush(chunk, out);
+        ByteBuffer data = image.getData();
+        if (data.hasArray()) {
+            out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            return;
+        }
+        // Direct buffers have no backing array, so they are moved across in chunks
+        byte[] array = chunk.array();
+        while (data.hasRemaining()) {
+            int length = Math.min(array.length, data.remaining());
+            data.get(array, 0, length);
+            out.write(array, 0, length);
+        }
+    }
+
+    /**
+     * Writes a multi-plane image.  The image holds its planes one after the other, but on the wire the
+     * plane index varies fastest, so the elements are gathered into the chunk buffer pixel by pixel.
+     */
+    private void writePlanes(FlatImageArray image, ByteBuffer chunk, OutputStream out) throws IOException {
+        ByteBuffer data = image.getData();
+        int size = image.getElementType().getSize();
+        for (int x = 0; x < image.getDimension1(); x++) {
+            for (int y = 0; y < image.getDimension2(); y++) {
+                for (int plane = 0; plane < image.getDimension3(); plane++) {
+                    if (chunk.remaining() < size) {
+                        flush(chunk, out);
+                    }
+                    int offset = image.getIndex(x, y, plane) * size;
+                    switch (size) {
+                        case 1 -> chunk.put(data.get(offset));
+                        case 2 -> chunk.putShort(data.getShort(offset));
+                        case 4 -> chunk.putInt(data.getInt(offset));
+                        default -> chunk.putLong(data.getLong(offset));
+                    }
+                }
+            }
+        }
+        flush(chunk, out);
+    }
+
+    private void writeImage(ImageArrayResponse response, ByteBuffer chunk, OutputStream out) throws IOException {
+        int[][] value = response.getValue();
+        int dimension1 = value.length;
+        int dimension2 = dimension1 > 0 ? value[0].length : 0;
+        ImageElementType elementType = getTransmissionElementType(value);
+        writeHeader(response, getImageElementType(response.getType()), elementType, 2, dimension1, dimension2, 0, chunk);
+
+        for (int[] column : value) {
+            for (int pixel : column) {
+                if (chunk.remaining() < elementType.getSize()) {
+                    flush(chunk, out);
+                }
+                switch (elementType) {
+                    case Byte -> chunk.put((byte) pixel);
+                    case UInt16, Int16 -> chunk.putShort((short) pixel);
+                    default -> chunk.putInt(pixel);
+                }
+            }
+        }
+        flush(chunk, out);
+    }
+
+    private static void writeHeader(AlpacaResponse response,
+                                    int imageElementType,
+                                    ImageElementType transmissionElementType,
+                                    int rank,
+                                    int dimension1,
+                                    int dimension2,
+                                    int dimension3,
+                                    ByteBuffer chunk) {
+        chunk.putInt(metadataVersion);
+        chunk.putInt(response.getErrorNumber());
+        chunk.putInt((int) response.getClientTransactionID());
+        chunk.putInt(response.getServerTransactionID());
+        chunk.putInt(headerSize);
+        chunk.putInt(imageElementType);
+        chunk.putInt(transmissionElementType.getCode());
+        chunk.putInt(rank);
+        chunk.putInt(dimension1);
+        chunk.putInt(dimension2);
+        chunk.putInt(dimension3);
+    }
+
+    private static void flush(ByteBuffer chunk, OutputStream out) throws IOException {
+        if (chunk.position() > 0) {
+            out.write(chunk.array(), chunk.arrayOffset(), chunk.position());
+            chunk.clear();
+        }
+    }
+
+    private static int getImageElementType(ImageArray.Type type) {
+        // An unknown type is described as 32 bit integers, which is what the ImageArray holds
+        return type == null || type == ImageArray.Type.Unknown ? ImageArray.Type.Integer.getType() : type.getType();
+    }
+
+    /**
+     * Determines the narrowest element type that can carry all the values in the image.
+     */
+    static ImageElementType getTransmissionElementType(int[][] value) {
+        int min = 0;
+        int max = 0;
+        for (int[] column : value) {
+            for (int pixel : column) {
+                if (pixel < min) {
+                    min = pixel;
+                } else if (pixel > max) {
+                    max = pixel;
+                }
+            }
+        }
+        if (min >= 0 && max <= 0xFF) {
+            return ImageElementType.Byte;
+        } else if (min >= 0 && max <= 0xFFFF) {
+            return ImageElementType.UInt16;
+        } else if (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+            return ImageElementType.Int16;
+        }
+        return ImageElementType.Int32;
+    }
+}
@@ -1,6 +1,7 @@
 package org.ascom.alpaca.impl.utils;
 
 import io.vertx.core.http.HttpServerRequest;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseContext;
@@ -8,23 +9,25 @@ import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.Provider;
+import org.ascom.alpaca.impl.AccessLog;
 import org.ascom.alpaca.response.AlpacaResponse;
-import org.ascom.alpaca.response.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-
-import java.util.List;
-import java.util.Map;
+import org.slf4j.MDC;
 
 
 /**
- * A filter for logging the web services calls.
+ * A filter for logging the web services calls.  The filter only captures what's needed about each request,
+ * the formatting and writing of the log is done off the request thread by the {@link AccessLog}.
  */
 @Provider
 public class LoggingFilter implements ContainerRequestFilter, ContainerResponseFilter {
     private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
     private static final String START_TIME = "LoggingFilter.START_TIME";
 
+    @Inject
+    AccessLog accessLog;
+
     // Ugh, this is the only way I've been able to figure out how to get the client IP address while using Quarkus is
     // to use the Vert.X HttpServerRequest object.  In the past when using Jersey, which ran in a Servlet environment,
     // I was using HttpServletRequest, which is more common and would be more portable.  Not available with Quarkus,
@@ -37,109 +40,62 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
 
     @Override
     public void filter(ContainerRequestContext request) {
-        long start = System.currentTimeMillis();
-        request.setProperty(START_TIME, start);
-
-        StringBuilder sb = new StringBuilder();
-        String clientIP = getClientIP(request);
-        if (!clientIP.isEmpty()) {
-            sb.append(clientIP);
+        if (!accessLog.isEnabled()) {
+            return;
+        }
+        request.setProperty(START_TIME, System.nanoTime());
+        if (log.isDebugEnabled()) {
+            log.debug("REQUEST START: {} {}", request.getMethod(), request.getUriInfo().getRequestUri());
         }
-        log.info("REQUEST START: {} {}{} {}", request.getMethod(), request.getUriInfo().getPath(), getQueryParameters(request), sb);
     }
 
     @Override
     public void filter(ContainerRequestContext request, ContainerResponseContext response) {
-        long end = System.currentTimeMillis();
-        long delta = -1;
-        Long start = (Long)request.getProperty(START_TIME);
-        if (start != null) {
-            delta = end - start;
+        Object start = request.getProperty(START_TIME);
+        if (!(start instanceof Long startTime) || !accessLog.isEnabled()) {
+            return;
         }
+        long duration = System.nanoTime() - startTime;
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("status=").append(response.getStatus());
-        sb.append(", ms=").append(delta);
-
-        Object entity = response.getEntity();
-        if (entity instanceof AlpacaResponse alpacaResponse) {
-            int errorNum = alpacaResponse.getErrorNumber();
-            if (errorNum > 0) {
-                try {
-                    sb.append(", error=").append(ErrorCode.fromCode(errorNum));
-                } catch (IllegalArgumentException e) {
-                    // shouldn't ever happen as there's no reason for the server to return an error code that
-                    // isn't already defined in ErrorCode
-                    sb.append(", error=").append(errorNum);
-                }
-            }
+        int errorNumber = 0;
+        if (response.getEntity() instanceof AlpacaResponse alpacaResponse) {
+            errorNumber = alpacaResponse.getErrorNumber();
         }
-        if (entity != null && entity.getClass().equals(String.class)) {
-            sb.append(", content-length=").append(((String)entity).length());
+        String path = request.getUriInfo().getPath();
+        if (!accessLog.shouldLog(path, response.getStatus() >= 400 || errorNumber > 0)) {
+            return;
         }
 
-        sb.append(", ").append(getClientIP(request));
-
-        log.info("REQUEST END: {} {}{} {}", request.getMethod(), request.getUriInfo().getPath(), getQueryParameters(request), sb);
+        // The proxy headers are captured as they are and only parsed when the entry is written
+        MultivaluedMap<String, String> headers = request.getHeaders();
+        accessLog.submit(new AccessLog.Entry(request.getMethod(),
+                path,
+                request.getUriInfo().getRequestUri().getRawQuery(),
+                response.getStatus(),
+                errorNumber,
+                duration,
+                headers.getFirst("Forwarded"),
+                headers.getFirst("X-Forwarded-For"),
+                headers.getFirst("X-Real-IP"),
+                getRemoteHost(request),
+                // Set by the ParameterValidationFilter, whose response filter runs after this one and clears them
+                MDC.get("ClientID"),
+                MDC.get("ClientTransactionID"),
+                MDC.get("ServerTransactionID")));
     }
 
-    private String getClientIP(ContainerRequestContext context) {
-        // On the remote chance that the client is on the other side of a proxy, we need to get the client IP from the
-        // Forwarded header.
-        String ipAddress = context.getHeaders().getFirst("Forwarded");
-        if (ipAddress != null) {
-            String[] parts = ipAddress.split(";");
-            for (String part : parts) {
-                String[] keyValue = part.trim().split("=");
-                if (keyValue.length == 2 && keyValue[0].trim().equalsIgnoreCase("for")) {
-                    return "client_ip=" + keyValue[1].trim();
-                }
-            }
-        }
-
-        // If the Forwarded header isn't present, we'll try the X-Forwarded-For header
-        ipAddress = context.getHeaders().getFirst("X-Forwarded-For");
-        if (ipAddress != null) {
-            return "client_ip=" + ipAddress;
-        }
-
-        ipAddress = context.getHeaders().getFirst("X-Real-IP");
-        if (ipAddress != null) {
-            return "client_ip=" + ipAddress;
-        }
-
+    private String getRemoteHost(ContainerRequestContext context) {
         // If we're running in a Helidon environment, this is the only way I've been able to figure
         // out how to get the client ip
         Object remoteAddress = context.getProperty("io.helidon.jaxrs.remote-host");
         if (remoteAddress instanceof String) {
-            return "client_ip=" + remoteAddress;
+            return (String) remoteAddress;
         }
 
         // And this is the Quarkus way of getting the client IP
         if (serverRequest != null) {
-            ipAddress = serverRequest.remoteAddress().host();
-            return "client_ip=" + ipAddress;
-        }
-        return "";
-    }
-
-    /**
-     * Stringify query parameters (supports multiple params with same key)
-     */
-    private String getQueryParameters(ContainerRequestContext request) {
-        MultivaluedMap<String, String> params = request.getUriInfo().getQueryParameters();
-        if (params != null) {
-            StringBuilder sb = new StringBuilder();
-            String sep = "?";
-            for (Map.Entry<String, List<String>> entry: params.entrySet()) {
-                String key = entry.getKey();
-                for (String value: entry.getValue()) {
-                    sb.append(sep).append(key).append("=").append(value);
-                    sep = "&";
-                }
-            }
-            return sb.toString();
+            return serverRequest.remoteAddress().host();
         }
-        return "";
+        return null;
     }
 }
@@ -1,27 +1,26 @@
 package org.ascom.alpaca.impl.utils;
 
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
-import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.ext.Provider;
+import org.ascom.alpaca.device.BaseDevice;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.DeviceManager;
+import org.ascom.alpaca.impl.TransactionIDService;
+import org.ascom.alpaca.model.DeviceType;
 import org.ascom.alpaca.response.AlpacaResponse;
 import org.ascom.alpaca.response.InvalidValueException;
-import org.ascom.alpaca.response.TransactionIDFactory;
 import org.slf4j.MDC;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * This filter preprocesses the client request and extracts the ClientID and ClientTransactionID from the request
@@ -31,6 +30,12 @@ import java.util.stream.Collectors;
 @Provider
 @Priority(10) // Ensures this runs before resource methods
 public class ParameterValidationFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    @Inject
+    TransactionIDService transactionIDService;
+
+    @Inject
+    DeviceManager deviceManager;
+
     @Override
     public void filter(ContainerRequestContext request) throws IOException {
         String method = request.getMethod();
@@ -38,7 +43,7 @@ public class ParameterValidationFilter implements ContainerRequestFilter, Contai
             return;
         }
 
-        int serverTransactionID = TransactionIDFactory.getServerTransactionID();
+        int serverTransactionID = transactionIDService.nextServerTransactionID();
         ClientContext clientContext = new ClientContext();
         clientContext.setServerTransactionID(serverTransactionID);
 
@@ -51,6 +56,7 @@ public class ParameterValidationFilter implements ContainerRequestFilter, Contai
             processFormParameters(request, clientContext);
         }
         ClientContext.setContext(clientContext);
+        recordActivity(request, clientContext);
     }
 
     @Override
@@ -66,61 +72,58 @@ public class ParameterValidationFilter implements ContainerRequestFilter, Contai
     }
 
     private void processQueryParameters(ContainerRequestContext request, ClientContext clientContext) {
-        UriInfo uriInfo = request.getUriInfo();
-        MultivaluedMap<String, String> params = uriInfo.getQueryParameters();
-        if (params != null) {
-            Long clientTransactionID = getParameterAsLong("ClientTransactionID", params, null);
-            if (clientTransactionID != null) {
-                if (clientTransactionID < 0) {
-                    throw new InvalidValueException(clientTransactionID, "ClientTransactionID cannot be less than zero");
-                }
-                clientContext.setClientTransactionID(clientTransactionID);
-            }
-            Long clientID = getParameterAsLong("ClientID", params, clientTransactionID);
-            if (clientID != null) {
-                clientContext.setClientID(clientID);
-            }
+        // Scan the raw query string for the two parameters rather than having every parameter decoded into a map
+        String query = request.getUriInfo().getRequestUri().getRawQuery();
+        if (query != null) {
+            processParameters(FormParameters.scan(query.getBytes(StandardCharsets.ISO_8859_1)), clientContext);
         }
     }
 
     private void processFormParameters(ContainerRequestContext request, ClientContext clientContext) throws IOException {
         // Ok, read the body so we can extract the ClientID and ClientTransactionID.
-        String body = new String(request.getEntityStream().readAllBytes(), StandardCharsets.UTF_8);
+        byte[] body = request.getEntityStream().readAllBytes();
         // Restore the entity stream, since we consumed it and let the standard runtime process it
-        request.setEntityStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        request.setEntityStream(new ByteArrayInputStream(body));
 
-        Map<String, String> formParams = parseFormData(body);
+        processParameters(FormParameters.scan(body), clientContext);
+    }
 
-        Long clientTransactionID = getLong("ClientTransactionID", formParams.get("ClientTransactionID"), null);
+    private void processParameters(FormParameters params, ClientContext clientContext) {
+        Long clientTransactionID = getLong("ClientTransactionID", params.getClientTransactionID(), null);
         if (clientTransactionID != null) {
             clientContext.setClientTransactionID(clientTransactionID);
         }
-        Long clientID = getLong("ClientID", formParams.get("ClientID"), clientTransactionID);
+        Long clientID = getLong("ClientID", params.getClientID(), clientTransactionID);
         if (clientID != null) {
             clientContext.setClientID(clientID);
         }
     }
 
-    private Map<String, String> parseFormData(String body) {
-        return Arrays.stream(body.split("&"))
-                .map(param -> param.split("=", 2))
-                .filter(pair -> pair.length == 2)
-                .collect(Collectors.toMap(pair -> URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
-                        pair -> URLDecoder.decode(pair[1], StandardCharsets.UTF_8)));
-    }
-
-    // Make sure the parameter is actually a number and unsigned
-    private Long getParameterAsLong(String paramName, MultivaluedMap<String, String> params, Long clientTransactionID) {
-        for (Map.Entry<String, List<String>> entry: params.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(paramName)) {
-                for (String value: entry.getValue()) {
-                    return getLong(entry.getKey(), value, clientTransactionID);
-                }
+    /**
+     * Records the request against the client's session on the device being called, so active clients aren't
+     * disconnected as idle.
+     */
+    private void recordActivity(ContainerRequestContext request, ClientContext clientContext) {
+        if (clientContext.getClientID() == 0) {
+            return;
+        }
+        MultivaluedMap<String, String> pathParameters = request.getUriInfo().getPathParameters();
+        String deviceType = pathParameters.getFirst("deviceType");
+        String deviceNumber = pathParameters.getFirst("deviceNumber");
+        if (deviceType == null || deviceNumber == null) {
+            return;
+        }
+        try {
+            Device device = deviceManager.findDevice(Integer.parseInt(deviceNumber), DeviceType.fromType(deviceType));
+            if (device instanceof BaseDevice baseDevice) {
+                baseDevice.recordActivity((int) clientContext.getClientID());
             }
+        } catch (IllegalArgumentException e) {
+            // Not a valid device, which the resource reports back to the client
         }
-        return null;
     }
 
+    // Make sure the parameter is actually a number and unsigned
     private Long getLong(String paramName, String value, Long clientTransactionID) {
         if (value != null) {
             try {
@@ -5,8 +5,11 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import org.ascom.alpaca.device.CameraDevice;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
+import org.ascom.alpaca.impl.utils.ImageBytesMessageBodyWriter;
 import org.ascom.alpaca.model.DeviceType;
+import org.ascom.alpaca.model.FlatImageArray;
 import org.ascom.alpaca.model.ImageArray;
 import org.ascom.alpaca.response.*;
 
@@ -14,6 +17,7 @@ import org.ascom.alpaca.response.*;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 @ApplicationScoped
+@DeviceCall
 public class CameraResource {
     @Inject
     DeviceManager deviceManager;
@@ -323,12 +327,16 @@ public class CameraResource {
 
     @GET
     @Path("camera/{deviceNumber}/imagearray")
-    @Produces("application/imagebytes")
-    public ByteArrayResponse getImageBytes(@PathParam("deviceNumber") int deviceNumber,
-                                            @QueryParam("ClientID") int clientID,
-                                            @QueryParam("ClientTransactionID") long clientTransactionID) {
-        byte[] image = getDevice(deviceNumber, clientID).getImageBytes();
-        return new ByteArrayResponse(clientTransactionID, image);
+    @Produces(ImageBytesMessageBodyWriter.IMAGE_BYTES)
+    public AlpacaResponse getImageBytes(@PathParam("deviceNumber") int deviceNumber,
+                                        @QueryParam("ClientID") int clientID,
+                                        @QueryParam("ClientTransactionID") long clientTransactionID) {
+        CameraDevice device = getDevice(deviceNumber, clientID);
+        FlatImageArray flatImage = device.getFlatImageArray();
+        if (flatImage != null) {
+            return new FlatImageArrayResponse(clientTransactionID, flatImage);
+        }
+        return new ImageArrayResponse(clientTransactionID, device.getImageArray());
     }
 
     @GET
@@ -5,9 +5,10 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
+import org.ascom.alpaca.impl.DeviceStateCache;
 import org.ascom.alpaca.model.DeviceType;
-import org.ascom.alpaca.model.StateValue;
 import org.ascom.alpaca.response.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,12 +18,16 @@ import org.slf4j.LoggerFactory;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 @ApplicationScoped
+@DeviceCall
 public class CommonDeviceResource {
     private static final Logger log = LoggerFactory.getLogger(CommonDeviceResource.class);
 
     @Inject
     DeviceManager deviceManager;
 
+    @Inject
+    DeviceStateCache deviceStateCache;
+
     private Device getDevice(int deviceID, String deviceType) {
         if (deviceID < 0) {
             throw new BadRequestException("Device id cannot be negative: " + deviceID);
@@ -129,12 +134,12 @@ public class CommonDeviceResource {
 
     @GET
     @Path("{deviceType}/{deviceNumber}/devicestate")
-    public ListResponse<StateValue> getDeviceState(@PathParam("deviceType") String deviceType,
-                                                   @PathParam("deviceNumber") int deviceNumber,
-                                                   @QueryParam("ClientID") int clientID,
-                                                   @QueryParam("ClientTransactionID") long clientTransactionID) {
+    public DeviceStateResponse getDeviceState(@PathParam("deviceType") String deviceType,
+                                              @PathParam("deviceNumber") int deviceNumber,
+                                              @QueryParam("ClientID") int clientID,
+                                              @QueryParam("ClientTransactionID") long clientTransactionID) {
         Device device = getDevice(deviceNumber, deviceType);
-        return new ListResponse<>(clientTransactionID, device.getDeviceState());
+        return new DeviceStateResponse(clientTransactionID, deviceStateCache.getDeviceStateJson(device));
     }
 
     @GET
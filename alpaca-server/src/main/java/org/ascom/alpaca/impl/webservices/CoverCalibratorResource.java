@@ -5,6 +5,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import org.ascom.alpaca.device.CoverCalibratorDevice;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
 import org.ascom.alpaca.model.CalibratorState;
 import org.ascom.alpaca.model.CoverState;
@@ -12,6 +13,7 @@ import org.ascom.alpaca.model.DeviceType;
 import org.ascom.alpaca.response.*;
 
 @ApplicationScoped
+@DeviceCall
 @Path("api/v1/")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
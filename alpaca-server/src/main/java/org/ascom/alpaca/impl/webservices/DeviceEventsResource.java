@@ -0,0 +1,47 @@
+package org.ascom.alpaca.impl.webservices;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.DeviceEventStream;
+import org.ascom.alpaca.impl.DeviceManager;
+import org.ascom.alpaca.model.DeviceType;
+
+/**
+ * An extension to the Alpaca API that streams the changes to the state of a device to the client as
+ * Server-Sent Events.
+ *
+ * @see DeviceEventStream
+ */
+@SuppressWarnings("unused")
+@Path("api/v1")
+@ApplicationScoped
+public class DeviceEventsResource {
+    @Inject
+    DeviceManager deviceManager;
+
+    @Inject
+    DeviceEventStream deviceEventStream;
+
+    @GET
+    @Path("{deviceType}/{deviceNumber}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void subscribe(@PathParam("deviceType") String deviceType,
+                          @PathParam("deviceNumber") int deviceNumber,
+                          @QueryParam("ClientID") int clientID,
+                          @QueryParam("ClientTransactionID") long clientTransactionID,
+                          @Context SseEventSink sink,
+                          @Context Sse sse) {
+        DeviceType type = DeviceType.fromType(deviceType);
+        if (type == DeviceType.Unknown) {
+            throw new BadRequestException("Device type not valid: " + deviceType);
+        }
+        Device device = deviceManager.getDevice(deviceNumber, type);
+        deviceEventStream.subscribe(device, sink, sse);
+    }
+}
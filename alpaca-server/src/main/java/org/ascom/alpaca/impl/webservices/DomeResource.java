@@ -4,6 +4,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
 import org.ascom.alpaca.device.DomeDevice;
 import org.ascom.alpaca.model.DeviceType;
@@ -13,6 +14,7 @@ import org.ascom.alpaca.response.*;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 @ApplicationScoped
+@DeviceCall
 public class DomeResource {
     @Inject
     DeviceManager deviceManager;
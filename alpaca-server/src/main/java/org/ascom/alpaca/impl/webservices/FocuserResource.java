@@ -4,6 +4,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
 import org.ascom.alpaca.device.FocuserDevice;
 import org.ascom.alpaca.model.DeviceType;
@@ -16,6 +17,7 @@ import org.ascom.alpaca.response.IntResponse;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 @ApplicationScoped
+@DeviceCall
 public class FocuserResource {
     @Inject
     DeviceManager deviceManager;
@@ -7,12 +7,19 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
-import org.ascom.alpaca.device.Device;
+import org.ascom.alpaca.impl.DeviceCommandQueue;
+import org.ascom.alpaca.impl.DeviceExecutors;
 import org.ascom.alpaca.impl.DeviceManager;
+import org.ascom.alpaca.impl.SessionReaper;
+import org.ascom.alpaca.impl.TransactionIDService;
 import org.ascom.alpaca.model.DeviceDescriptor;
+import org.ascom.alpaca.model.DeviceExecutorStatistics;
+import org.ascom.alpaca.model.EndpointStatistics;
 import org.ascom.alpaca.model.ServerInfo;
+import org.ascom.alpaca.model.SessionStatistics;
 import org.ascom.alpaca.response.ListResponse;
 import org.ascom.alpaca.response.ServerInfoResponse;
+import org.ascom.alpaca.response.TransactionStatisticsResponse;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.util.List;
@@ -23,6 +30,14 @@ import java.util.List;
 public class ManagementResource {
     @Inject
     DeviceManager deviceManager;
+    @Inject
+    TransactionIDService transactionIDService;
+    @Inject
+    SessionReaper sessionReaper;
+    @Inject
+    DeviceExecutors deviceExecutors;
+    @Inject
+    DeviceCommandQueue deviceCommandQueue;
     @Inject @ConfigProperty(name = "alpaca.server_info.server-name")
     String serverName;
     @Inject @ConfigProperty(name = "alpaca.server_info.manufacturer")
@@ -43,11 +58,7 @@ public class ManagementResource {
     @Path("v1/configureddevices")
     public ListResponse<DeviceDescriptor> getConfiguredDevices(@QueryParam("ClientID") int clientID,
                                                                @QueryParam("ClientTransactionID") long clientTransactionID) {
-        ListResponse<DeviceDescriptor> response = new ListResponse<>(clientTransactionID);
-        for (Device device : deviceManager.getDevices()) {
-            response.addValue(device.getDeviceDescriptor());
-        }
-        return response;
+        return new ListResponse<>(clientTransactionID, deviceManager.getDeviceDescriptors());
     }
 
     @GET
@@ -57,4 +68,32 @@ public class ManagementResource {
 
         return new ServerInfoResponse(clientTransactionID, new ServerInfo(serverName, manufacturer, manufacturerVersion, location));
     }
+
+    @GET
+    @Path("v1/diagnostics/transactions")
+    public TransactionStatisticsResponse getTransactionStatistics(@QueryParam("ClientID") int clientID,
+                                                                  @QueryParam("ClientTransactionID") long clientTransactionID) {
+        return new TransactionStatisticsResponse(clientTransactionID, transactionIDService.getStatistics());
+    }
+
+    @GET
+    @Path("v1/diagnostics/sessions")
+    public ListResponse<SessionStatistics> getSessionStatistics(@QueryParam("ClientID") int clientID,
+                                                                @QueryParam("ClientTransactionID") long clientTransactionID) {
+        return new ListResponse<>(clientTransactionID, sessionReaper.getStatistics());
+    }
+
+    @GET
+    @Path("v1/diagnostics/executors")
+    public ListResponse<DeviceExecutorStatistics> getExecutorStatistics(@QueryParam("ClientID") int clientID,
+                                                                        @QueryParam("ClientTransactionID") long clientTransactionID) {
+        return new ListResponse<>(clientTransactionID, deviceExecutors.getStatistics());
+    }
+
+    @GET
+    @Path("v1/diagnostics/queues")
+    public ListResponse<EndpointStatistics> getQueueStatistics(@QueryParam("ClientID") int clientID,
+                                                               @QueryParam("ClientTransactionID") long clientTransactionID) {
+        return new ListResponse<>(clientTransactionID, deviceCommandQueue.getStatistics());
+    }
 }
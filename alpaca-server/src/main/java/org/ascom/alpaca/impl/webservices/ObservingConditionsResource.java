@@ -4,6 +4,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
 import org.ascom.alpaca.device.ObservingConditionsDevice;
 import org.ascom.alpaca.model.DeviceType;
@@ -17,6 +18,7 @@ import org.ascom.alpaca.response.StringResponse;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
 @ApplicationScoped
+@DeviceCall
 public class ObservingConditionsResource {
     @Inject
     DeviceManager deviceManager;
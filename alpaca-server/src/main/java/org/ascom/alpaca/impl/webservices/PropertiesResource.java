@@ -0,0 +1,65 @@
+package org.ascom.alpaca.impl.webservices;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import org.ascom.alpaca.impl.PropertyReader;
+import org.ascom.alpaca.model.DeviceType;
+import org.ascom.alpaca.model.PropertyValue;
+import org.ascom.alpaca.response.ListResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An extension to the Alpaca API for reading many properties in one request, rather than one request per property.
+ * The properties are given as a comma separated list, or as repeated parameters.
+ *
+ * This resource isn't a {@link org.ascom.alpaca.impl.DeviceCall} itself, as each property it reads is queued for its
+ * device on its own.
+ */
+@SuppressWarnings("unused")
+@Path("api/v1")
+@Produces(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+public class PropertiesResource {
+    @Inject
+    PropertyReader propertyReader;
+
+    @GET
+    @Path("{deviceType}/{deviceNumber}/properties")
+    public ListResponse<PropertyValue> getProperties(@PathParam("deviceType") String deviceType,
+                                                     @PathParam("deviceNumber") int deviceNumber,
+                                                     @QueryParam("ClientID") int clientID,
+                                                     @QueryParam("ClientTransactionID") long clientTransactionID,
+                                                     @QueryParam("Names") List<String> names) {
+        DeviceType type = DeviceType.fromType(deviceType);
+        if (type == DeviceType.Unknown) {
+            throw new BadRequestException("Device type not valid: " + deviceType);
+        }
+        return new ListResponse<>(clientTransactionID, propertyReader.read(type, deviceNumber, split(names), clientID, clientTransactionID));
+    }
+
+    @GET
+    @Path("properties")
+    public ListResponse<PropertyValue> getProperties(@QueryParam("ClientID") int clientID,
+                                                     @QueryParam("ClientTransactionID") long clientTransactionID,
+                                                     @QueryParam("Properties") List<String> properties) {
+        return new ListResponse<>(clientTransactionID, propertyReader.read(split(properties), clientID, clientTransactionID));
+    }
+
+    private static List<String> split(List<String> values) {
+        List<String> split = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                for (String item : value.split(",")) {
+                    if (!item.isBlank()) {
+                        split.add(item.trim());
+                    }
+                }
+            }
+        }
+        return split;
+    }
+}
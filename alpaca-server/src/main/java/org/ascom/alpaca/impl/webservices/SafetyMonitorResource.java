@@ -4,12 +4,14 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
+import org.ascom.alpaca.impl.DeviceCall;
 import org.ascom.alpaca.impl.DeviceManager;
 import org.ascom.alpaca.device.SafetyMonitorDevice;
 import org.ascom.alpaca.model.DeviceType;
 import org.ascom.alpaca.response.BooleanResponse;
 
 @ApplicationScoped
+@DeviceCall
 @Path("api/v1/")
 @Produces(MediaType.APPLICATION_JSON)
 public class SafetyMonitorResource {